@@ -27,10 +27,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.component.file.strategy.FileChangedAsyncExclusiveReadLockStrategy;
+import org.apache.camel.component.file.strategy.GenericFileProcessStrategySupport;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 
@@ -41,6 +44,9 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private FileWatchIndex watchIndex;
+    private ExecutorService watchExecutor;
+    private boolean watching;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations, GenericFileProcessStrategy<File> processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -56,6 +62,25 @@ public class FileConsumer extends GenericFileConsumer<File> {
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
         log.trace("pollDirectory from fileName: {}", fileName);
 
+        FileWatchIndex index = watchIndex;
+        if (depth == 0 && index != null) {
+            if (index.size() == 0 && !index.isRescanNeeded()) {
+                // wait for files to be created or changed, so they can be processed without waiting for the next poll
+                try {
+                    index.awaitCandidates(getEndpoint().getWatchTimeout());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return true;
+                }
+            }
+            if (index.isRescanNeeded()) {
+                log.debug("Doing a full scan of directory: {}", fileName);
+                index.beginRescan();
+            } else {
+                return pollWatchIndex(index, fileList);
+            }
+        }
+
         depth++;
 
         File directory = new File(fileName);
@@ -116,37 +141,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
                     log.trace("Adding valid file: {}", file);
                     // matched file so add
                     if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            try {
-                                String prefix = null;
-                                if (attribute.endsWith(":*")) {
-                                    prefix = attribute.substring(0, attribute.length() - 1);
-                                } else if (attribute.equals("*")) {
-                                    prefix = "basic:";
-                                }
-
-                                if (ObjectHelper.isNotEmpty(prefix)) {
-                                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
-                                    if (attributes != null) {
-                                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-                                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
-                                        }
-                                    }
-                                } else if (!attribute.contains(":")) {
-                                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
-                                } else {
-                                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
-                                }
-                            } catch (IOException e) {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Unable to read attribute {} on file {}", attribute, file, e);
-                                }
-                            }
-                        }
-
-                        gf.setExtendedAttributes(allAttributes);
+                        gf.setExtendedAttributes(readExtendedAttributes(file));
                     }
 
                     fileList.add(gf);
@@ -158,9 +153,134 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return true;
     }
 
+    /**
+     * Polls the files which have been created or changed since the last poll from the watch index,
+     * instead of listing all the files in the directory.
+     */
+    private boolean pollWatchIndex(FileWatchIndex index, List<GenericFile<File>> fileList) {
+        Path root = new File(endpointPath).toPath();
+        String candidate;
+        while ((candidate = index.pollCandidate()) != null) {
+            File file = new File(candidate);
+            if (!file.isFile()) {
+                // the file has been deleted or moved since the event
+                continue;
+            }
+            if (getEndpoint().getDoneFileName() != null && getEndpoint().isDoneFile(file.getName())) {
+                // a done file has been created, so scan the directory on the next poll to find the file it belongs to
+                index.markRescan();
+                continue;
+            }
+
+            // the depth of the file is the number of directories from the starting directory
+            int depth = root.relativize(file.toPath()).getNameCount();
+            if (depth < endpoint.minDepth || depth > Math.max(1, endpoint.getMaxDepth())) {
+                continue;
+            }
+            // the sub directories must be valid as well, such as skipping files moved into the .camel directory
+            if (!isValidParentDirectories(file, depth)) {
+                continue;
+            }
+
+            GenericFile<File> gf = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            if (isValidFile(gf, false, null)) {
+                log.trace("Adding valid file: {}", file);
+                if (extendedAttributes != null) {
+                    gf.setExtendedAttributes(readExtendedAttributes(file));
+                }
+                fileList.add(gf);
+            }
+
+            // check if we can continue polling in files
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isValidParentDirectories(File file, int depth) {
+        File dir = file.getParentFile();
+        for (int i = 1; i < depth && dir != null; i++) {
+            GenericFile<File> gf = asGenericFile(endpointPath, dir, getEndpoint().getCharset(), false);
+            if (!isValidFile(gf, true, null)) {
+                return false;
+            }
+            dir = dir.getParentFile();
+        }
+        return true;
+    }
+
+    private Map<String, Object> readExtendedAttributes(File file) {
+        Path path = file.toPath();
+        Map<String, Object> allAttributes = new HashMap<>();
+        for (String attribute : extendedAttributes) {
+            try {
+                String prefix = null;
+                if (attribute.endsWith(":*")) {
+                    prefix = attribute.substring(0, attribute.length() - 1);
+                } else if (attribute.equals("*")) {
+                    prefix = "basic:";
+                }
+
+                if (ObjectHelper.isNotEmpty(prefix)) {
+                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
+                    if (attributes != null) {
+                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
+                        }
+                    }
+                } else if (!attribute.contains(":")) {
+                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
+                } else {
+                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
+                }
+            } catch (IOException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Unable to read attribute {} on file {}", attribute, file, e);
+                }
+            }
+        }
+        return allAttributes;
+    }
+
+    @Override
+    protected boolean processExchange(Exchange exchange) {
+        GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        // must extract the absolute name before processing as the file could potentially be pre moved
+        String absoluteFileName = file.getAbsoluteFilePath();
+        boolean started = super.processExchange(exchange);
+        FileWatchIndex index = watchIndex;
+        if (!started && index != null) {
+            // such as the read lock could not be acquired, so try again on the next poll
+            index.retryCandidate(absoluteFileName);
+        }
+        return started;
+    }
+
+    @Override
+    protected void removeInProgressFile(String absoluteFilePath) {
+        super.removeInProgressFile(absoluteFilePath);
+        FileWatchIndex index = watchIndex;
+        if (index != null) {
+            // the file was taken from the watch index but not processed, so it must be a candidate for the next poll
+            index.addCandidate(absoluteFilePath);
+        }
+    }
+
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, List<File> files) {
         String onlyName = FileUtil.stripPath(doneFileName);
+        if (files == null) {
+            // polling from the watch index, so check the file system
+            File parent = new File(file.getAbsoluteFilePath()).getParentFile();
+            if (new File(parent, onlyName).exists()) {
+                return true;
+            }
+            log.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
         // the done file name must be among the files
         for (File f : files) {
             if (f.getName().equals(onlyName)) {
@@ -245,6 +365,54 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return (FileEndpoint) super.getEndpoint();
     }
 
+    @Override
+    protected void doInit() throws Exception {
+        if (getEndpoint().isWatchService()) {
+            if (getEndpoint().getWatchTimeout() < 0) {
+                throw new IllegalArgumentException("WatchTimeout must not be negative, was: " + getEndpoint().getWatchTimeout());
+            }
+            File directory = new File(endpointPath);
+            if (directory.isDirectory()) {
+                watching = true;
+            } else {
+                log.warn("Cannot use watch service as directory does not exists or its not a directory: {}. The directory is scanned on each poll instead.", directory);
+            }
+        }
+        super.doInit();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (watching) {
+            watchIndex = new FileWatchIndex(new File(endpointPath).toPath(), endpoint.isRecursive(), getEndpoint().getWatchServiceRescanInterval());
+            watchIndex.start();
+            if (processStrategy instanceof GenericFileProcessStrategySupport) {
+                GenericFileExclusiveReadLockStrategy<File> readLock = ((GenericFileProcessStrategySupport<File>) processStrategy).getExclusiveReadLockStrategy();
+                if (readLock instanceof FileChangedAsyncExclusiveReadLockStrategy) {
+                    // poll the files as soon as they are no longer changing, instead of waiting for the next poll
+                    ((FileChangedAsyncExclusiveReadLockStrategy) readLock).setStableListener(watchIndex::addCandidate);
+                }
+            }
+            watchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this, "FileWatch[" + endpointPath + "]");
+            watchExecutor.submit(watchIndex);
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (watchIndex != null) {
+            // stop watching first so any poll waiting for files is woken up
+            watchIndex.stop();
+        }
+        super.doStop();
+        watchIndex = null;
+        if (watchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(watchExecutor);
+            watchExecutor = null;
+        }
+    }
+
     private boolean fileHasMoved(GenericFile<File> file) {
         // GenericFile's absolute path is always up to date whereas the underlying file is not
         return !file.getFile().getAbsolutePath().equals(file.getAbsoluteFilePath());
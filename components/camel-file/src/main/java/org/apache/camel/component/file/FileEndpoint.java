@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.camel.Component;
@@ -67,6 +68,14 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean watchService;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchServiceRescanInterval = 60000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1000")
+    private long watchTimeout = 1000;
+    @UriParam(label = "consumer,lock")
+    private boolean readLockChangedAsync;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -239,6 +248,15 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         return FileUtil.isAbsolute(new File(name));
     }
 
+    @Override
+    protected Map<String, Object> getParamsAsMap() {
+        Map<String, Object> params = super.getParamsAsMap();
+        if (isReadLockChangedAsync()) {
+            params.put("readLockChangedAsync", Boolean.toString(true));
+        }
+        return params;
+    }
+
     public boolean isCopyAndDeleteOnRenameFail() {
         return copyAndDeleteOnRenameFail;
     }
@@ -338,6 +356,67 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isWatchService() {
+        return watchService;
+    }
+
+    /**
+     * Whether the consumer should use a {@link java.nio.file.WatchService} to keep an index of the files which
+     * have been created or changed in the directory (and sub directories if recursive), so each poll only has to
+     * process those files, instead of listing and filtering all the files in the directory.
+     * The consumer also picks up new files as soon as they are created, as it waits for files to be created
+     * (up till the watchTimeout option) while polling.
+     * <p/>
+     * The directory is fully scanned on the first poll, if the file system has lost events,
+     * and periodically as a safety net as configured by the watchServiceRescanInterval option.
+     */
+    public void setWatchService(boolean watchService) {
+        this.watchService = watchService;
+    }
+
+    public long getWatchServiceRescanInterval() {
+        return watchServiceRescanInterval;
+    }
+
+    /**
+     * Interval in millis to do a full scan of the directory when using the watchService option, such as to pick up
+     * files again which failed processing and are still in the directory. Use 0 to only do a full scan when
+     * the file system has lost events.
+     */
+    public void setWatchServiceRescanInterval(long watchServiceRescanInterval) {
+        this.watchServiceRescanInterval = watchServiceRescanInterval;
+    }
+
+    public long getWatchTimeout() {
+        return watchTimeout;
+    }
+
+    /**
+     * Timeout in millis the consumer waits for files to be created or changed while polling, when using the
+     * watchService option. The consumer polls again after the delay option, so use a low delay (such as 1) together
+     * with a higher watchTimeout to pick up new files as soon as they are created. Use 0 to not wait.
+     */
+    public void setWatchTimeout(long watchTimeout) {
+        this.watchTimeout = watchTimeout;
+    }
+
+    public boolean isReadLockChangedAsync() {
+        return readLockChangedAsync;
+    }
+
+    /**
+     * This option is applied only for readLock=changed. Whether to check if the files are changing asynchronously,
+     * instead of the consumer waiting (sleeping) until each file is no longer changing.
+     * <p/>
+     * When enabled then the read lock is not granted the first time a file is polled, but the file is checked
+     * in the background at every readLockCheckInterval, and the read lock is granted when the file is polled again
+     * after it has not changed. This allows the consumer to wait for many files being written at the same time.
+     * When using the watchService option then the file is polled again as soon as it is no longer changing.
+     */
+    public void setReadLockChangedAsync(boolean readLockChangedAsync) {
+        this.readLockChangedAsync = readLockChangedAsync;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -17,7 +17,6 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -26,9 +25,9 @@ import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -384,18 +383,35 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
-        // in case we are using file locks as read-locks then we need to use file channels for copying to support this
+        // in case we are using file locks as read-locks then we need to use the file channel of the lock for copying
         String path = source.getAbsolutePath();
         FileChannel channel = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
         if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
-                LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+            LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
+            try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+                transferFully(channel, out);
             }
         } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            // transfer from file channel to file channel so the operating system can copy the content
+            // without copying the bytes through the heap (zero copy), which also honors the append mode
+            LOG.trace("writeFileByFile using FileChannel.transferTo: {} -> {}", source, target);
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+                 SeekableByteChannel out = prepareOutputFileChannel(target)) {
+                transferFully(in, out);
+            }
+        }
+    }
+
+    private static void transferFully(FileChannel in, WritableByteChannel out) throws IOException {
+        long size = in.size();
+        long position = 0;
+        while (position < size) {
+            long count = in.transferTo(position, size - position, out);
+            if (count <= 0) {
+                // the source file has been truncated while copying
+                break;
+            }
+            position += count;
         }
     }
 
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An incremental index of the candidate files in a directory, which is maintained from the events of a
+ * {@link WatchService}, so the {@link FileConsumer} does not have to list (and validate) all the files in
+ * the directory on every poll, but only the files which have been created or changed since the last poll.
+ * <p/>
+ * The index tells the consumer to do a full scan of the directory the first time, if the watch service
+ * has lost events (overflow), and periodically as a safety net, such as to pick up files which failed
+ * processing and are still in the directory.
+ */
+public class FileWatchIndex implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileWatchIndex.class);
+
+    private final Path root;
+    private final boolean recursive;
+    private final long rescanInterval;
+    // sorted by the file path so the files are processed in the same order as the directory is listed when pre sorted
+    private final ConcurrentSkipListSet<String> candidates = new ConcurrentSkipListSet<>();
+    // files which could not be processed, and are tried again after waiting for the next poll
+    private final ConcurrentSkipListSet<String> retries = new ConcurrentSkipListSet<>();
+    private final Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private volatile WatchService watchService;
+    private volatile boolean running;
+    private volatile boolean rescan = true;
+    private volatile long lastRescan;
+
+    /**
+     * @param root            the starting directory
+     * @param recursive       whether to watch the sub directories as well
+     * @param rescanInterval  interval in millis to do a full scan of the directory, or <tt>0</tt> to only
+     *                        do a full scan when the watch service has lost events
+     */
+    public FileWatchIndex(Path root, boolean recursive, long rescanInterval) {
+        this.root = root;
+        this.recursive = recursive;
+        this.rescanInterval = rescanInterval;
+    }
+
+    /**
+     * Starts watching the directory (which must exist).
+     */
+    public void start() throws IOException {
+        watchService = root.getFileSystem().newWatchService();
+        register(root, false);
+        running = true;
+    }
+
+    /**
+     * Stops watching the directory.
+     */
+    public void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOG.debug("Error closing watch service for: {}. This exception is ignored.", root, e);
+            }
+            watchService = null;
+        }
+        keys.clear();
+        candidates.clear();
+        retries.clear();
+        rescan = true;
+        signal();
+    }
+
+    /**
+     * Whether the consumer should do a full scan of the directory, instead of only polling the
+     * candidates from this index.
+     */
+    public boolean isRescanNeeded() {
+        return rescan || rescanInterval > 0 && System.currentTimeMillis() - lastRescan >= rescanInterval;
+    }
+
+    /**
+     * Marks that the consumer should do a full scan of the directory on the next poll.
+     */
+    public void markRescan() {
+        rescan = true;
+        signal();
+    }
+
+    /**
+     * Invoked by the consumer before it does a full scan of the directory, which makes the current
+     * candidates obsolete. Any events happening during the scan are kept as candidates for the next poll.
+     */
+    public void beginRescan() {
+        rescan = false;
+        lastRescan = System.currentTimeMillis();
+        candidates.clear();
+        retries.clear();
+    }
+
+    /**
+     * Adds the file as a candidate, such as a file which is ready to be processed now.
+     */
+    public void addCandidate(String absoluteFilePath) {
+        candidates.add(absoluteFilePath);
+        signal();
+    }
+
+    /**
+     * Adds the file to be tried again, such as a file which could not be processed as the read lock was not granted.
+     * The file is a candidate again after the consumer has waited for the next poll, so the consumer does not keep
+     * polling the same file over and over.
+     */
+    public void retryCandidate(String absoluteFilePath) {
+        retries.add(absoluteFilePath);
+    }
+
+    /**
+     * Polls the next candidate file (in the order of the file paths)
+     *
+     * @return the absolute file path of the candidate, or <tt>null</tt> if there is no more candidates
+     */
+    public String pollCandidate() {
+        return candidates.pollFirst();
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    /**
+     * Waits until there are candidates or a full scan is needed. The files to be tried again are
+     * candidates after the wait.
+     *
+     * @param timeout the maximum time to wait in millis
+     * @return <tt>true</tt> if there are candidates or a full scan is needed, <tt>false</tt> if the timeout elapsed.
+     */
+    public boolean awaitCandidates(long timeout) throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            while (running && candidates.isEmpty() && !isRescanNeeded() && nanos > 0) {
+                nanos = changed.awaitNanos(nanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        String retry;
+        while ((retry = retries.pollFirst()) != null) {
+            candidates.add(retry);
+        }
+        return !candidates.isEmpty() || isRescanNeeded();
+    }
+
+    /**
+     * Processes the events from the watch service until stopped.
+     */
+    @Override
+    public void run() {
+        LOG.debug("Watching directory: {} for changes", root);
+        while (running) {
+            WatchKey key;
+            try {
+                WatchService service = watchService;
+                if (service == null) {
+                    break;
+                }
+                key = service.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ClosedWatchServiceException e) {
+                break;
+            }
+
+            Path dir = keys.get(key);
+            if (dir != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    onEvent(dir, event);
+                }
+            }
+            if (!key.reset()) {
+                // the directory is no longer accessible (such as deleted)
+                keys.remove(key);
+            }
+            signal();
+        }
+        LOG.debug("Stopped watching directory: {}", root);
+    }
+
+    private void onEvent(Path dir, WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            LOG.debug("Events lost when watching directory: {}. A full scan of the directory will be done.", root);
+            rescan = true;
+            return;
+        }
+
+        Path path = dir.resolve((Path) event.context());
+        if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+            candidates.remove(path.toString());
+        } else if (Files.isDirectory(path)) {
+            if (recursive) {
+                try {
+                    // the directory may already contain files before we watch it, so add those as candidates
+                    register(path, true);
+                } catch (IOException e) {
+                    LOG.debug("Cannot watch directory: {} due to: {}. A full scan of the directory will be done.", path, e.getMessage());
+                    rescan = true;
+                }
+            }
+        } else {
+            LOG.trace("File created or changed: {}", path);
+            candidates.add(path.toString());
+        }
+    }
+
+    private void register(Path dir, boolean addFiles) throws IOException {
+        if (!recursive) {
+            keys.put(dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
+            return;
+        }
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path subDir, BasicFileAttributes attrs) throws IOException {
+                keys.put(subDir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), subDir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (addFiles) {
+                    candidates.add(file.toString());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileWatchIndex[" + root + "]";
+    }
+}
@@ -22,6 +22,11 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContextAware;
@@ -54,6 +59,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected volatile boolean prepareOnStartup;
     private final Pattern includePattern;
     private final Pattern excludePattern;
+    private ExecutorService parallelExecutor;
+    private Semaphore parallelPermits;
+    private Lock operationsLock;
+    private long parallelDispatched;
 
     public GenericFileConsumer(GenericFileEndpoint<T> endpoint, Processor processor, GenericFileOperations<T> operations, GenericFileProcessStrategy<T> processStrategy) {
         super(endpoint, processor);
@@ -216,6 +225,9 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             if (customProcessor != null) {
                 // use a custom processor
                 started = customProcessExchange(exchange, customProcessor);
+            } else if (parallelExecutor != null) {
+                // process the exchange concurrently with the other files from this batch
+                started = processExchangeParallel(exchange);
             } else {
                 // process the exchange regular
                 started = processExchange(exchange);
@@ -230,9 +242,88 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         // drain any in progress files as we are done with this batch
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
 
+        if (parallelExecutor != null) {
+            awaitParallelProcessing();
+        }
+
         return answer;
     }
 
+    /**
+     * Processes the exchange concurrently with the other files from the batch, when using the parallelProcessing option.
+     * <p/>
+     * The consumer waits for a free slot before beginning on the file, so no more files than maxConcurrentFiles
+     * have their read lock acquired at the same time.
+     */
+    private boolean processExchangeParallel(Exchange exchange) {
+        try {
+            parallelPermits.acquire();
+        } catch (InterruptedException e) {
+            // we are likely being shutdown, so do not begin on the file
+            Thread.currentThread().interrupt();
+            GenericFile<T> file = getExchangeFileProperty(exchange);
+            removeInProgressFile(file.getAbsoluteFilePath());
+            return false;
+        }
+
+        long dispatched = parallelDispatched;
+        if (operationsLock != null) {
+            operationsLock.lock();
+        }
+        try {
+            return processExchange(exchange);
+        } finally {
+            if (operationsLock != null) {
+                operationsLock.unlock();
+            }
+            if (dispatched == parallelDispatched) {
+                // the file was not processed (such as the read lock was not acquired) so the slot is free again
+                parallelPermits.release();
+            }
+        }
+    }
+
+    private void processParallel(Exchange exchange) {
+        parallelDispatched++;
+        // the slot is free again when the file is done, which is after the on completion has committed or rolled back the file
+        Runnable task = () -> getAsyncProcessor().process(exchange, doneSync -> parallelPermits.release());
+        try {
+            parallelExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // such as the thread pool is being shutdown, so process the file with the current thread
+            task.run();
+        }
+    }
+
+    /**
+     * Waits for all the files from the batch to be done, so the next poll does not begin before this batch is complete.
+     */
+    private void awaitParallelProcessing() {
+        int max = endpoint.getMaxConcurrentFiles();
+        try {
+            parallelPermits.acquire(max);
+            parallelPermits.release(max);
+        } catch (InterruptedException e) {
+            log.debug("Interrupted while waiting for the files to be processed");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Whether the files from a poll are processed in parallel.
+     */
+    protected boolean isParallelProcessing() {
+        return parallelExecutor != null;
+    }
+
+    /**
+     * Whether the operations can be used by multiple threads at the same time. If not then the
+     * operations are only used by one thread at a time when the files are processed in parallel.
+     */
+    protected boolean isOperationsThreadSafe() {
+        return true;
+    }
+
     /**
      * Drain any in progress files as we are done with this batch
      *
@@ -246,7 +337,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             Exchange exchange = exchanges.removeLast();
             GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
             String key = file.getAbsoluteFilePath();
-            endpoint.getInProgressRepository().remove(key);
+            removeInProgressFile(key);
         }
     }
 
@@ -258,10 +349,20 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void removeExcessiveInProgressFiles(List<GenericFile<T>> files) {
         for (GenericFile file : files) {
             String key = file.getAbsoluteFilePath();
-            endpoint.getInProgressRepository().remove(key);
+            removeInProgressFile(key);
         }
     }
 
+    /**
+     * Removes the file from the in progress list as the file was polled but not processed, such as the batch was
+     * limited by max messages per poll or the consumer is being stopped.
+     *
+     * @param absoluteFilePath  the absolute file path of the file
+     */
+    protected void removeInProgressFile(String absoluteFilePath) {
+        endpoint.getInProgressRepository().remove(absoluteFilePath);
+    }
+
     /**
      * Whether or not we can continue polling for more files
      *
@@ -438,11 +539,17 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
             // register on completion callback that does the completion strategies
             // (for instance to move the file after we have processed it)
-            exchange.addOnCompletion(new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+            GenericFileOnCompletion<T> onCompletion = new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName);
+            onCompletion.setOperationsLock(operationsLock);
+            exchange.addOnCompletion(onCompletion);
 
             log.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
+            if (parallelExecutor != null) {
+                // process the exchange using a thread from the pool, which is done as the last step,
+                // as this consumer then continues with the next file
+                processParallel(exchange);
+            } else if (endpoint.isSynchronous()) {
                 // process synchronously
                 getProcessor().process(exchange);
             } else {
@@ -704,6 +811,14 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             ((CamelContextAware) processStrategy).setCamelContext(getEndpoint().getCamelContext());
         }
         ServiceHelper.startService(processStrategy);
+        if (endpoint.isParallelProcessing()) {
+            int max = endpoint.getMaxConcurrentFiles();
+            parallelPermits = new Semaphore(max);
+            if (!isOperationsThreadSafe()) {
+                operationsLock = new ReentrantLock();
+            }
+            parallelExecutor = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "FileConsumerParallel", max);
+        }
         super.doStart();
     }
 
@@ -711,6 +826,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+        if (parallelExecutor != null) {
+            // any poll still running will process its remaining files with the current thread
+            endpoint.getCamelContext().getExecutorServiceManager().shutdown(parallelExecutor);
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
@@ -195,6 +195,10 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
     protected GenericFileExclusiveReadLockStrategy<T> exclusiveReadLockStrategy;
     @UriParam(label = "consumer,advanced")
     protected ExceptionHandler onCompletionExceptionHandler;
+    @UriParam(label = "consumer,advanced")
+    protected boolean parallelProcessing;
+    @UriParam(label = "consumer,advanced", defaultValue = "10")
+    protected int maxConcurrentFiles = 10;
 
     private Pattern includePattern;
     private Pattern excludePattern;
@@ -1250,6 +1254,34 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
         this.onCompletionExceptionHandler = onCompletionExceptionHandler;
     }
 
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether the consumer should process the files from a poll concurrently, instead of one by one.
+     * Each file is still processed with its own read lock, and is moved, deleted or added to the idempotent
+     * repository when that file is done. The consumer waits for all the files from the poll to be done
+     * before polling again. The number of files processed at the same time is set by the maxConcurrentFiles option.
+     * <p/>
+     * Mind that the files may be done in another order than they were sorted, and for FTP and SFTP the option
+     * streamDownload cannot be used, as the files are downloaded by the consumer before they are processed.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getMaxConcurrentFiles() {
+        return maxConcurrentFiles;
+    }
+
+    /**
+     * The maximum number of files to process at the same time when using the parallelProcessing option.
+     */
+    public void setMaxConcurrentFiles(int maxConcurrentFiles) {
+        this.maxConcurrentFiles = maxConcurrentFiles;
+    }
+
     /**
      * Configures the given message with the file which sets the body to the
      * file object.
@@ -1485,6 +1517,9 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
         if ("fileLock".equals(readLock) && FileUtil.isWindows()) {
             throw new IllegalArgumentException("The readLock=fileLock option is not supported on Windows");
         }
+        if (parallelProcessing && maxConcurrentFiles <= 0) {
+            throw new IllegalArgumentException("The option maxConcurrentFiles must be higher than 0 when using parallelProcessing, was: " + maxConcurrentFiles);
+        }
 
         if (antInclude != null) {
             if (antFilter == null) {
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.file;
 
+import java.util.concurrent.locks.Lock;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.Synchronization;
@@ -39,6 +41,7 @@ public class GenericFileOnCompletion<T> implements Synchronization {
     private ExceptionHandler exceptionHandler;
     private GenericFile<T> file;
     private String absoluteFileName;
+    private Lock operationsLock;
 
     public GenericFileOnCompletion(GenericFileEndpoint<T> endpoint, GenericFileOperations<T> operations, GenericFileProcessStrategy processStrategy,
                                    GenericFile<T> file, String absoluteFileName) {
@@ -69,7 +72,32 @@ public class GenericFileOnCompletion<T> implements Synchronization {
         this.exceptionHandler = exceptionHandler;
     }
 
+    public Lock getOperationsLock() {
+        return operationsLock;
+    }
+
+    /**
+     * Sets a lock to hold while doing the commit or rollback, which is needed if the operations are not thread safe
+     * and the files are processed in parallel.
+     */
+    public void setOperationsLock(Lock operationsLock) {
+        this.operationsLock = operationsLock;
+    }
+
     protected void onCompletion(Exchange exchange) {
+        if (operationsLock != null) {
+            operationsLock.lock();
+            try {
+                doOnCompletion(exchange);
+            } finally {
+                operationsLock.unlock();
+            }
+        } else {
+            doOnCompletion(exchange);
+        }
+    }
+
+    private void doOnCompletion(Exchange exchange) {
         log.debug("Done processing file: {} using exchange: {}", file, exchange);
 
         // commit or rollback
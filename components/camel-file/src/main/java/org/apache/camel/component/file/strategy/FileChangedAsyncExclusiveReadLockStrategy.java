@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.strategy;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.component.file.GenericFileEndpoint;
+import org.apache.camel.component.file.GenericFileExclusiveReadLockStrategy;
+import org.apache.camel.component.file.GenericFileOperations;
+import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Acquires exclusive read lock to the given file by checking whether the file is being
+ * changed, like {@link FileChangedExclusiveReadLockStrategy}, but without blocking the consumer
+ * while waiting for the file to not change anymore.
+ * <p/>
+ * The first time a file is polled it is tracked, and the read lock is not granted. A background task
+ * checks the length and last modified timestamp of the tracked files at every check interval, and
+ * the read lock is granted the next time the file is polled after it has not changed between two checks.
+ * This allows a single consumer to wait for many files being written at the same time.
+ * <p/>
+ * A listener can be set with {@link #setStableListener(Consumer)} to be notified when a tracked file
+ * is no longer changing, such as to poll the file again right away.
+ */
+public class FileChangedAsyncExclusiveReadLockStrategy extends ServiceSupport implements GenericFileExclusiveReadLockStrategy<File>, CamelContextAware {
+
+    private final MarkerFileExclusiveReadLockStrategy marker = new MarkerFileExclusiveReadLockStrategy();
+    private final Map<String, FileState> files = new ConcurrentHashMap<>();
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+    private volatile Consumer<String> stableListener;
+    private long timeout;
+    private long checkInterval = 1000;
+    private long minLength = 1;
+    private long minAge;
+    private LoggingLevel readLockLoggingLevel = LoggingLevel.DEBUG;
+
+    @Override
+    public void prepareOnStartup(GenericFileOperations<File> operations, GenericFileEndpoint<File> endpoint) throws Exception {
+        marker.prepareOnStartup(operations, endpoint);
+    }
+
+    @Override
+    public boolean acquireExclusiveReadLock(GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) throws Exception {
+        String path = file.getAbsoluteFilePath();
+        File target = new File(path);
+        if (!target.exists()) {
+            files.remove(path);
+            CamelLogger.log(log, readLockLoggingLevel, "Cannot acquire read lock as file no longer exists. Will skip the file: " + file);
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        FileState state = files.get(path);
+        if (state == null) {
+            // first time the file is polled, so track the file and let the background task check whether it changes
+            state = new FileState(now);
+            state.check(target, now);
+            if (!state.stable) {
+                log.trace("Tracking file: {} for changes", file);
+                files.putIfAbsent(path, state);
+                return false;
+            }
+        } else if (!state.stable || !state.check(target, now)) {
+            log.trace("Exclusive read lock not granted as file: {} is still changing", file);
+            return false;
+        }
+
+        // the file is no longer changing so we do not need to track it anymore
+        files.remove(path);
+        log.trace("Read lock acquired.");
+        return marker.acquireExclusiveReadLock(operations, file, exchange);
+    }
+
+    @Override
+    public void releaseExclusiveReadLockOnAbort(GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) throws Exception {
+        marker.releaseExclusiveReadLockOnAbort(operations, file, exchange);
+    }
+
+    @Override
+    public void releaseExclusiveReadLockOnRollback(GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) throws Exception {
+        marker.releaseExclusiveReadLockOnRollback(operations, file, exchange);
+    }
+
+    @Override
+    public void releaseExclusiveReadLockOnCommit(GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange) throws Exception {
+        marker.releaseExclusiveReadLockOnCommit(operations, file, exchange);
+    }
+
+    /**
+     * Checks the tracked files, which is done by the background task at every check interval.
+     */
+    protected void checkFiles() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, FileState>> it = files.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, FileState> entry = it.next();
+            String path = entry.getKey();
+            FileState state = entry.getValue();
+
+            File target = new File(path);
+            if (!target.exists()) {
+                // the file has been deleted or moved, such as consumed by another consumer
+                it.remove();
+                continue;
+            }
+
+            boolean wasStable = state.stable;
+            if (state.check(target, now)) {
+                if (!wasStable) {
+                    log.trace("File: {} is no longer changing", path);
+                    Consumer<String> listener = stableListener;
+                    if (listener != null) {
+                        listener.accept(path);
+                    }
+                }
+            } else if (timeout > 0 && now - state.since > timeout) {
+                CamelLogger.log(log, readLockLoggingLevel,
+                        "Cannot acquire read lock within " + timeout + " millis as file is still changing: " + path);
+                // start over waiting for the file, which is the same as skipping the file and trying again on the next poll
+                state.since = now;
+            }
+        }
+    }
+
+    /**
+     * Number of files currently being tracked for changes.
+     */
+    public int getTrackedFiles() {
+        return files.size();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+
+        if (executorService == null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "FileChangedReadLock");
+            executorService.scheduleWithFixedDelay(this::checkFiles, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        files.clear();
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public Consumer<String> getStableListener() {
+        return stableListener;
+    }
+
+    /**
+     * Sets a listener which is notified with the absolute file path, when a tracked file is no longer changing.
+     * The listener is invoked by the background task and should return quickly.
+     */
+    public void setStableListener(Consumer<String> stableListener) {
+        this.stableListener = stableListener;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public void setCheckInterval(long checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    @Override
+    public void setReadLockLoggingLevel(LoggingLevel readLockLoggingLevel) {
+        this.readLockLoggingLevel = readLockLoggingLevel;
+    }
+
+    @Override
+    public void setMarkerFiler(boolean markerFile) {
+        marker.setMarkerFiler(markerFile);
+    }
+
+    @Override
+    public void setDeleteOrphanLockFiles(boolean deleteOrphanLockFiles) {
+        marker.setDeleteOrphanLockFiles(deleteOrphanLockFiles);
+    }
+
+    public long getMinLength() {
+        return minLength;
+    }
+
+    public void setMinLength(long minLength) {
+        this.minLength = minLength;
+    }
+
+    public long getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(long minAge) {
+        this.minAge = minAge;
+    }
+
+    /**
+     * The last seen length and last modified timestamp of a tracked file.
+     */
+    private final class FileState {
+        private long lastModified = Long.MIN_VALUE;
+        private long length = Long.MIN_VALUE;
+        private volatile long since;
+        private volatile boolean stable;
+
+        private FileState(long since) {
+            this.since = since;
+        }
+
+        /**
+         * Checks the file and updates the state.
+         *
+         * @return <tt>true</tt> if the file has not changed since the last check
+         */
+        private synchronized boolean check(File target, long now) {
+            long newLastModified = target.lastModified();
+            long newLength = target.length();
+
+            if (minAge != 0) {
+                stable = newLength >= minLength && newLastModified < now - minAge;
+            } else {
+                stable = newLength >= minLength && newLastModified == lastModified && newLength == length;
+            }
+            lastModified = newLastModified;
+            length = newLength;
+            return stable;
+        }
+    }
+}
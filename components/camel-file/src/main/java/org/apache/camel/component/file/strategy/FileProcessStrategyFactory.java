@@ -118,6 +118,17 @@ public final class FileProcessStrategyFactory {
                 strategy = new FileLockExclusiveReadLockStrategy();
             } else if ("rename".equals(readLock)) {
                 strategy = new FileRenameExclusiveReadLockStrategy();
+            } else if ("changed".equals(readLock) && params.get("readLockChangedAsync") != null) {
+                FileChangedAsyncExclusiveReadLockStrategy readLockStrategy = new FileChangedAsyncExclusiveReadLockStrategy();
+                Long minLength = (Long) params.get("readLockMinLength");
+                if (minLength != null) {
+                    readLockStrategy.setMinLength(minLength);
+                }
+                Long minAge = (Long) params.get("readLockMinAge");
+                if (null != minAge) {
+                    readLockStrategy.setMinAge(minAge);
+                }
+                strategy = readLockStrategy;
             } else if ("changed".equals(readLock)) {
                 FileChangedExclusiveReadLockStrategy readLockStrategy = new FileChangedExclusiveReadLockStrategy();
                 Long minLength = (Long) params.get("readLockMinLength");
@@ -50,6 +50,12 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return (RemoteFileOperations<T>) operations;
     }
 
+    @Override
+    protected boolean isOperationsThreadSafe() {
+        // the ftp client is not thread safe
+        return false;
+    }
+
     protected boolean prePollCheck() throws Exception {
         if (log.isTraceEnabled()) {
             log.trace("prePollCheck on {}", getEndpoint().getConfiguration().remoteServerInformation());
@@ -88,7 +94,8 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
 
         // if we did not poll any messages, but are configured to disconnect then we need to do this now
         // as there is no exchanges to be routed that otherwise will disconnect from the last UoW
-        if (polledMessages == 0) {
+        // (when processing in parallel then all the files from the poll are done at this point)
+        if (polledMessages == 0 || isParallelProcessing()) {
             if (getEndpoint().isDisconnect()) {
                 log.trace("postPollCheck disconnect from: {}", getEndpoint());
                 disconnect();
@@ -103,8 +110,9 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         exchange.setProperty(Exchange.UNIT_OF_WORK_PROCESS_SYNC, Boolean.TRUE);
 
         // defer disconnect til the UoW is complete - but only the last exchange from the batch should do that
+        // (when processing in parallel then the last exchange may not be done last, so we disconnect after the poll instead)
         boolean isLast = exchange.getProperty(Exchange.BATCH_COMPLETE, true, Boolean.class);
-        if (isLast && getEndpoint().isDisconnect()) {
+        if (isLast && getEndpoint().isDisconnect() && !isParallelProcessing()) {
             exchange.addOnCompletion(new SynchronizationAdapter() {
                 @Override
                 public void onDone(Exchange exchange) {
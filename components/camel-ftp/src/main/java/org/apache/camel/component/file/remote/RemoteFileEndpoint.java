@@ -122,6 +122,10 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
             throw new IllegalArgumentException("Endpoint is configured with useList=false, then fileName must be configured also");
         }
 
+        if (isParallelProcessing() && getConfiguration().isStreamDownload()) {
+            throw new IllegalArgumentException("You cannot both set parallelProcessing=true and streamDownload=true");
+        }
+
         // set max messages per poll
         consumer.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         consumer.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
@@ -20,7 +20,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 
-import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.CamelContext;
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.TimeoutMapHelper;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
 
@@ -29,13 +33,17 @@ import static org.apache.camel.TimeoutMap.Listener.Type.*;
  * has been timed out, and thus should trigger the waiting {@link org.apache.camel.Exchange} to
  * timeout as well. Zero (or negative) timeout means infinite but is actually encoded as {@link Integer#MAX_VALUE}
  * which is 24 days.
+ * <p/>
+ * The entries are kept in the timeout map created by {@link TimeoutMapHelper}, which can be configured using
+ * the <tt>CamelTimeoutMap</tt> global option.
  */
-class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler> {
 
+    private final TimeoutMap<String, ReplyHandler> map;
     private final BiConsumer<ReplyHandler, String> evictionTask;
 
-    CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
-        super(executor, requestMapPollTimeMillis);
+    CorrelationTimeoutMap(CamelContext camelContext, ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
+        this.map = TimeoutMapHelper.newTimeoutMap(camelContext, executor, requestMapPollTimeMillis);
         // Support synchronous or asynchronous handling of evictions
         evictionTask = executorService == null
                 ? ReplyHandler::onTimeout
@@ -58,14 +66,44 @@ class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
         }
     }
 
+    @Override
+    public ReplyHandler get(String key) {
+        return map.get(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
     @Override
     public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
-        return super.put(key, value, encode(timeoutMillis));
+        return map.put(key, value, encode(timeoutMillis));
     }
 
     @Override
     public ReplyHandler putIfAbsent(String key, ReplyHandler value, long timeoutMillis) {
-        return super.putIfAbsent(key, value, encode(timeoutMillis));
+        return map.putIfAbsent(key, value, encode(timeoutMillis));
+    }
+
+    @Override
+    public ReplyHandler remove(String key) {
+        return map.remove(key);
+    }
+
+    @Override
+    public void addListener(Listener<String, ReplyHandler> listener) {
+        map.addListener(listener);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(map);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(map);
     }
 
 }
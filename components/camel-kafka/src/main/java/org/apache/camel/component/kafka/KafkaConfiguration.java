@@ -70,6 +70,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private int consumerStreams = 10;
     @UriParam(label = "consumer", defaultValue = "1")
     private int consumersCount = 1;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int maxConcurrentPartitions = 1;
     @UriParam(label = "consumer", description = "To use a custom KafkaHeaderDeserializer to deserialize kafka headers values")
     private KafkaHeaderDeserializer kafkaHeaderDeserializer = new DefaultKafkaHeaderDeserializer();
 
@@ -632,6 +634,24 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.consumersCount = consumersCount;
     }
 
+    public int getMaxConcurrentPartitions() {
+        return maxConcurrentPartitions;
+    }
+
+    /**
+     * The maximum number of partitions whose records are processed at the same time. By default the records from a poll
+     * are processed one partition after the other by the thread of the consumer. When set to a value higher than 1, the
+     * records of each partition are processed by a pool of this many worker threads (shared by the consumers when using
+     * consumersCount), so the records of the same partition are still processed in order, but different partitions are
+     * processed in parallel. The consumer waits for the records of the poll to be processed before polling again, and
+     * commits the offsets per partition. This allows a single consumer to use more CPU for CPU-heavy routes without
+     * opening more connections to the kafka server as with the consumersCount option. This option cannot be used together
+     * with the allowManualCommit option.
+     */
+    public void setMaxConcurrentPartitions(int maxConcurrentPartitions) {
+        this.maxConcurrentPartitions = maxConcurrentPartitions;
+    }
+
     public String getClientId() {
         return clientId;
     }
@@ -27,12 +27,15 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.StateRepository;
@@ -54,6 +57,7 @@ import org.apache.kafka.common.header.Header;
 public class KafkaConsumer extends DefaultConsumer {
 
     protected ExecutorService executor;
+    protected ExecutorService partitionExecutor;
     private final KafkaEndpoint endpoint;
     private final Processor processor;
     private final Long pollTimeoutMs;
@@ -123,6 +127,15 @@ public class KafkaConsumer extends DefaultConsumer {
 
         executor = endpoint.createExecutor();
 
+        int maxConcurrentPartitions = endpoint.getConfiguration().getMaxConcurrentPartitions();
+        if (maxConcurrentPartitions > 1) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException("The option maxConcurrentPartitions cannot be used together with allowManualCommit");
+            }
+            // the worker pool is shared by all the consumers (consumersCount)
+            partitionExecutor = endpoint.createPartitionExecutor(maxConcurrentPartitions);
+        }
+
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
         if (endpoint.getConfiguration().isTopicIsPattern()) {
@@ -157,6 +170,12 @@ public class KafkaConsumer extends DefaultConsumer {
         tasks.clear();
         executor = null;
 
+        if (partitionExecutor != null) {
+            // the consumers have stopped polling so there are no more records being processed
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(partitionExecutor);
+            partitionExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository repo = endpoint.getConfiguration().getOffsetRepository();
             log.debug("Stopping OffsetRepository: {}", repo);
@@ -303,77 +322,16 @@ public class KafkaConsumer extends DefaultConsumer {
                     log.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
                     ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
 
-                    for (TopicPartition partition : allRecords.partitions()) {
-
-                        long partitionLastOffset = -1;
-
-                        Iterator<ConsumerRecord<Object, Object>> recordIterator = allRecords.records(partition).iterator();
-                        log.debug("Records count {} received for partition {}", allRecords.records(partition).size(), partition);
-                        if (!breakOnErrorHit && recordIterator.hasNext()) {
-                            ConsumerRecord<Object, Object> record;
-
-                            while (!breakOnErrorHit && recordIterator.hasNext()) {
-                                record = recordIterator.next();
-                                if (log.isTraceEnabled()) {
-                                    log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(), record.value());
-                                }
-                                Exchange exchange = endpoint.createKafkaExchange(record);
-
-                                propagateHeaders(record, exchange, endpoint.getConfiguration());
-
-                                // if not auto commit then we have additional
-                                // information on the exchange
-                                if (!isAutoCommitEnabled()) {
-                                    exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, !recordIterator.hasNext());
-                                }
-                                if (endpoint.getConfiguration().isAllowManualCommit()) {
-                                    // allow Camel users to access the Kafka
-                                    // consumer API to be able to do for example
-                                    // manual commits
-                                    KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory().newInstance(exchange, consumer, topicName, threadId,
-                                                                                                                                 offsetRepository, partition, record.offset());
-                                    exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
-                                }
-
-                                try {
-                                    processor.process(exchange);
-                                } catch (Exception e) {
-                                    exchange.setException(e);
-                                }
-
-                                if (exchange.getException() != null) {
-                                    // processing failed due to an unhandled
-                                    // exception, what should we do
-                                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
-                                        // we are failing and we should break
-                                        // out
-                                        log.warn("Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.", exchange,
-                                                 topicName, partitionLastOffset);
-                                        // force commit so we resume on next
-                                        // poll where we failed
-                                        commitOffset(offsetRepository, partition, partitionLastOffset, true);
-                                        // continue to next partition
-                                        breakOnErrorHit = true;
-                                    } else {
-                                        // will handle/log the exception and
-                                        // then continue to next
-                                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
-                                    }
-                                } else {
-                                    // record was success so remember its offset
-                                    partitionLastOffset = record.offset();
-                                    // lastOffsetProcessed would be used by
-                                    // Consumer re-balance listener to preserve
-                                    // offset state upon partition revoke
-                                    lastProcessedOffset.put(serializeOffsetKey(partition), partitionLastOffset);
-                                }
-                            }
-
-                            if (!breakOnErrorHit) {
-                                // all records processed from partition so
-                                // commit them
-                                commitOffset(offsetRepository, partition, partitionLastOffset, false);
+                    if (partitionExecutor != null && allRecords.partitions().size() > 1) {
+                        // process the partitions in parallel and wait for all of them before polling again
+                        breakOnErrorHit = processPartitionsConcurrently(allRecords, offsetRepository);
+                    } else {
+                        for (TopicPartition partition : allRecords.partitions()) {
+                            if (breakOnErrorHit) {
+                                break;
                             }
+                            PartitionProgress progress = processPartition(allRecords, partition, offsetRepository);
+                            breakOnErrorHit = completePartition(progress, offsetRepository);
                         }
                     }
 
@@ -423,6 +381,119 @@ public class KafkaConsumer extends DefaultConsumer {
             return reConnect;
         }
 
+        /**
+         * Processes the records of the partition in order, until the first error if breakOnFirstError is enabled.
+         * This does not use the kafka consumer, which is not thread safe, so it can be called from another thread
+         * than the consumer thread.
+         */
+        private PartitionProgress processPartition(ConsumerRecords<Object, Object> allRecords, TopicPartition partition,
+                                                   StateRepository<String, String> offsetRepository) {
+            PartitionProgress progress = new PartitionProgress(partition);
+
+            Iterator<ConsumerRecord<Object, Object>> recordIterator = allRecords.records(partition).iterator();
+            log.debug("Records count {} received for partition {}", allRecords.records(partition).size(), partition);
+            while (!progress.breakOnErrorHit && recordIterator.hasNext()) {
+                ConsumerRecord<Object, Object> record = recordIterator.next();
+                if (log.isTraceEnabled()) {
+                    log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(), record.value());
+                }
+                Exchange exchange = endpoint.createKafkaExchange(record);
+
+                propagateHeaders(record, exchange, endpoint.getConfiguration());
+
+                // if not auto commit then we have additional
+                // information on the exchange
+                if (!isAutoCommitEnabled()) {
+                    exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, !recordIterator.hasNext());
+                }
+                if (endpoint.getConfiguration().isAllowManualCommit()) {
+                    // allow Camel users to access the Kafka
+                    // consumer API to be able to do for example
+                    // manual commits
+                    KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory().newInstance(exchange, consumer, topicName, threadId,
+                                                                                                                 offsetRepository, partition, record.offset());
+                    exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+                }
+
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null) {
+                    // processing failed due to an unhandled
+                    // exception, what should we do
+                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                        // we are failing and we should break
+                        // out
+                        log.warn("Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.", exchange,
+                                 topicName, progress.lastOffset);
+                        progress.breakOnErrorHit = true;
+                    } else {
+                        // will handle/log the exception and
+                        // then continue to next
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                } else {
+                    // record was success so remember its offset
+                    progress.lastOffset = record.offset();
+                    // lastOffsetProcessed would be used by
+                    // Consumer re-balance listener to preserve
+                    // offset state upon partition revoke
+                    lastProcessedOffset.put(serializeOffsetKey(partition), progress.lastOffset);
+                }
+            }
+            return progress;
+        }
+
+        /**
+         * Commits the offset of the records processed from the partition, which must be called from the consumer thread.
+         *
+         * @return <tt>true</tt> if processing failed and the consumer should re-connect
+         */
+        private boolean completePartition(PartitionProgress progress, StateRepository<String, String> offsetRepository) {
+            if (progress.breakOnErrorHit) {
+                // force commit so we resume on next
+                // poll where we failed
+                commitOffset(offsetRepository, progress.partition, progress.lastOffset, true);
+                return true;
+            }
+            // all records processed from partition so
+            // commit them
+            commitOffset(offsetRepository, progress.partition, progress.lastOffset, false);
+            return false;
+        }
+
+        /**
+         * Processes the records of each partition as a task of the partition worker pool, so the records of
+         * a partition are processed in order, but the partitions are processed in parallel. The offsets
+         * are committed from this thread when all the partitions have been processed.
+         *
+         * @return <tt>true</tt> if processing failed and the consumer should re-connect
+         */
+        private boolean processPartitionsConcurrently(ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            List<Future<PartitionProgress>> futures = new ArrayList<>();
+            for (TopicPartition partition : allRecords.partitions()) {
+                futures.add(partitionExecutor.submit(() -> processPartition(allRecords, partition, offsetRepository)));
+            }
+
+            boolean answer = false;
+            for (Future<PartitionProgress> future : futures) {
+                PartitionProgress progress;
+                try {
+                    progress = future.get();
+                } catch (InterruptedException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    throw new InterruptException(e);
+                } catch (ExecutionException e) {
+                    throw new RuntimeCamelException(e.getCause());
+                }
+                answer |= completePartition(progress, offsetRepository);
+            }
+            return answer;
+        }
+
         private void commitOffset(StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset, boolean forceCommit) {
             if (partitionLastOffset != -1) {
                 if (!endpoint.getConfiguration().isAllowManualCommit() && offsetRepository != null) {
@@ -478,6 +549,20 @@ public class KafkaConsumer extends DefaultConsumer {
         }
     }
 
+    /**
+     * The progress of processing the records of a partition from a poll.
+     */
+    private static final class PartitionProgress {
+        private final TopicPartition partition;
+        // the offset of the last record processed successfully, so all the records up to this offset are completed
+        private long lastOffset = -1;
+        private boolean breakOnErrorHit;
+
+        private PartitionProgress(TopicPartition partition) {
+            this.partition = partition;
+        }
+    }
+
     private void propagateHeaders(ConsumerRecord<Object, Object> record, Exchange exchange, KafkaConfiguration kafkaConfiguration) {
         HeaderFilterStrategy headerFilterStrategy = kafkaConfiguration.getHeaderFilterStrategy();
         KafkaHeaderDeserializer headerDeserializer = kafkaConfiguration.getKafkaHeaderDeserializer();
@@ -150,6 +150,10 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
         return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumerStreams());
     }
 
+    public ExecutorService createPartitionExecutor(int poolSize) {
+        return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, "KafkaConsumerPartition[" + configuration.getTopic() + "]", poolSize);
+    }
+
     public ExecutorService createProducerExecutor() {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.impl.engine.MemoryStateRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.After;
+import org.junit.Test;
+
+public class KafkaConsumerConcurrentPartitionsTest extends BaseEmbeddedKafkaTest {
+    private static final String TOPIC = "concurrent-partitions";
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    private final MemoryStateRepository stateRepository = new MemoryStateRepository();
+    private final Map<Integer, List<String>> received = new ConcurrentHashMap<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+
+        kafkaBroker.createTopic(TOPIC, 2);
+    }
+
+    @After
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    @Test
+    public void kafkaPartitionsAreProcessedConcurrentlyInOrder() throws Exception {
+        result.expectedMessageCount(20);
+
+        for (int i = 0; i < 10; i++) {
+            producer.send(new ProducerRecord<>(TOPIC, 0, "key", "p0-" + i));
+            producer.send(new ProducerRecord<>(TOPIC, 1, "key", "p1-" + i));
+        }
+
+        result.assertIsSatisfied(30000);
+
+        // the records of a partition are processed in the order of the partition
+        for (int partition = 0; partition < 2; partition++) {
+            List<String> bodies = received.get(partition);
+            assertEquals(10, bodies.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("p" + partition + "-" + i, bodies.get(i));
+            }
+        }
+
+        // and the offsets are saved per partition, when all the records of the poll have been processed
+        for (int i = 0; i < 100 && !"9".equals(stateRepository.getState(TOPIC + "/1")); i++) {
+            Thread.sleep(100);
+        }
+        assertEquals("9", stateRepository.getState(TOPIC + "/0"));
+        assertEquals("9", stateRepository.getState(TOPIC + "/1"));
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("offset", stateRepository);
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("kafka:" + TOPIC
+                             + "?groupId=" + TOPIC + "_GROUP"
+                             + "&autoOffsetReset=earliest"
+                             + "&consumersCount=1"
+                             + "&maxConcurrentPartitions=2"
+                             + "&offsetRepository=#offset")
+                        .routeId("concurrent-partitions-route")
+                        .process(exchange -> {
+                            int partition = exchange.getIn().getHeader(KafkaConstants.PARTITION, Integer.class);
+                            received.computeIfAbsent(partition, k -> new CopyOnWriteArrayList<>()).add(exchange.getIn().getBody(String.class));
+                            Thread.sleep(20);
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -16,11 +16,15 @@
  */
 package org.apache.camel.component.netty4;
 
+import java.io.File;
 import java.net.InetSocketAddress;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.AddressedEnvelope;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
 import org.apache.camel.Exchange;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.support.DefaultExchangeHolder;
 
 /**
@@ -42,8 +46,22 @@ public final class NettyPayloadHelper {
             return DefaultExchangeHolder.marshal(exchange, true, endpoint.getConfiguration().isAllowSerializedHeaders());
         } else {
             if (endpoint.getConfiguration().isUseByteBuf()) {
+                // a file can be sent as a file region, which is transferred directly from the file system
+                // to the socket without reading the file into memory (zero copy)
+                FileRegion region = toFileRegion(endpoint, exchange.getIn().getBody());
+                if (region != null) {
+                    return region;
+                }
                 // Just leverage the type converter 
-                return exchange.getIn().getBody(ByteBuf.class);
+                ByteBuf buf = exchange.getIn().getBody(ByteBuf.class);
+                if (buf == null && isFile(exchange.getIn().getBody())) {
+                    // a file which cannot be sent as a file region (UDP, SSL or encoders) is read into memory instead
+                    byte[] bytes = exchange.getIn().getBody(byte[].class);
+                    if (bytes != null) {
+                        buf = NettyConverter.toByteBuffer(bytes);
+                    }
+                }
+                return buf;
             } else {
                 // normal transfer using the body only
                 return exchange.getIn().getBody();
@@ -51,6 +69,38 @@ public final class NettyPayloadHelper {
         }
     }
 
+    /**
+     * Creates a {@link FileRegion} of the entire file, if the body is a file and the file can be transferred
+     * as-is to the socket, which is not possible using UDP or SSL.
+     * <p/>
+     * The encoders do not handle a file region but pass it on as-is, and therefore the file region is not used
+     * when any encoders are configured, which includes the default codecs, or a custom client initializer factory
+     * is used, as otherwise the file would be sent without any framing of the encoders.
+     *
+     * @return the file region, or <tt>null</tt> if the body cannot be transferred as a file region
+     */
+    static FileRegion toFileRegion(NettyEndpoint endpoint, Object body) {
+        NettyConfiguration configuration = endpoint.getConfiguration();
+        if (!configuration.isTcp() || configuration.isSsl()
+            || !configuration.getEncoders().isEmpty() || configuration.getClientInitializerFactory() != null) {
+            return null;
+        }
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        if (body instanceof File) {
+            File file = (File) body;
+            if (file.isFile()) {
+                return new DefaultFileRegion(file, 0, file.length());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFile(Object body) {
+        return body instanceof File || body instanceof WrappedFile;
+    }
+
     public static Object getOut(NettyEndpoint endpoint, Exchange exchange) {
         if (endpoint.getConfiguration().isTransferExchange()) {
             // we should transfer the entire exchange over the wire (includes in/out)
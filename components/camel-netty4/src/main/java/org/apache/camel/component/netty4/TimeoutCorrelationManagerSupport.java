@@ -30,7 +30,7 @@ import org.apache.camel.LoggingLevel;
 import org.apache.camel.TimeoutMap;
 import org.apache.camel.TimeoutMap.Listener.Type;
 import org.apache.camel.spi.CamelLogger;
-import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.support.TimeoutMapHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
@@ -181,7 +181,8 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport im
             workerPool = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "NettyTimeoutWorkerPool");
         }
 
-        map = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        // the timeout map implementation can be configured using the CamelTimeoutMap global option
+        map = TimeoutMapHelper.newTimeoutMap(camelContext, scheduledExecutorService, timeoutChecker);
         map.addListener(this::onEviction);
 
         ServiceHelper.startService(map);
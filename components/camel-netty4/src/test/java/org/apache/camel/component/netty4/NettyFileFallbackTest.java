@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.codec.string.StringDecoder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.junit.Test;
+
+/**
+ * A file cannot be sent as a file region using UDP, SSL or encoders, so the file is read into a ByteBuf instead.
+ */
+public class NettyFileFallbackTest extends BaseNettyTest {
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        deleteDirectory("target/data/netty-fallback");
+        Files.createDirectories(Paths.get("target/data/netty-fallback"));
+        Files.write(Paths.get("target/data/netty-fallback/hello.txt"), "Hello World\n".getBytes());
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("ksf", new File("src/test/resources/keystore.jks"));
+        registry.bind("tsf", new File("src/test/resources/keystore.jks"));
+        registry.bind("length-decoder", ChannelHandlerFactories.newLengthFieldBasedFrameDecoder(1048576, 0, 4, 0, 4));
+        registry.bind("string-decoder", new StringDecoder());
+        registry.bind("length-encoder", new LengthFieldPrepender(4));
+        return registry;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testSendFileUsingUdp() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("netty4:udp://localhost:{{port}}?sync=false&udpByteArrayCodec=true")
+                    .to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World\n");
+
+        template.sendBody("netty4:udp://localhost:{{port}}?sync=false&useByteBuf=true&allowDefaultCodec=false",
+                new File("target/data/netty-fallback/hello.txt"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSendFileUsingSsl() throws Exception {
+        // ibm jdks dont have sun security algorithms
+        if (isJavaVendor("ibm")) {
+            return;
+        }
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("netty4:tcp://localhost:{{port}}?sync=false&textline=true&ssl=true&passphrase=changeit&keyStoreResource=#ksf&trustStoreResource=#tsf")
+                    .to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("netty4:tcp://localhost:{{port}}?sync=false&textline=true&useByteBuf=true&ssl=true&passphrase=changeit&keyStoreResource=#ksf&trustStoreResource=#tsf",
+                new File("target/data/netty-fallback/hello.txt"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSendFileUsingEncoders() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("netty4:tcp://localhost:{{port}}?sync=false&decoders=#length-decoder,#string-decoder")
+                    .to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World\n");
+
+        // the file must be framed by the length encoder
+        template.sendBody("netty4:tcp://localhost:{{port}}?sync=false&useByteBuf=true&encoders=#length-encoder",
+                new File("target/data/netty-fallback/hello.txt"));
+
+        assertMockEndpointsSatisfied();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.channel.FileRegion;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class NettyFileRegionTest extends BaseNettyTest {
+
+    private final List<String> lines = new ArrayList<>();
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        deleteDirectory("target/data/netty-file");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            String line = "Line " + i + " of a file which is sent as a file region";
+            lines.add(line);
+            sb.append(line).append("\n");
+        }
+        Files.createDirectories(Paths.get("target/data/netty-file"));
+        Files.write(Paths.get("target/data/netty-file/lines.txt"), sb.toString().getBytes());
+    }
+
+    @Test
+    public void testSendFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(lines.toArray());
+
+        template.sendBody("netty4:tcp://localhost:{{port}}?sync=false&allowDefaultCodec=false&useByteBuf=true",
+                new File("target/data/netty-file/lines.txt"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSendGenericFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(lines.toArray());
+
+        context.getRouteController().startRoute("file");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testFileRegionOnlyForTcpWithoutSslAndEncoders() throws Exception {
+        File file = new File("target/data/netty-file/lines.txt");
+
+        NettyEndpoint tcp = context.getEndpoint("netty4:tcp://localhost:{{port}}?sync=false&allowDefaultCodec=false&useByteBuf=true", NettyEndpoint.class);
+        FileRegion region = NettyPayloadHelper.toFileRegion(tcp, file);
+        assertNotNull(region);
+        assertEquals(file.length(), region.count());
+        region.release();
+
+        NettyEndpoint udp = context.getEndpoint("netty4:udp://localhost:{{port}}?sync=false&useByteBuf=true", NettyEndpoint.class);
+        assertNull(NettyPayloadHelper.toFileRegion(udp, file));
+
+        NettyEndpoint ssl = context.getEndpoint("netty4:tcp://localhost:{{port}}?sync=false&allowDefaultCodec=false&useByteBuf=true&ssl=true", NettyEndpoint.class);
+        assertNull(NettyPayloadHelper.toFileRegion(ssl, file));
+
+        // the encoders would not frame a file region
+        NettyEndpoint codec = context.getEndpoint("netty4:tcp://localhost:{{port}}?sync=false&useByteBuf=true", NettyEndpoint.class);
+        assertNull(NettyPayloadHelper.toFileRegion(codec, file));
+
+        NettyEndpoint textline = context.getEndpoint("netty4:tcp://localhost:{{port}}?sync=false&textline=true&useByteBuf=true", NettyEndpoint.class);
+        assertNull(NettyPayloadHelper.toFileRegion(textline, file));
+
+        // not a file
+        assertNull(NettyPayloadHelper.toFileRegion(tcp, "Hello World"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("netty4:tcp://localhost:{{port}}?sync=false&textline=true")
+                    .to("mock:result");
+
+                from("file:target/data/netty-file?noop=true&initialDelay=0&delay=10").routeId("file").noAutoStartup()
+                    .to("netty4:tcp://localhost:{{port}}?sync=false&allowDefaultCodec=false&useByteBuf=true");
+            }
+        };
+    }
+}
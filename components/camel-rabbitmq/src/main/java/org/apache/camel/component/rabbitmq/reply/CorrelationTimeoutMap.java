@@ -18,7 +18,11 @@ package org.apache.camel.component.rabbitmq.reply;
 
 import java.util.concurrent.ScheduledExecutorService;
 
-import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.CamelContext;
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.TimeoutMapHelper;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
 
@@ -26,11 +30,16 @@ import static org.apache.camel.TimeoutMap.Listener.Type.*;
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which
  * has been timed out, and thus should trigger the waiting {@link org.apache.camel.Exchange} to
  * timeout as well.
+ * <p/>
+ * The entries are kept in the timeout map created by {@link TimeoutMapHelper}, which can be configured using
+ * the <tt>CamelTimeoutMap</tt> global option.
  */
-class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler> {
 
-    CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-        super(executor, requestMapPollTimeMillis);
+    private final TimeoutMap<String, ReplyHandler> map;
+
+    CorrelationTimeoutMap(CamelContext camelContext, ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        this.map = TimeoutMapHelper.newTimeoutMap(camelContext, executor, requestMapPollTimeMillis);
         addListener(this::listener);
     }
 
@@ -54,14 +63,44 @@ class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
         }
     }
 
+    @Override
+    public ReplyHandler get(String key) {
+        return map.get(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
     @Override
     public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
-        return super.put(key, value, encode(timeoutMillis));
+        return map.put(key, value, encode(timeoutMillis));
     }
 
     @Override
     public ReplyHandler putIfAbsent(String key, ReplyHandler value, long timeoutMillis) {
-        return super.putIfAbsent(key, value, encode(timeoutMillis));
+        return map.putIfAbsent(key, value, encode(timeoutMillis));
+    }
+
+    @Override
+    public ReplyHandler remove(String key) {
+        return map.remove(key);
+    }
+
+    @Override
+    public void addListener(Listener<String, ReplyHandler> listener) {
+        map.addListener(listener);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(map);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(map);
     }
 
 }
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A bounded multi producer multi consumer {@link BlockingQueue} backed by a lock free ring buffer.
+ * <p/>
+ * Each slot in the ring has a sequence number which tells producers and consumers whether the slot is free
+ * or holds an element, so offering and polling is a single compare and set of the tail or head index.
+ * The lock is only used for parking threads which wait for the queue to become non empty or non full,
+ * and producers and consumers only signal each other when the other side is actually parked.
+ * <p/>
+ * The capacity is rounded up to the next power of two. The iterator is a weakly consistent snapshot of the
+ * elements, and elements cannot be removed from the middle of the queue, so {@link #remove(Object)}
+ * always returns <tt>false</tt>. Therefore an exchange which times out while waiting on the queue is marked
+ * by the {@link SedaProducer} and skipped by the {@link SedaConsumer}, instead of being removed.
+ *
+ * @param <E> the element type
+ */
+public class MpmcArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int SPINS = 64;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    public MpmcArrayBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        int size = capacity > (1 << 30) ? 1 << 30 : Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        ObjectHelper.notNull(e, "element");
+        long pos = tail.get();
+        for (;;) {
+            int index = (int) (pos & mask);
+            long dif = sequences.get(index) - pos;
+            if (dif == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    sequences.set(index, pos + 1);
+                    if (waitingConsumers.get() > 0) {
+                        signal(notEmpty);
+                    }
+                    return true;
+                }
+                pos = tail.get();
+            } else if (dif < 0) {
+                // full
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long pos = head.get();
+        for (;;) {
+            int index = (int) (pos & mask);
+            long dif = sequences.get(index) - (pos + 1);
+            if (dif == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E e = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    sequences.set(index, pos + capacity);
+                    if (waitingProducers.get() > 0) {
+                        signal(notFull);
+                    }
+                    return e;
+                }
+                pos = head.get();
+            } else if (dif < 0) {
+                // empty
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        for (;;) {
+            long pos = head.get();
+            int index = (int) (pos & mask);
+            if (sequences.get(index) - (pos + 1) < 0) {
+                return null;
+            }
+            E e = buffer.get(index);
+            if (e != null && head.get() == pos) {
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        offer(e, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        for (int i = 0; i < SPINS; i++) {
+            if (offer(e)) {
+                return true;
+            }
+            Thread.yield();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        waitingProducers.incrementAndGet();
+        try {
+            while (!offer(e)) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            waitingProducers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e;
+        for (int i = 0; i < SPINS; i++) {
+            if ((e = poll()) != null) {
+                return e;
+            }
+            Thread.yield();
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+        try {
+            while ((e = poll()) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return e;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        ObjectHelper.notNull(c, "collection");
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain to itself");
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public int size() {
+        for (;;) {
+            long before = head.get();
+            long size = tail.get() - before;
+            if (head.get() == before) {
+                return (int) Math.max(0, Math.min(size, capacity));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Elements cannot be removed from the middle of the ring buffer, so this always returns <tt>false</tt>.
+     */
+    @Override
+    public boolean remove(Object o) {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // noop
+        }
+    }
+
+    /**
+     * Returns a weakly consistent snapshot of the elements in the queue, which does not support removal.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>(size());
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            int index = (int) (pos & mask);
+            if (sequences.get(index) == pos + 1) {
+                E e = buffer.get(index);
+                if (e != null) {
+                    answer.add(e);
+                }
+            }
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -33,6 +33,7 @@ public final class QueueReference {
     private final BlockingQueue<Exchange> queue;
     private Integer size;
     private Boolean multipleConsumers;
+    private final QueueStatistics statistics = new QueueStatistics();
 
     private List<SedaEndpoint> endpoints = new LinkedList<>();
 
@@ -85,6 +86,13 @@ public final class QueueReference {
         return queue;
     }
 
+    /**
+     * Gets the statistics of the queue
+     */
+    public QueueStatistics getStatistics() {
+        return statistics;
+    }
+
     public synchronized boolean hasConsumers() {
         for (SedaEndpoint endpoint : endpoints) {
             if (endpoint.getConsumers().size() > 0) {
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a SEDA queue, which are gathered when the <tt>statisticsEnabled</tt> option is enabled.
+ * <p/>
+ * Keeps a histogram of the time the exchanges have waited on the queue, and a histogram of the number of
+ * exchanges on the queue, as seen by the consumers when they take exchanges from the queue.
+ */
+public final class QueueStatistics {
+
+    /**
+     * Exchange property with the time in nanos the exchange was added to the queue
+     */
+    static final String ENQUEUED_TIME = "CamelSedaEnqueuedTime";
+
+    private final Histogram latency = new Histogram();
+    private final Histogram occupancy = new Histogram();
+
+    /**
+     * Records the time in nanos an exchange has waited on the queue
+     */
+    public void recordLatency(long nanos) {
+        latency.record(nanos);
+    }
+
+    /**
+     * Records the number of exchanges on the queue
+     */
+    public void recordOccupancy(int size) {
+        occupancy.record(size);
+    }
+
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public Histogram getOccupancy() {
+        return occupancy;
+    }
+
+    public void reset() {
+        latency.reset();
+        occupancy.reset();
+    }
+
+    /**
+     * A lock free histogram with power of two buckets, which has a relative error of at most a factor 2.
+     */
+    public static final class Histogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(64);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        public void record(long value) {
+            long v = Math.max(0, value);
+            buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(v) - (v == 0 ? 0 : 1));
+            count.increment();
+            sum.add(v);
+            max.accumulate(v);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getMean() {
+            long n = count.sum();
+            return n > 0 ? sum.sum() / n : 0;
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        /**
+         * Gets the upper bound of the bucket that holds the given percentile of the recorded values
+         *
+         * @param percentile the percentile such as 99.0
+         */
+        public long getPercentile(double percentile) {
+            long n = count.sum();
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(n * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < 64; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    long upper = i >= 63 ? Long.MAX_VALUE : (2L << i) - 1;
+                    return Math.min(upper, getMax());
+                }
+            }
+            return getMax();
+        }
+
+        public void reset() {
+            for (int i = 0; i < 64; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            sum.reset();
+            max.reset();
+        }
+    }
+}
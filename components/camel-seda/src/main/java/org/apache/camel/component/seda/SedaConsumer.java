@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -31,8 +32,10 @@ import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
@@ -50,6 +53,8 @@ import org.apache.camel.util.ObjectHelper;
 public class SedaConsumer extends ServiceSupport implements Consumer, Runnable, ShutdownAware, Suspendable {
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    // the number of exchanges drained from the queue which are not yet processed
+    private final AtomicInteger pendingBatchSize = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
@@ -58,11 +63,13 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
     private ExecutorService executor;
     private ExceptionHandler exceptionHandler;
     private final int pollTimeout;
+    private final int maxMessagesPerPoll;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         this.endpoint = endpoint;
         this.processor = AsyncProcessorConverterHelper.convert(processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.maxMessagesPerPoll = endpoint.getMaxMessagesPerPoll();
         this.exceptionHandler = new LoggingExceptionHandler(endpoint.getCamelContext(), getClass());
     }
 
@@ -95,11 +102,11 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
 
     public int getPendingExchangesSize() {
         // the route is shutting down, so either we should purge the queue,
-        // or return how many exchanges are still on the queue
+        // or return how many exchanges are still on the queue, and drained from the queue but not yet processed
         if (endpoint.isPurgeWhenStopping()) {
             endpoint.purgeQueue();
         }
-        return endpoint.getQueue().size();
+        return endpoint.getQueue().size() + pendingBatchSize.get();
     }
 
     @Override
@@ -155,6 +162,8 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = endpoint.getQueue();
+        QueueStatistics statistics = endpoint.isStatisticsEnabled() ? endpoint.getQueueStatistics() : null;
+        List<Exchange> batch = maxMessagesPerPoll > 1 ? new ArrayList<>(maxMessagesPerPoll) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -196,24 +205,31 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
                     log.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout, exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // send a new copied exchange with new camel context
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy the message back
-                        if (newExchange.hasOut()) {
-                            exchange.setOut(newExchange.getOut().copy());
-                        } else {
-                            exchange.setIn(newExchange.getIn());
-                        }
-                        // log exception if an exception occurred and was not handled
-                        if (newExchange.getException() != null) {
-                            exchange.setException(newExchange.getException());
-                            getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                    if (statistics != null) {
+                        statistics.recordOccupancy(queue.size() + 1);
+                    }
+                    if (batch != null) {
+                        // drain the messages which are already on the queue, so we poll the queue once per batch
+                        batch.add(exchange);
+                        queue.drainTo(batch, maxMessagesPerPoll - 1);
+                        log.trace("Drained {} exchanges from queue {}", batch.size(), ObjectHelper.getIdentityHashCode(queue));
+                        int size = batch.size();
+                        pendingBatchSize.addAndGet(size);
+                        int index = 0;
+                        try {
+                            while (index < size) {
+                                exchange = batch.get(index++);
+                                // the exchange is now inflight
+                                pendingBatchSize.decrementAndGet();
+                                processExchange(exchange, statistics);
+                            }
+                        } finally {
+                            // in case of an error the remainder of the batch is no longer pending
+                            pendingBatchSize.addAndGet(index - size);
+                            batch.clear();
                         }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    } else {
+                        processExchange(exchange, statistics);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     log.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -233,6 +249,44 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
         }
     }
 
+    /**
+     * Processes the exchange taken from the queue
+     *
+     * @param exchange   the exchange
+     * @param statistics the queue statistics, or <tt>null</tt> if statistics is not enabled
+     */
+    protected void processExchange(Exchange exchange, QueueStatistics statistics) {
+        if (exchange.getProperty(SedaProducer.TIMED_OUT) != null) {
+            log.trace("Skipping exchange which timed out while waiting on the queue: {}", exchange);
+            return;
+        }
+        if (statistics != null) {
+            Long enqueued = (Long) exchange.removeProperty(QueueStatistics.ENQUEUED_TIME);
+            if (enqueued != null) {
+                statistics.recordLatency(System.nanoTime() - enqueued);
+            }
+        }
+        try {
+            // send a new copied exchange with new camel context
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy the message back
+            if (newExchange.hasOut()) {
+                exchange.setOut(newExchange.getOut().copy());
+            } else {
+                exchange.setIn(newExchange.getIn());
+            }
+            // log exception if an exception occurred and was not handled
+            if (newExchange.getException() != null) {
+                exchange.setException(newExchange.getException());
+                getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -340,7 +394,16 @@ public class SedaConsumer extends ServiceSupport implements Consumer, Runnable,
 
         // create thread pool if needed
         if (executor == null) {
-            executor = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this, endpoint.getEndpointUri(), poolSize);
+            ExecutorServiceManager manager = endpoint.getCamelContext().getExecutorServiceManager();
+            if (endpoint.isVirtualThreads()) {
+                ThreadPoolProfile profile = new ThreadPoolProfile(endpoint.getEndpointUri());
+                profile.setPoolSize(poolSize);
+                profile.setMaxPoolSize(poolSize);
+                profile.setVirtualThreads(true);
+                executor = manager.newThreadPool(this, endpoint.getEndpointUri(), profile);
+            } else {
+                executor = manager.newFixedThreadPool(this, endpoint.getEndpointUri(), poolSize);
+            }
         }
 
         // submit needed number of tasks
@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.AsyncEndpoint;
 import org.apache.camel.AsyncProcessor;
@@ -78,6 +79,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced")
+    private boolean virtualThreads;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int maxMessagesPerPoll = 1;
+    @UriParam(label = "advanced")
+    private boolean statisticsEnabled;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -307,6 +314,100 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.limitConcurrentConsumers = limitConcurrentConsumers;
     }
 
+    @ManagedAttribute(description = "Whether the consumers use virtual threads")
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to use virtual threads for the concurrent consumers.
+     * This requires running on a JVM which supports virtual threads, otherwise regular threads are used.
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    @ManagedAttribute(description = "Maximum number of messages taken from the queue per poll")
+    public int getMaxMessagesPerPoll() {
+        return maxMessagesPerPoll;
+    }
+
+    /**
+     * The maximum number of messages a consumer takes from the queue each time it polls the queue.
+     * When the queue has more messages, then the consumer drains up to this number of messages at once,
+     * which reduces the overhead of polling the queue one message at a time under high load.
+     */
+    public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+    }
+
+    @ManagedAttribute(description = "Whether statistics of the queue latency and occupancy is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    /**
+     * Whether to gather statistics of how long the messages wait on the queue, and how many messages are on the queue
+     * when the consumers poll the queue. The statistics are available as histograms from JMX.
+     */
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    /**
+     * Gets the statistics of the queue
+     *
+     * @return the statistics, or <tt>null</tt> if no queue reference exists
+     */
+    public QueueStatistics getQueueStatistics() {
+        QueueReference ref = getComponent() != null ? getQueueReference() : null;
+        return ref != null ? ref.getStatistics() : null;
+    }
+
+    @ManagedAttribute(description = "Mean time in micros the messages waited on the queue")
+    public long getQueueLatencyMean() {
+        QueueStatistics statistics = getQueueStatistics();
+        return statistics != null ? TimeUnit.NANOSECONDS.toMicros(statistics.getLatency().getMean()) : 0;
+    }
+
+    @ManagedAttribute(description = "99th percentile of the time in micros the messages waited on the queue")
+    public long getQueueLatency99thPercentile() {
+        QueueStatistics statistics = getQueueStatistics();
+        return statistics != null ? TimeUnit.NANOSECONDS.toMicros(statistics.getLatency().getPercentile(99)) : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum time in micros a message waited on the queue")
+    public long getQueueLatencyMax() {
+        QueueStatistics statistics = getQueueStatistics();
+        return statistics != null ? TimeUnit.NANOSECONDS.toMicros(statistics.getLatency().getMax()) : 0;
+    }
+
+    @ManagedAttribute(description = "Mean number of messages on the queue when polled")
+    public long getQueueOccupancyMean() {
+        QueueStatistics statistics = getQueueStatistics();
+        return statistics != null ? statistics.getOccupancy().getMean() : 0;
+    }
+
+    @ManagedAttribute(description = "99th percentile of the number of messages on the queue when polled")
+    public long getQueueOccupancy99thPercentile() {
+        QueueStatistics statistics = getQueueStatistics();
+        return statistics != null ? statistics.getOccupancy().getPercentile(99) : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum number of messages on the queue when polled")
+    public long getQueueOccupancyMax() {
+        QueueStatistics statistics = getQueueStatistics();
+        return statistics != null ? statistics.getOccupancy().getMax() : 0;
+    }
+
+    @ManagedOperation(description = "Resets the statistics of the queue")
+    public void resetQueueStatistics() {
+        QueueStatistics statistics = getQueueStatistics();
+        if (statistics != null) {
+            statistics.reset();
+        }
+    }
+
     public WaitForTaskToComplete getWaitForTaskToComplete() {
         return waitForTaskToComplete;
     }
@@ -29,6 +29,11 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.SynchronizationAdapter;
 
 public class SedaProducer extends DefaultAsyncProducer {
+
+    /**
+     * Property to mark an exchange which timed out while waiting on the queue, so the consumer skips it.
+     */
+    static final String TIMED_OUT = "CamelSedaTimedOut";
     
     private final SedaEndpoint endpoint;
     private final WaitForTaskToComplete waitForTaskToComplete;
@@ -121,8 +126,11 @@ public class SedaProducer extends DefaultAsyncProducer {
                 }
                 if (!done) {
                     exchange.setException(new ExchangeTimedOutException(exchange, timeout));
-                    // remove timed out Exchange from queue
-                    endpoint.getQueue().remove(copy);
+                    // remove timed out Exchange from queue, and if the queue does not support removing the exchange
+                    // such as the MpmcArrayBlockingQueue, then mark the exchange so the consumer skips it
+                    if (!endpoint.getQueue().remove(copy)) {
+                        copy.setProperty(TIMED_OUT, Boolean.TRUE);
+                    }
                     // count down to indicate timeout
                     latch.countDown();
                 }
@@ -215,6 +223,10 @@ public class SedaProducer extends DefaultAsyncProducer {
             target = prepareCopy(exchange, true);
         }
 
+        if (endpoint.isStatisticsEnabled()) {
+            target.setProperty(QueueStatistics.ENQUEUED_TIME, System.nanoTime());
+        }
+
         log.trace("Adding Exchange to queue: {}", target);
         if (blockWhenFull && offerTimeout == 0) {
             try {
@@ -174,7 +174,7 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
     }
 
     protected void sendTimerExchange(long counter) {
-        final Exchange exchange = endpoint.createExchange();
+        final Exchange exchange = createReleasableExchange();
         exchange.setProperty(Exchange.TIMER_COUNTER, counter);
         exchange.setProperty(Exchange.TIMER_NAME, endpoint.getTimerName());
         exchange.setProperty(Exchange.TIMER_TIME, endpoint.getTime());
@@ -197,6 +197,8 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
                     if (exchange.getException() != null) {
                         getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
                     }
+                    // we are done with the exchange so it can be recycled
+                    releaseExchange(exchange);
                 }
             });
         } else {
@@ -210,6 +212,8 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
             if (exchange.getException() != null) {
                 getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
             }
+            // we are done with the exchange so it can be recycled
+            releaseExchange(exchange);
         }
     }
 }
@@ -16,12 +16,17 @@
  */
 package org.apache.camel.component.undertow;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 
 import io.undertow.Handlers;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.accesslog.AccessLogHandler;
@@ -39,10 +44,12 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.component.undertow.UndertowConstants.EventType;
 import org.apache.camel.component.undertow.handlers.CamelWebSocketHandler;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.util.CollectionStringBuffer;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 
 /**
@@ -169,9 +176,49 @@ public class UndertowConsumer extends DefaultConsumer implements HttpHandler {
             httpExchange.getResponseHeaders().put(ExchangeHeaders.CONTENT_TYPE, MimeMappings.DEFAULT_MIME_MAPPINGS.get("txt"));
             httpExchange.getResponseSender().send("No response available");
         } else {
-            ByteBuffer bodyAsByteBuffer = tc.mandatoryConvertTo(ByteBuffer.class, body);
-            httpExchange.getResponseSender().send(bodyAsByteBuffer);
+            File file = getResponseFile(body);
+            if (file != null) {
+                sendFile(httpExchange, file);
+            } else {
+                ByteBuffer bodyAsByteBuffer = tc.mandatoryConvertTo(ByteBuffer.class, body);
+                httpExchange.getResponseSender().send(bodyAsByteBuffer);
+            }
+        }
+    }
+
+    private static File getResponseFile(Object body) {
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        if (body instanceof File && ((File) body).isFile()) {
+            return (File) body;
+        }
+        return null;
+    }
+
+    /**
+     * Sends the file as the response by transferring the file channel to the connection, so the file
+     * is not read into memory (zero copy when not using SSL).
+     */
+    private void sendFile(HttpServerExchange httpExchange, File file) throws IOException {
+        log.trace("Sending file: {} as reply", file);
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        if (!httpExchange.getResponseHeaders().contains(Headers.CONTENT_LENGTH)) {
+            httpExchange.setResponseContentLength(channel.size());
         }
+        httpExchange.getResponseSender().transferFrom(channel, new IoCallback() {
+            @Override
+            public void onComplete(HttpServerExchange exchange, Sender sender) {
+                IOHelper.close(channel);
+                IoCallback.END_EXCHANGE.onComplete(exchange, sender);
+            }
+
+            @Override
+            public void onException(HttpServerExchange exchange, Sender sender, IOException exception) {
+                IOHelper.close(channel);
+                IoCallback.END_EXCHANGE.onException(exchange, sender, exception);
+            }
+        });
     }
 
     /**
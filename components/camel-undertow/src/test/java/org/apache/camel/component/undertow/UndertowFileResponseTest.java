@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.undertow;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class UndertowFileResponseTest extends BaseUndertowTest {
+
+    private String content;
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        deleteDirectory("target/data/undertow-file");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("Line ").append(i).append(" of a file which is sent as the response\n");
+        }
+        content = sb.toString();
+        Files.createDirectories(Paths.get("target/data/undertow-file"));
+        Files.write(Paths.get("target/data/undertow-file/hello.txt"), content.getBytes());
+    }
+
+    @Test
+    public void testFileResponse() throws Exception {
+        Exchange out = template.request("http://localhost:" + getPort() + "/file", exchange -> exchange.getIn().setHeader(Exchange.HTTP_METHOD, "GET"));
+
+        assertEquals(content, out.getOut().getBody(String.class));
+        assertEquals(content.length(), out.getOut().getHeader(Exchange.CONTENT_LENGTH, Integer.class).intValue());
+    }
+
+    @Test
+    public void testGenericFileResponse() throws Exception {
+        Exchange out = template.request("http://localhost:" + getPort() + "/genericFile", exchange -> exchange.getIn().setHeader(Exchange.HTTP_METHOD, "GET"));
+
+        assertEquals(content, out.getOut().getBody(String.class));
+        assertEquals(content.length(), out.getOut().getHeader(Exchange.CONTENT_LENGTH, Integer.class).intValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("undertow:http://localhost:{{port}}/file")
+                    .process(exchange -> exchange.getOut().setBody(new File("target/data/undertow-file/hello.txt")));
+
+                from("undertow:http://localhost:{{port}}/genericFile")
+                    .pollEnrich("file:target/data/undertow-file?noop=true&fileName=hello.txt", 5000);
+            }
+        };
+    }
+
+}
@@ -193,6 +193,8 @@ public interface Exchange {
     String OVERRULE_FILE_NAME = "CamelOverruleFileName";
 
     String PARENT_UNIT_OF_WORK = "CamelParentUnitOfWork";
+    String PRODUCER_CACHE_ASYNC_STOP = "CamelProducerCacheAsyncStop";
+    String PRODUCER_CACHE_SHARDS     = "CamelProducerCacheShards";
     String STREAM_CACHE_UNIT_OF_WORK = "CamelStreamCacheUnitOfWork";
     
     String RECIPIENT_LIST_ENDPOINT = "CamelRecipientListEndpoint";
@@ -217,6 +219,7 @@ public interface Exchange {
     String SOAP_ACTION        = "CamelSoapAction";
     String SKIP_GZIP_ENCODING = "CamelSkipGzipEncoding";
     String SKIP_WWW_FORM_URLENCODED = "CamelSkipWwwFormUrlEncoding"; 
+    String SIMPLE_COMPILED    = "CamelSimpleCompiled";
     String SLIP_ENDPOINT      = "CamelSlipEndpoint";
     String SLIP_PRODUCER      = "CamelSlipProducer";
     String SPLIT_INDEX        = "CamelSplitIndex";
@@ -31,6 +31,7 @@ import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.InterceptStrategy;
@@ -267,6 +268,16 @@ public interface ExtendedCamelContext extends CamelContext {
      */
     void setUnitOfWorkFactory(UnitOfWorkFactory unitOfWorkFactory);
 
+    /**
+     * Gets the {@link ExchangeFactory} to use.
+     */
+    ExchangeFactory getExchangeFactory();
+
+    /**
+     * Sets a custom {@link ExchangeFactory} to use, such as a pooled factory which recycles the exchanges.
+     */
+    void setExchangeFactory(ExchangeFactory exchangeFactory);
+
     /**
      * Gets the {@link AnnotationBasedProcessorFactory} to use.
      */
@@ -113,4 +113,21 @@ public interface TypeConverter {
      */
     <T> T tryConvertTo(Class<T> type, Exchange exchange, Object value);
 
+    /**
+     * Gets a type converter which has pre-resolved the type converter to use for converting
+     * values of the exact given from type to the given to type.
+     * <p/>
+     * Callers which repeatedly converts between the same types can hold on to the returned
+     * type converter, to skip looking up the type converter on every conversion.
+     * Values of any other types are converted as usual.
+     *
+     * @param fromType the type to convert from
+     * @param toType the type to convert to
+     * @return the pre-resolved type converter, or this type converter if there is no type converter
+     *         to pre-resolve for the given types
+     */
+    default TypeConverter forPair(Class<?> fromType, Class<?> toType) {
+        return this;
+    }
+
 }
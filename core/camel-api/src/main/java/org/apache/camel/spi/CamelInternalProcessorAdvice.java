@@ -47,4 +47,17 @@ public interface CamelInternalProcessorAdvice<T> {
      */
     void after(Exchange exchange, T data) throws Exception;
 
+    /**
+     * Whether this advice keeps any state between the {@link #before(org.apache.camel.Exchange)} and
+     * {@link #after(org.apache.camel.Exchange, Object)} callbacks.
+     * <p/>
+     * Advices which always return <tt>null</tt> from {@link #before(org.apache.camel.Exchange)} can return <tt>false</tt>
+     * which allows the routing engine to avoid keeping room for the state per exchange when none of the advices has state.
+     *
+     * @return <tt>true</tt> (default) if the advice has state, <tt>false</tt> if not
+     */
+    default boolean hasState() {
+        return true;
+    }
+
 }
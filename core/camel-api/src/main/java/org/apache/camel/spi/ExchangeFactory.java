@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+
+/**
+ * Factory used by the routing engine to create {@link Exchange} instances.
+ * <p/>
+ * The default factory creates a new exchange every time. A pooled factory can recycle the exchanges which are
+ * {@link #release(Exchange) released} back to the factory when the consumer (or EIP) which created the exchange
+ * is done with it, after its {@link UnitOfWork} has completed. This reduces the number of objects being allocated
+ * when routing messages at a high rate.
+ */
+public interface ExchangeFactory {
+
+    /**
+     * Creates a new {@link Exchange}, or reuses a recycled exchange if the factory is pooled.
+     *
+     * @param fromEndpoint the endpoint the exchange originates from
+     * @param pattern      the exchange pattern
+     * @return the exchange
+     */
+    Exchange create(Endpoint fromEndpoint, ExchangePattern pattern);
+
+    /**
+     * Creates a new {@link Exchange}, the same way as {@link #create(Endpoint, ExchangePattern)} does, which the caller
+     * will {@link #release(Exchange) release} back to the factory when it is done with the exchange.
+     * <p/>
+     * Only these exchanges, and the {@link #copy(Exchange) copies}, are tracked when a pooled factory has leak
+     * detection enabled, as the exchanges created by {@link #create(Endpoint, ExchangePattern)} are not released.
+     *
+     * @param fromEndpoint the endpoint the exchange originates from
+     * @param pattern      the exchange pattern
+     * @return the exchange
+     */
+    Exchange createReleasable(Endpoint fromEndpoint, ExchangePattern pattern);
+
+    /**
+     * Creates a copy of the given {@link Exchange}, the same way as {@link Exchange#copy()} does, and reuses a
+     * recycled exchange for the copy if the factory is pooled.
+     *
+     * @param exchange the exchange to copy
+     * @return the copy
+     */
+    Exchange copy(Exchange exchange);
+
+    /**
+     * Releases the {@link Exchange} back to the factory so it can be recycled, when the factory is pooled.
+     * <p/>
+     * <b>Important:</b> The exchange must only be released once, and must not be used after it has been released.
+     *
+     * @param exchange the exchange
+     * @return <tt>true</tt> if the exchange was recycled, <tt>false</tt> if not
+     */
+    boolean release(Exchange exchange);
+
+    /**
+     * Detaches the {@link Exchange} from the factory so it is never recycled, even if it is released later.
+     * <p/>
+     * This is used by the EIPs which keep hold of the exchange after its routing has returned, such as the
+     * Resequencer, as the consumer (or EIP) which created the exchange does not know about this.
+     *
+     * @param exchange the exchange
+     */
+    void detach(Exchange exchange);
+
+    /**
+     * Whether the factory is pooled and recycles the exchanges which are released.
+     */
+    boolean isPooled();
+}
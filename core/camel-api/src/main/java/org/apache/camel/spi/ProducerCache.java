@@ -51,6 +51,14 @@ public interface ProducerCache extends Service {
      */
     void releaseProducer(Endpoint endpoint, AsyncProducer producer);
 
+    /**
+     * Creates and starts a producer for the given endpoint ahead of time, so the first exchanges
+     * being sent to the endpoint do not have to wait for the producer to be created and started.
+     *
+     * @param endpoint the endpoint
+     */
+    void warmup(Endpoint endpoint);
+
     /**
      * Sends the exchange to the given endpoint.
      * <p>
@@ -131,6 +139,33 @@ public interface ProducerCache extends Service {
      */
     long getEvicted();
 
+    /**
+     * Gets the average time in nanos it took to acquire a producer which was cached
+     * <p/>
+     * Will return <tt>0</tt> if extended statistics is not enabled.
+     *
+     * @return the average time in nanos
+     */
+    long getMeanHitTime();
+
+    /**
+     * Gets the average time in nanos it took to acquire a producer which was not cached, and therefore had to be created
+     * <p/>
+     * Will return <tt>0</tt> if extended statistics is not enabled.
+     *
+     * @return the average time in nanos
+     */
+    long getMeanMissTime();
+
+    /**
+     * Gets the average time in nanos it took to stop a producer which was evicted from the cache
+     * <p/>
+     * Will return <tt>0</tt> if extended statistics is not enabled.
+     *
+     * @return the average time in nanos
+     */
+    long getMeanEvictionTime();
+
     /**
      * Resets the cache statistics
      */
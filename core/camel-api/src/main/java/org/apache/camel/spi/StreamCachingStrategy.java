@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +63,26 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of buffers acquired from the buffer pool.
+         */
+        long getBufferPoolAcquiredCounter();
+
+        /**
+         * Gets the counter for number of times the buffer pool was exhausted, and a buffer could not be acquired.
+         */
+        long getBufferPoolExhaustedCounter();
+
+        /**
+         * Gets the number of bytes of the buffer pool which is currently in use.
+         */
+        long getBufferPoolUsedSize();
+
+        /**
+         * Gets the number of bytes which has been allocated by the buffer pool.
+         */
+        long getBufferPoolAllocatedSize();
+
         /**
          * Reset the counters
          */
@@ -164,6 +185,35 @@ public interface StreamCachingStrategy extends StaticService {
 
     int getBufferSize();
 
+    /**
+     * Sets the total number of bytes of memory to use for a pool of direct (off-heap) buffers used for in-memory
+     * stream caches. Each buffer in the pool has the size of {@link #getBufferSize()}.
+     * <p/>
+     * When the pool is in use, then in-memory stream caches are stored in pooled buffers, instead of on-heap
+     * byte arrays. If the pool is exhausted then the stream cache is spooled to disk (if spooling is enabled), and
+     * spooled stream caches are read back using memory mapping.
+     * <p/>
+     * The default value is <tt>0</tt> which means the pool is not in use.
+     */
+    void setBufferPoolSize(long bufferPoolSize);
+
+    long getBufferPoolSize();
+
+    /**
+     * Acquires a direct buffer from the buffer pool.
+     *
+     * @return the buffer, or <tt>null</tt> if the buffer pool is not in use or is exhausted
+     * @see #setBufferPoolSize(long)
+     */
+    ByteBuffer acquireBuffer();
+
+    /**
+     * Releases the buffer back to the buffer pool.
+     *
+     * @param buffer the buffer which was acquired by {@link #acquireBuffer()}
+     */
+    void releaseBuffer(ByteBuffer buffer);
+
     /**
      * Sets a cipher name to use when spooling to disk to write with encryption.
      * <p/>
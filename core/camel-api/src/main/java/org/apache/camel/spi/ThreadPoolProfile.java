@@ -40,6 +40,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -234,6 +235,29 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Gets whether to use virtual threads
+     *
+     * @return <tt>true</tt> to use virtual threads
+     */
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to use virtual threads, where each task is executed by its own virtual thread.
+     * <p/>
+     * The pool size, max pool size, keep alive and max queue size options are not in use when using
+     * virtual threads, as the number of concurrent tasks is not bounded by platform threads.
+     * This requires running on a JVM which supports virtual threads, if not then a regular
+     * thread pool is created.
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile 
      * 
@@ -264,6 +288,9 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreads == null) {
+            virtualThreads = defaultProfile.getVirtualThreads();
+        }
     }
 
     @Override
@@ -278,6 +305,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         cloned.setAllowCoreThreadTimeOut(allowCoreThreadTimeOut);
         cloned.setRejectedPolicy(rejectedPolicy);
         cloned.setTimeUnit(timeUnit);
+        cloned.setVirtualThreads(virtualThreads);
         return cloned;
     }
 
@@ -285,7 +313,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                 + ", keepAlive: " + keepAliveTime + " " + timeUnit + ", maxQueue: " + maxQueueSize
-                + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+                + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+                + ", virtualThreads:" + virtualThreads + "]";
     }
 
 }
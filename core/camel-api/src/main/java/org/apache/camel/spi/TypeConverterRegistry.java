@@ -63,6 +63,18 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of successful conversions using a pre-resolved type converter
+         *
+         * @see org.apache.camel.TypeConverter#forPair(Class, Class)
+         */
+        long getPairHitCounter();
+
+        /**
+         * Number of type converter lookups which was skipped as no type converter is known to exist
+         */
+        long getSkippedLookupCounter();
+
         /**
          * Reset the counters
          */
@@ -76,7 +76,12 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         }
     };
 
+    // the maximum number of (to, from) pairs to remember as having no type converter
+    private static final int MAX_LOOKUP_MISSES = 1000;
+
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(200);
+    // the (to, from) pairs where the lookup found no type converter, which is cleared when type converters are added
+    protected final DoubleMap<Class<?>, Class<?>, Boolean> lookupMisses = new DoubleMap<>(200);
     protected final List<TypeConverterLoader> typeConverterLoaders = new ArrayList<>();
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     protected CamelContext camelContext;
@@ -91,6 +96,9 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder pairHitCounter = new LongAdder();
+    protected final LongAdder skippedLookupCounter = new LongAdder();
+    private volatile int lookupGeneration;
 
     public BaseTypeConverterRegistry(CamelContext camelContext, PackageScanClassResolver resolver, Injector injector, FactoryFinder factoryFinder) {
         this.camelContext = camelContext;
@@ -151,10 +159,32 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         return (T) doConvertTo(type, exchange, value, false, true);
     }
 
+    @Override
+    public TypeConverter forPair(Class<?> fromType, Class<?> toType) {
+        if (fromType == null || toType == null || toType.isAssignableFrom(fromType)) {
+            // no type conversion is needed
+            return this;
+        }
+        TypeConverter converter = getOrFindTypeConverter(toType, fromType);
+        if (converter == null || converter == MISS_CONVERTER) {
+            return this;
+        }
+        return new PairTypeConverter(fromType, toType, converter);
+    }
+
     protected Object doConvertTo(final Class<?> type, final Exchange exchange, final Object value, final boolean mandatory, final boolean tryConvert) {
+        return doConvertTo(type, exchange, value, mandatory, tryConvert, null);
+    }
+
+    private Object doConvertTo(final Class<?> type, final Exchange exchange, final Object value, final boolean mandatory, final boolean tryConvert,
+                               final TypeConverter resolved) {
         Object answer;
         try {
-            answer = doConvertTo(type, exchange, value, tryConvert);
+            if (resolved != null) {
+                answer = doConvertTo(type, exchange, value, tryConvert, resolved);
+            } else {
+                answer = doConvertTo(type, exchange, value, tryConvert);
+            }
         } catch (Exception e) {
             if (statistics.isStatisticsEnabled()) {
                 failedCounter.increment();
@@ -182,6 +212,9 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         } else {
             if (statistics.isStatisticsEnabled()) {
                 hitCounter.increment();
+                if (resolved != null) {
+                    pairHitCounter.increment();
+                }
             }
             return answer;
         }
@@ -266,6 +299,39 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
             }
         }
 
+        return doConvertToFallback(type, exchange, value, tryConvert);
+    }
+
+    /**
+     * Converts the value using the given pre-resolved type converter, and then the fallback type converters
+     * if the pre-resolved type converter could not convert the value.
+     */
+    protected Object doConvertTo(final Class<?> type, final Exchange exchange, final Object value, final boolean tryConvert,
+                                 final TypeConverter converter) throws Exception {
+        if (statistics.isStatisticsEnabled()) {
+            attemptCounter.increment();
+        }
+
+        Object rc;
+        if (tryConvert) {
+            rc = converter.tryConvertTo(type, exchange, value);
+        } else {
+            rc = converter.convertTo(type, exchange, value);
+        }
+        if (rc != null) {
+            return rc;
+        } else if (converter.allowNull()) {
+            return null;
+        }
+
+        return doConvertToFallback(type, exchange, value, tryConvert);
+    }
+
+    /**
+     * Converts the value using the primitive wrapper type and the fallback type converters, which is used when
+     * no regular type converter could convert the value.
+     */
+    protected Object doConvertToFallback(final Class<?> type, final Exchange exchange, final Object value, final boolean tryConvert) throws Exception {
         // not found with that type then if it was a primitive type then try again with the wrapper type
         if (type.isPrimitive()) {
             Class<?> primitiveType = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
@@ -368,6 +434,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                // the new type converter may be found by lookups which previously found no type converter
+                clearLookupMisses();
             }
         }
     }
@@ -387,7 +455,11 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     @Override
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         log.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean answer = typeMappings.remove(toType, fromType);
+        if (answer) {
+            clearLookupMisses();
+        }
+        return answer;
     }
 
     @Override
@@ -442,15 +514,34 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     protected <T> TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
         if (converter == null) {
+            if (lookupMisses.containsKey(toType, fromType)) {
+                // we already know that the lookup will not find any converter
+                if (statistics.isStatisticsEnabled()) {
+                    skippedLookupCounter.increment();
+                }
+                return null;
+            }
+            int generation = lookupGeneration;
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
             if (converter != null) {
                 typeMappings.put(toType, fromType, converter);
+            } else if (generation == lookupGeneration) {
+                // remember the miss, unless type converters was added meanwhile
+                if (lookupMisses.size() >= MAX_LOOKUP_MISSES) {
+                    lookupMisses.clear();
+                }
+                lookupMisses.put(toType, fromType, Boolean.TRUE);
             }
         }
         return converter;
     }
 
+    protected void clearLookupMisses() {
+        lookupGeneration++;
+        lookupMisses.clear();
+    }
+
     @Override
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
         return doLookup(toType, fromType, false);
@@ -693,6 +784,7 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         }
 
         typeMappings.clear();
+        clearLookupMisses();
         statistics.reset();
     }
 
@@ -728,6 +820,16 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getPairHitCounter() {
+            return pairHitCounter.longValue();
+        }
+
+        @Override
+        public long getSkippedLookupCounter() {
+            return skippedLookupCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -735,6 +837,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            pairHitCounter.reset();
+            skippedLookupCounter.reset();
         }
 
         @Override
@@ -749,8 +853,91 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, pairHits=%s, skippedLookups=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getPairHitCounter(), getSkippedLookupCounter());
+        }
+    }
+
+    /**
+     * A type converter which has pre-resolved the type converter to use for converting from the exact from type
+     * to the to type, and which uses the registry for any other types.
+     */
+    private final class PairTypeConverter implements TypeConverter {
+        private final Class<?> fromType;
+        private final Class<?> toType;
+        private final TypeConverter converter;
+
+        PairTypeConverter(Class<?> fromType, Class<?> toType, TypeConverter converter) {
+            this.fromType = fromType;
+            this.toType = toType;
+            this.converter = converter;
+        }
+
+        private boolean isPair(Class<?> type, Object value) {
+            return type == toType && value != null && value.getClass() == fromType;
+        }
+
+        @Override
+        public boolean allowNull() {
+            return false;
+        }
+
+        @Override
+        public <T> T convertTo(Class<T> type, Object value) {
+            return convertTo(type, null, value);
+        }
+
+        @Override
+        public <T> T mandatoryConvertTo(Class<T> type, Object value) throws NoTypeConversionAvailableException {
+            return mandatoryConvertTo(type, null, value);
+        }
+
+        @Override
+        public <T> T tryConvertTo(Class<T> type, Object value) {
+            return tryConvertTo(type, null, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            if (isPair(type, value)) {
+                return (T) doConvertTo(type, exchange, value, false, false, converter);
+            }
+            return BaseTypeConverterRegistry.this.convertTo(type, exchange, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T mandatoryConvertTo(Class<T> type, Exchange exchange, Object value) throws NoTypeConversionAvailableException {
+            if (isPair(type, value)) {
+                Object answer = doConvertTo(type, exchange, value, true, false, converter);
+                if (answer == null) {
+                    // Could not find suitable conversion
+                    throw new NoTypeConversionAvailableException(value, type);
+                }
+                return (T) answer;
+            }
+            return BaseTypeConverterRegistry.this.mandatoryConvertTo(type, exchange, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T tryConvertTo(Class<T> type, Exchange exchange, Object value) {
+            if (isPair(type, value)) {
+                return (T) doConvertTo(type, exchange, value, false, true, converter);
+            }
+            return BaseTypeConverterRegistry.this.tryConvertTo(type, exchange, value);
+        }
+
+        @Override
+        public TypeConverter forPair(Class<?> fromType, Class<?> toType) {
+            return BaseTypeConverterRegistry.this.forPair(fromType, toType);
+        }
+
+        @Override
+        public String toString() {
+            return "PairTypeConverter[" + fromType.getName() + " -> " + toType.getName() + " using " + converter + "]";
         }
     }
 
@@ -97,6 +97,7 @@ import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -251,6 +252,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
     private volatile ExecutorServiceManager executorServiceManager;
     private volatile UuidGenerator uuidGenerator;
     private volatile UnitOfWorkFactory unitOfWorkFactory;
+    private volatile ExchangeFactory exchangeFactory;
     private volatile RouteController routeController;
     private volatile ScheduledExecutorService errorHandlerExecutorService;
     private final DeferServiceFactory deferServiceFactory = new DefaultDeferServiceFactory();
@@ -2103,6 +2105,21 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
         this.unitOfWorkFactory = doAddService(unitOfWorkFactory);
     }
 
+    public ExchangeFactory getExchangeFactory() {
+        if (exchangeFactory == null) {
+            synchronized (lock) {
+                if (exchangeFactory == null) {
+                    setExchangeFactory(createExchangeFactory());
+                }
+            }
+        }
+        return exchangeFactory;
+    }
+
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        this.exchangeFactory = doAddService(exchangeFactory);
+    }
+
     public RuntimeEndpointRegistry getRuntimeEndpointRegistry() {
         return runtimeEndpointRegistry;
     }
@@ -3290,6 +3307,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
         getModelJAXBContextFactory();
         getUuidGenerator();
         getUnitOfWorkFactory();
+        getExchangeFactory();
         getRouteController();
         getBeanProxyFactory();
         getBeanProcessorFactory();
@@ -4063,6 +4081,8 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
 
     protected abstract UnitOfWorkFactory createUnitOfWorkFactory();
 
+    protected abstract ExchangeFactory createExchangeFactory();
+
     protected abstract CamelContextNameStrategy createCamelContextNameStrategy();
 
     protected abstract ManagementNameStrategy createManagementNameStrategy();
@@ -186,7 +186,13 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        boolean virtual = profile.getVirtualThreads() != null && profile.getVirtualThreads();
+        if (virtual && !CamelThreadFactory.isVirtualThreadsSupported()) {
+            LOG.warn("ThreadPoolProfile: {} is configured to use virtual threads which is not supported on this JVM. Using a regular thread pool instead.", profile.getId());
+            virtual = false;
+        }
+
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, virtual);
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -547,4 +553,11 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         return new CamelThreadFactory(threadNamePattern, name, isDaemon);
     }
 
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean isVirtual) {
+        if (isVirtual) {
+            return new CamelThreadFactory(threadNamePattern, name, isDaemon, true);
+        }
+        return createThreadFactory(name, isDaemon);
+    }
+
 }
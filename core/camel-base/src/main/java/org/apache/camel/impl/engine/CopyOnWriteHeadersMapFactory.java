@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.util.CopyOnWriteCaseInsensitiveMap;
+
+/**
+ * Copy on write {@link HeadersMapFactory} which uses the {@link CopyOnWriteCaseInsensitiveMap}.
+ * <p/>
+ * Copying the headers (such as when the exchange is copied for each branch of a multicast, splitter or wire tap)
+ * shares the headers with the existing map, until either map is changed. The headers are case insensitive, and
+ * the case folded keys of the well known Camel header names are precomputed.
+ */
+public class CopyOnWriteHeadersMapFactory implements HeadersMapFactory {
+
+    private static final String[] PROTOCOL_HEADERS = {
+        "Accept", "Accept-Encoding", "Authorization", "Cache-Control", "Connection", "Content-Encoding",
+        "Content-Length", "Content-Type", "Date", "Host", "Location", "Transfer-Encoding", "User-Agent"
+    };
+
+    private static final Map<String, String> KNOWN_KEYS = createKnownKeys();
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new CopyOnWriteCaseInsensitiveMap(KNOWN_KEYS);
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        if (map instanceof CopyOnWriteCaseInsensitiveMap) {
+            return ((CopyOnWriteCaseInsensitiveMap) map).copy();
+        }
+        return new CopyOnWriteCaseInsensitiveMap(KNOWN_KEYS, map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof CopyOnWriteCaseInsensitiveMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+
+    private static Map<String, String> createKnownKeys() {
+        Map<String, String> answer = new HashMap<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    String key = (String) field.get(null);
+                    answer.put(key, CopyOnWriteCaseInsensitiveMap.foldCase(key));
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        for (String key : PROTOCOL_HEADERS) {
+            answer.put(key, CopyOnWriteCaseInsensitiveMap.foldCase(key));
+        }
+        return Collections.unmodifiableMap(answer);
+    }
+}
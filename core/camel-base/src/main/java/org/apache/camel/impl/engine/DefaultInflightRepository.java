@@ -24,7 +24,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,41 +35,76 @@ import org.apache.camel.support.service.ServiceSupport;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The number of inflight exchanges are tracked using striped counters, which are cheap to update from many threads
+ * concurrently. The exchanges themselves are only kept for browsing (such as from JMX or when logging inflight exchanges
+ * during shutdown) depending on the {@link #setBrowseSampleRate(int) browse sample rate}. By default every exchange is
+ * browseable, but on routes with a high rate of messages this can be reduced to only keep a sample of the exchanges,
+ * or turned off completely, to avoid the overhead of adding and removing every exchange to a map.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
-    private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
+    private final LongAdder size = new LongAdder();
+    // keyed by the exchange itself so we do not need to generate its exchange id
+    private final ConcurrentMap<Exchange, Exchange> inflight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
+    private int browseSampleRate = 1;
+
+    public int getBrowseSampleRate() {
+        return browseSampleRate;
+    }
+
+    /**
+     * Sets how many of the inflight exchanges are kept so they can be browsed.
+     * <p/>
+     * The default value is 1, which keeps every exchange. A value of N keeps about one out of N exchanges, and 0 keeps
+     * no exchanges at all, which means {@link #browse()} and {@link #oldest(String)} returns no exchanges.
+     * The counters returned from {@link #size()} and {@link #size(String)} are always accurate.
+     * <p/>
+     * This option should be configured before the repository is started.
+     */
+    public void setBrowseSampleRate(int browseSampleRate) {
+        if (browseSampleRate < 0) {
+            throw new IllegalArgumentException("BrowseSampleRate must be zero or a positive number, was: " + browseSampleRate);
+        }
+        this.browseSampleRate = browseSampleRate;
+    }
 
     public void add(Exchange exchange) {
-        inflight.put(exchange.getExchangeId(), exchange);
+        size.increment();
+        if (isSampled(exchange)) {
+            inflight.put(exchange, exchange);
+        }
     }
 
     public void remove(Exchange exchange) {
-        inflight.remove(exchange.getExchangeId());
+        size.decrement();
+        if (isSampled(exchange)) {
+            inflight.remove(exchange);
+        }
     }
 
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
         }
     }
 
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
         }
     }
 
     public int size() {
-        return inflight.size();
+        return size.intValue();
     }
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger(0));
+        routeCount.putIfAbsent(routeId, new LongAdder());
     }
 
     @Override
@@ -79,8 +114,8 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
     }
 
     @Override
@@ -174,6 +209,15 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         routeCount.clear();
     }
 
+    private boolean isSampled(Exchange exchange) {
+        int rate = browseSampleRate;
+        if (rate <= 1) {
+            return rate == 1;
+        }
+        // the identity hash code is stable for the exchange so the same decision is made when adding and removing
+        return (System.identityHashCode(exchange) & Integer.MAX_VALUE) % rate == 0;
+    }
+
     private static long getExchangeDuration(Exchange exchange) {
         long duration = 0;
         Date created = exchange.getCreated();
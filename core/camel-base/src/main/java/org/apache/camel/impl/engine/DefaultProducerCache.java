@@ -17,6 +17,7 @@
 package org.apache.camel.impl.engine;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
@@ -40,6 +41,11 @@ import org.apache.camel.util.StopWatch;
 
 /**
  * Default implementation of {@link ProducerCache}.
+ * <p/>
+ * The cache can be tuned for many different endpoints (such as dynamic to with many distinct uris) by using the
+ * global options {@link Exchange#PRODUCER_CACHE_SHARDS} to split the cache into shards, and
+ * {@link Exchange#PRODUCER_CACHE_ASYNC_STOP} to stop the evicted producers in a background thread instead of
+ * the thread sending the message.
  */
 public class DefaultProducerCache extends ServiceSupport implements ProducerCache {
 
@@ -47,6 +53,7 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
     private final ServicePool<AsyncProducer> producers;
     private final Object source;
     private final SharedCamelInternalProcessor internalProcessor;
+    private ExecutorService stopExecutor;
 
     private EndpointUtilizationStatistics statistics;
     private boolean eventNotifierEnabled = true;
@@ -57,7 +64,8 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         this.source = source;
         this.camelContext = camelContext;
         this.maxCacheSize = cacheSize == 0 ? CamelContextHelper.getMaximumCachePoolSize(camelContext) : cacheSize;
-        this.producers = new ServicePool<>(Endpoint::createAsyncProducer, AsyncProducer::getEndpoint, maxCacheSize);
+        this.producers = new ServicePool<>(Endpoint::createAsyncProducer, AsyncProducer::getEndpoint, maxCacheSize,
+                CamelContextHelper.getProducerCacheShards(camelContext));
 
         // only if JMX is enabled
         if (camelContext.getManagementStrategy() != null && camelContext.getManagementStrategy().getManagementAgent() != null) {
@@ -113,6 +121,11 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         producers.release(endpoint, producer);
     }
 
+    public void warmup(Endpoint endpoint) {
+        AsyncProducer producer = acquireProducer(endpoint);
+        releaseProducer(endpoint, producer);
+    }
+
     public Exchange send(Endpoint endpoint, Exchange exchange, Processor resultProcessor) {
         if (camelContext.isStopped()) {
             exchange.setException(new RejectedExecutionException("CamelContext is stopped"));
@@ -317,6 +330,12 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
             int max = maxCacheSize == 0 ? CamelContextHelper.getMaximumCachePoolSize(camelContext) : maxCacheSize;
             statistics = new DefaultEndpointUtilizationStatistics(max);
         }
+        producers.setStatisticsEnabled(extendedStatistics);
+
+        if (stopExecutor == null && CamelContextHelper.isProducerCacheAsyncStop(camelContext)) {
+            stopExecutor = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "ProducerCacheEviction");
+            producers.setStopExecutor(stopExecutor);
+        }
 
         ServiceHelper.startService(producers, statistics);
     }
@@ -327,6 +346,12 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         if (statistics != null) {
             statistics.clear();
         }
+        if (stopExecutor != null) {
+            // let the evicted producers which are pending be stopped
+            camelContext.getExecutorServiceManager().shutdownGraceful(stopExecutor);
+            producers.setStopExecutor(null);
+            stopExecutor = null;
+        }
     }
 
     public int size() {
@@ -352,6 +377,18 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         return producers.getEvicted();
     }
 
+    public long getMeanHitTime() {
+        return producers.getMeanHitTime();
+    }
+
+    public long getMeanMissTime() {
+        return producers.getMeanMissTime();
+    }
+
+    public long getMeanEvictionTime() {
+        return producers.getMeanEvictionTime();
+    }
+
     public void resetCacheStatistics() {
         producers.resetStatistics();
         if (statistics != null) {
@@ -199,6 +199,11 @@ public class DefaultRouteContext implements RouteContext {
             // wrap in REST binding
             advices.forEach(internal::addAdvice);
 
+            // gather the overhead of the advices when using extended statistics
+            if (camelContext.getManagementStrategy() != null && camelContext.getManagementStrategy().getManagementAgent() != null) {
+                internal.setAdviceStatisticsEnabled(camelContext.getManagementStrategy().getManagementAgent().getStatisticsLevel().isExtended());
+            }
+
             // and create the route that wraps the UoW
             Route edcr = new EventDrivenConsumerRoute(this, getEndpoint(), internal);
             edcr.getProperties().putAll(properties);
@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -48,6 +49,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
+    private long bufferPoolSize;
+    private volatile DirectByteBufferPool bufferPool;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
@@ -121,6 +124,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    public long getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    public void setBufferPoolSize(long bufferPoolSize) {
+        this.bufferPoolSize = bufferPoolSize;
+    }
+
+    public ByteBuffer acquireBuffer() {
+        DirectByteBufferPool pool = bufferPool;
+        return pool != null ? pool.acquire() : null;
+    }
+
+    public void releaseBuffer(ByteBuffer buffer) {
+        DirectByteBufferPool pool = bufferPool;
+        if (pool != null) {
+            pool.release(buffer);
+        }
+    }
+
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
     }
@@ -272,6 +295,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (bufferPoolSize > 0) {
+            int size = bufferSize > 0 ? bufferSize : IOHelper.DEFAULT_BUFFER_SIZE;
+            bufferPool = new DirectByteBufferPool(size, bufferPoolSize);
+            log.debug("Using direct buffer pool: {}", bufferPool);
+        }
+
         log.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -293,6 +322,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        // the pooled buffers are released to the garbage collector
+        bufferPool = null;
     }
 
     @Override
@@ -303,6 +334,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             + ", spoolThreshold=" + spoolThreshold
             + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
             + ", bufferSize=" + bufferSize
+            + ", bufferPoolSize=" + bufferPoolSize
             + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -367,7 +399,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     /**
      * Represents utilization statistics.
      */
-    private static final class UtilizationStatistics implements Statistics {
+    private final class UtilizationStatistics implements Statistics {
 
         private boolean statisticsEnabled;
         private volatile long memoryCounter;
@@ -413,7 +445,31 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        public long getBufferPoolAcquiredCounter() {
+            DirectByteBufferPool pool = bufferPool;
+            return pool != null ? pool.getAcquiredCounter() : 0;
+        }
+
+        public long getBufferPoolExhaustedCounter() {
+            DirectByteBufferPool pool = bufferPool;
+            return pool != null ? pool.getExhaustedCounter() : 0;
+        }
+
+        public long getBufferPoolUsedSize() {
+            DirectByteBufferPool pool = bufferPool;
+            return pool != null ? pool.getUsedSize() : 0;
+        }
+
+        public long getBufferPoolAllocatedSize() {
+            DirectByteBufferPool pool = bufferPool;
+            return pool != null ? pool.getAllocatedSize() : 0;
+        }
+
         public synchronized void reset() {
+            DirectByteBufferPool pool = bufferPool;
+            if (pool != null) {
+                pool.resetCounters();
+            }
             memoryCounter = 0;
             memorySize = 0;
             memoryAverageSize = 0;
@@ -431,8 +487,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         public String toString() {
-            return String.format("[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+            return String.format("[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                    + ", bufferPoolAcquiredCounter=%s, bufferPoolExhaustedCounter=%s, bufferPoolUsedSize=%s, bufferPoolAllocatedSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    getBufferPoolAcquiredCounter(), getBufferPoolExhaustedCounter(), getBufferPoolUsedSize(), getBufferPoolAllocatedSize());
         }
     }
 
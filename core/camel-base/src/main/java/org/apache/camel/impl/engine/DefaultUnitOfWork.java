@@ -41,6 +41,7 @@ import org.apache.camel.spi.SubUnitOfWorkCallback;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.SynchronizationVetoable;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.MessageSupport;
@@ -99,8 +100,13 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
         }
 
         // mark the creation time when this Exchange was created
-        if (exchange.getProperty(Exchange.CREATED_TIMESTAMP) == null) {
-            exchange.setProperty(Exchange.CREATED_TIMESTAMP, new Date());
+        if (exchange.getCreated() == null) {
+            if (exchange instanceof DefaultExchange) {
+                // the default exchange keeps the time in a field, so we do not need to create its properties map
+                ((DefaultExchange) exchange).setCreated(System.currentTimeMillis());
+            } else {
+                exchange.setProperty(Exchange.CREATED_TIMESTAMP, new Date());
+            }
         }
 
         // inject breadcrumb header if enabled
@@ -116,13 +122,12 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
         
         // setup whether the exchange is externally redelivered or not (if not initialized before)
         // store as property so we know that the origin exchange was redelivered
+        // (only store when redelivered, as its the exceptional case, and we avoid creating the properties map)
         if (exchange.getProperty(Exchange.EXTERNAL_REDELIVERED) == null) {
             Boolean redelivered = exchange.isExternalRedelivered();
-            if (redelivered == null) {
-                // not from a transactional resource so mark it as false by default
-                redelivered = false;
+            if (redelivered != null && redelivered) {
+                exchange.setProperty(Exchange.EXTERNAL_REDELIVERED, redelivered);
             }
-            exchange.setProperty(Exchange.EXTERNAL_REDELIVERED, redelivered);
         }
 
         // fire event
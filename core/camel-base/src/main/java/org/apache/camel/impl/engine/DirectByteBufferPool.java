@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of direct (off-heap) {@link ByteBuffer}s of the same size.
+ * <p/>
+ * The buffers are allocated lazily on demand, until the number of allocated buffers reaches the
+ * limit given by the memory budget. Released buffers are kept in the pool for reuse.
+ */
+final class DirectByteBufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger allocated = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final LongAdder acquiredCounter = new LongAdder();
+    private final LongAdder exhaustedCounter = new LongAdder();
+
+    DirectByteBufferPool(int bufferSize, long poolSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("BufferSize must be positive, was: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxBuffers = (int) Math.min(Integer.MAX_VALUE, poolSize / bufferSize);
+    }
+
+    /**
+     * Acquires a cleared buffer from the pool.
+     *
+     * @return the buffer, or <tt>null</tt> if the pool is exhausted
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) {
+            int count = allocated.get();
+            while (count < maxBuffers) {
+                if (allocated.compareAndSet(count, count + 1)) {
+                    buffer = ByteBuffer.allocateDirect(bufferSize);
+                    break;
+                }
+                count = allocated.get();
+            }
+        }
+        if (buffer == null) {
+            exhaustedCounter.increment();
+            return null;
+        }
+        inUse.incrementAndGet();
+        acquiredCounter.increment();
+        return buffer;
+    }
+
+    /**
+     * Releases the buffer back to the pool.
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || buffer.capacity() != bufferSize) {
+            return;
+        }
+        buffer.clear();
+        inUse.decrementAndGet();
+        pool.offer(buffer);
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    int getMaxBuffers() {
+        return maxBuffers;
+    }
+
+    long getAcquiredCounter() {
+        return acquiredCounter.sum();
+    }
+
+    long getExhaustedCounter() {
+        return exhaustedCounter.sum();
+    }
+
+    long getUsedSize() {
+        return (long) inUse.get() * bufferSize;
+    }
+
+    long getAllocatedSize() {
+        return (long) allocated.get() * bufferSize;
+    }
+
+    void resetCounters() {
+        acquiredCounter.reset();
+        exhaustedCounter.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "DirectByteBufferPool[bufferSize=" + bufferSize + ", maxBuffers=" + maxBuffers + "]";
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.spi.UuidGenerator;
+
+/**
+ * A {@link UuidGenerator} which generates ids from a node prefix and a monotonic counter, such as
+ * <tt>ID-myhost-k2c6yq1m-1-42</tt>.
+ * <p/>
+ * The prefix is computed once (from the host name, the startup time and an instance number), and
+ * each id is written directly into an exact sized buffer, so generating an id does not need any
+ * string concatenation or intermediate builders. The ids are only unique within the lifetime of the JVM
+ * per prefix, the same as {@link DefaultUuidGenerator}.
+ */
+public class MonotonicUuidGenerator implements UuidGenerator {
+
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+    private static final String START = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final byte[] prefix;
+    // must use AtomicLong to ensure atomic get and update operation that is thread-safe
+    private final AtomicLong sequence = new AtomicLong(1);
+
+    public MonotonicUuidGenerator(String prefix) {
+        String seed = prefix + "-" + START + "-" + INSTANCE_COUNT.getAndIncrement() + "-";
+        // let the ID be friendly for URL and file systems
+        seed = DefaultUuidGenerator.generateSanitizedId(seed);
+        this.prefix = seed.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public MonotonicUuidGenerator() {
+        this("ID-" + DefaultUuidGenerator.getHostName());
+    }
+
+    public String generateUuid() {
+        long value = sequence.getAndIncrement();
+
+        int digits = 1;
+        for (long n = value; n >= 10; n /= 10) {
+            digits++;
+        }
+
+        byte[] buf = new byte[prefix.length + digits];
+        System.arraycopy(prefix, 0, buf, 0, prefix.length);
+        int pos = buf.length;
+        do {
+            buf[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+
+        return new String(buf, StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A pooled {@link ExchangeFactory} which recycles the exchanges that are {@link #release(Exchange) released}
+ * back to the factory.
+ * <p/>
+ * The pool is bounded by the {@link #setCapacity(int) capacity}; when the pool is empty a new exchange is created,
+ * and when the pool is full the released exchange is discarded.
+ * <p/>
+ * When {@link #setLeakDetectionEnabled(boolean) leak detection} is enabled, then the factory keeps track of the
+ * exchanges it has handed out to be released, which are the {@link #createReleasable(Endpoint, ExchangePattern)
+ * releasable} exchanges and the {@link #copy(Exchange) copies}, so it can report the exchanges whose
+ * {@link org.apache.camel.spi.UnitOfWork} has completed but were never released back to the factory. This has an overhead and is intended for testing and
+ * troubleshooting.
+ */
+public class PooledExchangeFactory extends ServiceSupport implements ExchangeFactory, CamelContextAware {
+
+    private final LongAdder createdCounter = new LongAdder();
+    private final LongAdder acquiredCounter = new LongAdder();
+    private final LongAdder releasedCounter = new LongAdder();
+    private final LongAdder discardedCounter = new LongAdder();
+    private final ConcurrentMap<Exchange, Long> inUse = new ConcurrentHashMap<>();
+    private final LeakDetector leakDetector = new LeakDetector();
+    private CamelContext camelContext;
+    private volatile BlockingQueue<DefaultExchange> pool;
+    private int capacity = 100;
+    private boolean leakDetectionEnabled;
+
+    public PooledExchangeFactory() {
+        this.pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The maximum number of exchanges to keep in the pool. The default value is 100.
+     */
+    public void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public boolean isLeakDetectionEnabled() {
+        return leakDetectionEnabled;
+    }
+
+    /**
+     * Whether to keep track of the exchanges handed out by the factory to detect the exchanges which have completed
+     * but were never released back to the factory. This has an overhead and is intended for testing and troubleshooting.
+     * This option should be configured before the factory is started.
+     */
+    public void setLeakDetectionEnabled(boolean leakDetectionEnabled) {
+        this.leakDetectionEnabled = leakDetectionEnabled;
+    }
+
+    @Override
+    public boolean isPooled() {
+        return true;
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, ExchangePattern pattern) {
+        DefaultExchange exchange = acquire();
+        if (exchange == null) {
+            exchange = new DefaultExchange(fromEndpoint, pattern);
+        } else {
+            exchange.setFromEndpoint(fromEndpoint);
+            exchange.setPattern(pattern);
+        }
+        return exchange;
+    }
+
+    @Override
+    public Exchange createReleasable(Endpoint fromEndpoint, ExchangePattern pattern) {
+        Exchange exchange = create(fromEndpoint, pattern);
+        track(exchange);
+        return exchange;
+    }
+
+    @Override
+    public Exchange copy(Exchange exchange) {
+        DefaultExchange target = exchange instanceof DefaultExchange ? acquire() : null;
+        Exchange answer;
+        if (target != null) {
+            answer = ((DefaultExchange) exchange).copyTo(target);
+        } else {
+            answer = exchange.copy();
+        }
+        track(answer);
+        return answer;
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        if (!(exchange instanceof DefaultExchange) || exchange.getContext() != camelContext) {
+            return false;
+        }
+        DefaultExchange target = (DefaultExchange) exchange;
+        if (!target.markReleased()) {
+            if (target.isDetached()) {
+                log.debug("Exchange: {} has been detached from the factory and is not recycled", exchange);
+            } else {
+                log.warn("Exchange: {} has already been released and is not recycled again", exchange);
+            }
+            return false;
+        }
+        if (leakDetectionEnabled && inUse.remove(exchange) == null) {
+            log.warn("Exchange: {} is not in use by this factory (it may already have been released) and is not recycled", exchange);
+            return false;
+        }
+
+        target.reset();
+        if (pool.offer(target)) {
+            releasedCounter.increment();
+            return true;
+        } else {
+            discardedCounter.increment();
+            return false;
+        }
+    }
+
+    @Override
+    public void detach(Exchange exchange) {
+        if (exchange instanceof DefaultExchange && ((DefaultExchange) exchange).markDetached() && leakDetectionEnabled) {
+            // the exchange is no longer expected to be released
+            inUse.remove(exchange);
+        }
+    }
+
+    /**
+     * Number of exchanges created because the pool was empty
+     */
+    public long getCreatedCounter() {
+        return createdCounter.sum();
+    }
+
+    /**
+     * Number of exchanges which have been reused from the pool
+     */
+    public long getAcquiredCounter() {
+        return acquiredCounter.sum();
+    }
+
+    /**
+     * Number of exchanges which have been released back to the pool
+     */
+    public long getReleasedCounter() {
+        return releasedCounter.sum();
+    }
+
+    /**
+     * Number of exchanges which were released but discarded because the pool was full
+     */
+    public long getDiscardedCounter() {
+        return discardedCounter.sum();
+    }
+
+    /**
+     * Current number of exchanges in the pool
+     */
+    public int getPoolSize() {
+        return pool.size();
+    }
+
+    /**
+     * Number of exchanges handed out by the factory to be released, which have not been released yet (only tracked when leak detection is enabled)
+     */
+    public int getInUseSize() {
+        return inUse.size();
+    }
+
+    /**
+     * Number of exchanges whose unit of work has completed but have not been released yet (only tracked when leak detection is enabled)
+     */
+    public int getLeakedSize() {
+        int answer = 0;
+        for (Long completed : inUse.values()) {
+            if (completed > 0) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        createdCounter.reset();
+        acquiredCounter.reset();
+        releasedCounter.reset();
+        discardedCounter.reset();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // noop
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        pool.clear();
+        if (leakDetectionEnabled) {
+            int leaked = 0;
+            for (Map.Entry<Exchange, Long> entry : inUse.entrySet()) {
+                if (entry.getValue() > 0) {
+                    leaked++;
+                    log.warn("Leak detected: Exchange: {} has completed but was not released back to the factory", entry.getKey());
+                }
+            }
+            if (leaked > 0) {
+                log.warn("Leak detected: {} exchanges have completed but were not released back to the factory", leaked);
+            }
+            inUse.clear();
+        }
+    }
+
+    private DefaultExchange acquire() {
+        DefaultExchange exchange = pool.poll();
+        if (exchange != null) {
+            exchange.markAcquired();
+            acquiredCounter.increment();
+        } else {
+            createdCounter.increment();
+        }
+        return exchange;
+    }
+
+    private void track(Exchange exchange) {
+        if (leakDetectionEnabled) {
+            inUse.put(exchange, 0L);
+            exchange.addOnCompletion(leakDetector);
+        }
+    }
+
+    /**
+     * Marks the time when the exchanges in use have completed
+     */
+    private final class LeakDetector extends SynchronizationAdapter {
+
+        @Override
+        public void onDone(Exchange exchange) {
+            inUse.replace(exchange, 0L, System.currentTimeMillis());
+        }
+
+        @Override
+        public boolean allowHandover() {
+            // must stay on the exchange handed out by the factory
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "PooledExchangeFactoryLeakDetector";
+        }
+    }
+
+}
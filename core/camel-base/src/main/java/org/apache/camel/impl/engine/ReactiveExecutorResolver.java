@@ -32,6 +32,13 @@ public class ReactiveExecutorResolver {
 
     public static final String RESOURCE_PATH = "META-INF/services/org/apache/camel/";
 
+    /**
+     * Global option to select one of the built-in reactive executors, which is used if no custom
+     * implementation has been found. Use <tt>ring-buffer</tt> for {@link RingBufferReactiveExecutor}
+     * or <tt>default</tt> for {@link DefaultReactiveExecutor}.
+     */
+    public static final String REACTIVE_EXECUTOR = "CamelReactiveExecutor";
+
     private static final Logger LOG = LoggerFactory.getLogger(ReactiveExecutorResolver.class);
 
     private FactoryFinder factoryFinder;
@@ -58,6 +65,14 @@ public class ReactiveExecutorResolver {
             }
         }
 
+        String name = context.getGlobalOption(REACTIVE_EXECUTOR);
+        if ("ring-buffer".equals(name)) {
+            LOG.debug("Creating RingBufferReactiveExecutor");
+            return new RingBufferReactiveExecutor();
+        } else if (name != null && !"default".equals(name)) {
+            throw new IllegalArgumentException("Unknown ReactiveExecutor: " + name + " configured in global option: " + REACTIVE_EXECUTOR);
+        }
+
         // fallback to default
         LOG.debug("Creating default ReactiveExecutor");
         return new DefaultReactiveExecutor();
@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which keeps the pending tasks of each thread in array based ring buffers.
+ * <p/>
+ * This executor has the same semantics as {@link DefaultReactiveExecutor}, but the ring buffers
+ * (and the stack of ring buffers used when scheduling main tasks) are reused by each thread, and callbacks
+ * are queued as-is instead of being wrapped in a {@link Runnable}, so the common schedule and run cycle
+ * does not allocate any objects. The statistics are kept per worker so there is no contention on shared counters,
+ * and are calculated from the workers when requested.
+ * <p/>
+ * The tasks are always run by the thread which scheduled them (they are not handed over to other threads),
+ * as the continuations of the routing engine may depend on thread bound state such as transactions.
+ */
+@ManagedResource(description = "Managed RingBufferReactiveExecutor")
+public class RingBufferReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RingBufferReactiveExecutor.class);
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::createWorker);
+    // keep track of the workers for statistics, the workers are removed when their thread is garbage collected
+    private final Set<Worker> allWorkers = Collections.newSetFromMap(new WeakHashMap<>());
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+
+    @Override
+    public void scheduleMain(Runnable runnable, String description) {
+        workers.get().schedule(describe(runnable, description), true, true, false);
+    }
+
+    @Override
+    public void schedule(Runnable runnable, String description) {
+        workers.get().schedule(describe(runnable, description), true, false, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable, String description) {
+        workers.get().schedule(describe(runnable, description), false, true, true);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    public void callback(AsyncCallback callback) {
+        // the callback is queued as-is to avoid wrapping it in a runnable
+        workers.get().schedule(callback, true, false, false);
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        int answer = 0;
+        for (Worker worker : workers()) {
+            if (worker.running) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public long getPendingTasks() {
+        long answer = 0;
+        for (Worker worker : workers()) {
+            answer += worker.pending;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Highest number of pending tasks any worker has had queued")
+    public int getMaxQueueDepth() {
+        int answer = 0;
+        for (Worker worker : workers()) {
+            answer = Math.max(answer, worker.maxPending);
+        }
+        return answer;
+    }
+
+    @ManagedOperation(description = "Lists the current and highest queue depth of each worker")
+    public List<String> listQueueDepths() {
+        List<String> answer = new ArrayList<>();
+        for (Worker worker : workers()) {
+            answer.add(worker.name + ": pending=" + worker.pending + ", max=" + worker.maxPending);
+        }
+        return answer;
+    }
+
+    private Worker createWorker() {
+        createdWorkers.incrementAndGet();
+        Worker worker = new Worker(Thread.currentThread().getName());
+        synchronized (allWorkers) {
+            allWorkers.add(worker);
+        }
+        return worker;
+    }
+
+    private List<Worker> workers() {
+        synchronized (allWorkers) {
+            return new ArrayList<>(allWorkers);
+        }
+    }
+
+    private static Runnable describe(Runnable runnable, String description) {
+        // the description is only used for logging so avoid creating the wrapper if not needed
+        if (description == null || !LOG.isDebugEnabled()) {
+            return runnable;
+        }
+        return new Runnable() {
+            @Override
+            public void run() {
+                runnable.run();
+            }
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // noop
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // noop
+    }
+
+    private static final class Worker {
+
+        private final String name;
+        // stack of queues where the current queue is at the top, a main task parks the current queue
+        // until the new queue has been drained
+        private TaskQueue[] queues = {new TaskQueue()};
+        private int top;
+        private boolean running;
+        // statistics which are read by other threads
+        private volatile int pending;
+        private volatile int maxPending;
+
+        Worker(String name) {
+            this.name = name;
+        }
+
+        void schedule(Object task, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, task);
+            }
+            if (main && !queues[top].isEmpty()) {
+                if (++top == queues.length) {
+                    queues = Arrays.copyOf(queues, top * 2);
+                }
+                if (queues[top] == null) {
+                    queues[top] = new TaskQueue();
+                }
+            }
+            if (first) {
+                queues[top].addFirst(task);
+            } else {
+                queues[top].addLast(task);
+            }
+            int size = pending + 1;
+            pending = size;
+            if (size > maxPending) {
+                maxPending = size;
+            }
+            if (!running || sync) {
+                running = true;
+                try {
+                    for (;;) {
+                        final Object polled = queues[top].poll();
+                        if (polled == null) {
+                            if (top > 0) {
+                                top--;
+                                continue;
+                            } else {
+                                break;
+                            }
+                        }
+                        pending--;
+                        run(polled);
+                    }
+                } finally {
+                    running = false;
+                }
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Queuing reactive work: {}", task);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Object polled = queues[top].poll();
+            if (polled == null) {
+                return false;
+            }
+            pending--;
+            run(polled);
+            return true;
+        }
+
+        private static void run(Object task) {
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", task);
+                }
+                if (task instanceof Runnable) {
+                    ((Runnable) task).run();
+                } else {
+                    ((AsyncCallback) task).done(false);
+                }
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to " + t.getMessage() + ". This exception is ignored.", t);
+            }
+        }
+    }
+
+    /**
+     * A growable ring buffer of tasks which supports adding at both ends and polling from the head.
+     */
+    private static final class TaskQueue {
+
+        private Object[] elements = new Object[INITIAL_CAPACITY];
+        private int head;
+        private int tail;
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        void addFirst(Object task) {
+            head = (head - 1) & (elements.length - 1);
+            elements[head] = task;
+            if (head == tail) {
+                grow();
+            }
+        }
+
+        void addLast(Object task) {
+            elements[tail] = task;
+            tail = (tail + 1) & (elements.length - 1);
+            if (head == tail) {
+                grow();
+            }
+        }
+
+        Object poll() {
+            if (head == tail) {
+                return null;
+            }
+            Object task = elements[head];
+            elements[head] = null;
+            head = (head + 1) & (elements.length - 1);
+            return task;
+        }
+
+        private void grow() {
+            // the buffer is full (head has caught up with tail) so double the capacity
+            int size = elements.length;
+            int right = size - head;
+            Object[] copy = new Object[size * 2];
+            System.arraycopy(elements, head, copy, 0, right);
+            System.arraycopy(elements, 0, copy, right, head);
+            elements = copy;
+            head = 0;
+            tail = size;
+        }
+    }
+
+}
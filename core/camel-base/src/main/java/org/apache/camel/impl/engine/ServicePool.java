@@ -20,6 +20,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -40,6 +43,12 @@ import org.slf4j.LoggerFactory;
  * (the capacity) services. The pool can contain an unbounded number of keys.
  * <p/>
  * By default the capacity is set to 100.
+ * <p/>
+ * The services are tracked in a LRU cache, so the least recently used services are evicted and stopped
+ * when the capacity is exceeded. The LRU cache can be split into a number of shards, each with its share
+ * of the capacity, to reduce contention when many threads acquire services for many different keys.
+ * And an {@link #setStopExecutor(Executor) executor} can be configured to stop the evicted services
+ * asynchronously, so stopping a service does not happen on the thread that acquired another service.
  */
 public class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -49,7 +58,13 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
     final Function<S, Endpoint> getEndpoint;
     final ConcurrentHashMap<Endpoint, Pool<S>> pool = new ConcurrentHashMap<>();
     int capacity;
-    Map<Key<S>, S> cache;
+    Map<Key<S>, S>[] cache;
+    Executor stopExecutor;
+    boolean statisticsEnabled;
+    final LongAdder hitTime = new LongAdder();
+    final LongAdder missTime = new LongAdder();
+    final LongAdder evictionTime = new LongAdder();
+    final LongAdder evictionCount = new LongAdder();
 
     interface Pool<S> {
         S acquire() throws Exception;
@@ -75,10 +90,46 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
     }
 
     public ServicePool(ThrowingFunction<Endpoint, S, Exception> producer, Function<S, Endpoint> getEndpoint, int capacity) {
+        this(producer, getEndpoint, capacity, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ServicePool(ThrowingFunction<Endpoint, S, Exception> producer, Function<S, Endpoint> getEndpoint, int capacity, int shards) {
         this.producer = producer;
         this.getEndpoint = getEndpoint;
         this.capacity = capacity;
-        this.cache = capacity > 0 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
+        if (capacity > 0) {
+            // each shard has its share of the capacity (but at least one)
+            int count = Math.max(1, Math.min(shards, capacity));
+            int shardCapacity = (capacity + count - 1) / count;
+            this.cache = new Map[count];
+            for (int i = 0; i < count; i++) {
+                this.cache[i] = LRUCacheFactory.newLRUCache(shardCapacity, this::onEvict);
+            }
+        }
+    }
+
+    public Executor getStopExecutor() {
+        return stopExecutor;
+    }
+
+    /**
+     * Sets an executor to stop the evicted services asynchronously, instead of stopping them on the thread
+     * which caused the eviction.
+     */
+    public void setStopExecutor(Executor stopExecutor) {
+        this.stopExecutor = stopExecutor;
+    }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    /**
+     * Whether to gather the time taken to acquire services (for cache hits and misses) and to stop evicted services.
+     */
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
     }
 
     protected void onEvict(S s) {
@@ -89,6 +140,16 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
         }
     }
 
+    private Map<Key<S>, S> cacheFor(Key<S> key) {
+        if (cache.length == 1) {
+            return cache[0];
+        }
+        int h = key.hashCode();
+        // spread the bits as the hash code of the services may not be well distributed
+        h ^= h >>> 16;
+        return cache[(h & Integer.MAX_VALUE) % cache.length];
+    }
+
     /**
      * Tries to acquire the service with the given key
      *
@@ -99,9 +160,19 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
         if (!isStarted()) {
             return null;
         }
+        long start = statisticsEnabled ? System.nanoTime() : 0;
         S s = getPool(endpoint).acquire();
         if (s != null && cache != null) {
-            cache.putIfAbsent(new Key<>(s), s);
+            Key<S> key = new Key<>(s);
+            S existing = cacheFor(key).putIfAbsent(key, s);
+            if (statisticsEnabled) {
+                long delta = System.nanoTime() - start;
+                if (existing != null) {
+                    hitTime.add(delta);
+                } else {
+                    missTime.add(delta);
+                }
+            }
         }
         return s;
     }
@@ -157,49 +228,109 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
     }
 
     public void cleanUp() {
-        if (cache instanceof LRUCache) {
-            ((LRUCache) cache).cleanUp();
+        if (cache != null) {
+            for (Map<Key<S>, S> shard : cache) {
+                if (shard instanceof LRUCache) {
+                    ((LRUCache) shard).cleanUp();
+                }
+            }
         }
     }
 
     public void resetStatistics() {
-        if (cache instanceof LRUCache) {
-            ((LRUCache) cache).resetStatistics();
+        if (cache != null) {
+            for (Map<Key<S>, S> shard : cache) {
+                if (shard instanceof LRUCache) {
+                    ((LRUCache) shard).resetStatistics();
+                }
+            }
         }
+        hitTime.reset();
+        missTime.reset();
+        evictionTime.reset();
+        evictionCount.reset();
     }
 
     public long getEvicted() {
-        if (cache instanceof LRUCache) {
-            return ((LRUCache) cache).getEvicted();
+        if (cache != null && cache[0] instanceof LRUCache) {
+            long answer = 0;
+            for (Map<Key<S>, S> shard : cache) {
+                answer += ((LRUCache) shard).getEvicted();
+            }
+            return answer;
         } else {
             return -1;
         }
     }
 
     public long getMisses() {
-        if (cache instanceof LRUCache) {
-            return ((LRUCache) cache).getMisses();
+        if (cache != null && cache[0] instanceof LRUCache) {
+            long answer = 0;
+            for (Map<Key<S>, S> shard : cache) {
+                answer += ((LRUCache) shard).getMisses();
+            }
+            return answer;
         } else {
             return -1;
         }
     }
 
     public long getHits() {
-        if (cache instanceof LRUCache) {
-            return ((LRUCache) cache).getHits();
+        if (cache != null && cache[0] instanceof LRUCache) {
+            long answer = 0;
+            for (Map<Key<S>, S> shard : cache) {
+                answer += ((LRUCache) shard).getHits();
+            }
+            return answer;
         } else {
             return -1;
         }
     }
 
     public int getMaxCacheSize() {
-        if (cache instanceof LRUCache) {
-            return ((LRUCache) cache).getMaxCacheSize();
+        if (cache != null && cache[0] instanceof LRUCache) {
+            int answer = 0;
+            for (Map<Key<S>, S> shard : cache) {
+                answer += ((LRUCache) shard).getMaxCacheSize();
+            }
+            return answer;
         } else {
             return -1;
         }
     }
 
+    /**
+     * Number of shards of the LRU cache
+     */
+    public int getShards() {
+        return cache != null ? cache.length : 0;
+    }
+
+    /**
+     * Average time in nanos to acquire a service which was already cached (only gathered when statistics is enabled)
+     */
+    public long getMeanHitTime() {
+        long hits = getHits();
+        return hits > 0 ? hitTime.sum() / hits : 0;
+    }
+
+    /**
+     * Average time in nanos to acquire a service which was not cached, and therefore had to be created
+     * (only gathered when statistics is enabled)
+     */
+    public long getMeanMissTime() {
+        long misses = getMisses();
+        return misses > 0 ? missTime.sum() / misses : 0;
+    }
+
+    /**
+     * Average time in nanos to stop an evicted service (only gathered when statistics is enabled)
+     */
+    public long getMeanEvictionTime() {
+        long count = evictionCount.sum();
+        return count > 0 ? evictionTime.sum() / count : 0;
+    }
+
     static <S extends Service> void stop(S s) {
         try {
             s.stop();
@@ -208,6 +339,31 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
         }
     }
 
+    /**
+     * Stops the evicted service, using the stop executor if configured
+     */
+    void stopEvicted(Runnable task) {
+        Runnable timed = task;
+        if (statisticsEnabled) {
+            timed = () -> {
+                long start = System.nanoTime();
+                task.run();
+                evictionTime.add(System.nanoTime() - start);
+                evictionCount.increment();
+            };
+        }
+        Executor executor = stopExecutor;
+        if (executor != null) {
+            try {
+                executor.execute(timed);
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Cannot stop evicted service asynchronously, will stop the service synchronously", e);
+            }
+        }
+        timed.run();
+    }
+
     private class SinglePool implements Pool<S> {
         private final Endpoint endpoint;
         private volatile S s;
@@ -253,9 +409,11 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
             synchronized (this) {
                 if (this.s == s) {
                     this.s = null;
+                    // remove the empty pool so the pool does not keep growing when the keys churn
+                    pool.remove(endpoint, this);
                 }
             }
-            doStop(s);
+            stopEvicted(() -> doStop(s));
         }
 
         void doStop(S s) {
@@ -311,7 +469,7 @@ public class ServicePool<S extends Service> extends ServiceSupport implements No
         @Override
         public void evict(S s) {
             queue.remove(s);
-            ServicePool.stop(s);
+            stopEvicted(() -> ServicePool.stop(s));
         }
     }
 
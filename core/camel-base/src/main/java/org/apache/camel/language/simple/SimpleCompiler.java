@@ -0,0 +1,694 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.CompositeNodes;
+import org.apache.camel.language.simple.ast.DoubleQuoteStart;
+import org.apache.camel.language.simple.ast.LiteralExpression;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.NullExpression;
+import org.apache.camel.language.simple.ast.SimpleFunctionStart;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.ast.SingleQuoteStart;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.TypeConverterCallSite;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.support.builder.PredicateBuilder;
+
+/**
+ * Compiles the AST of a parsed simple expression or predicate into a tree of specialized nodes,
+ * which evaluates without re-creating intermediate predicates, failure messages and type conversions
+ * on every evaluation as the interpreted AST does.
+ * <p/>
+ * The common constructs such as literals, <tt>${body}</tt>, <tt>${header.xxx}</tt>, <tt>${exchangeProperty.xxx}</tt>,
+ * the comparison, equality, contains, starts/ends with operators and the logical <tt>&&</tt> and <tt>||</tt> operators
+ * are compiled. Any other construct (OGNL, bean, file functions, unary operators, regex, range etc.) falls back to
+ * the interpreted {@link Expression} created by the AST node itself, so the result is always the same.
+ */
+public final class SimpleCompiler {
+
+    // a plain header/property key without OGNL, nested functions or quotes
+    private static final Pattern PLAIN_KEY = Pattern.compile("[a-zA-Z0-9_\\-]+");
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the nodes of a parsed simple predicate.
+     *
+     * @param expression the input string
+     * @param nodes      the AST nodes after all the blocks, unary, binary and logical expressions has been prepared
+     * @return the compiled predicate
+     */
+    public static Predicate compilePredicate(String expression, List<SimpleNode> nodes) {
+        List<Predicate> predicates = new ArrayList<>(nodes.size());
+        for (SimpleNode node : nodes) {
+            CompiledNode compiled = compile(expression, node);
+            if (compiled != null) {
+                predicates.add(compiled);
+            }
+        }
+        if (predicates.isEmpty()) {
+            // return a false predicate as response as there was nothing to parse
+            return PredicateBuilder.constant(false);
+        } else if (predicates.size() == 1) {
+            return predicates.get(0);
+        } else {
+            return PredicateBuilder.and(predicates);
+        }
+    }
+
+    /**
+     * Compiles the nodes of a parsed simple expression.
+     *
+     * @param expression the input string
+     * @param nodes      the AST nodes after all the blocks and unary expressions has been prepared
+     * @return the compiled expression
+     */
+    public static Expression compileExpression(String expression, List<SimpleNode> nodes) {
+        List<CompiledNode> expressions = new ArrayList<>(nodes.size());
+        for (SimpleNode node : nodes) {
+            CompiledNode compiled = compile(expression, node);
+            if (compiled != null) {
+                expressions.add(compiled);
+            }
+        }
+        if (expressions.isEmpty()) {
+            // return an empty string as response as there was nothing to parse
+            return new ConstantNode("", "");
+        } else if (expressions.size() == 1) {
+            return expressions.get(0);
+        } else {
+            // concat expressions as evaluating an expression is like a template language
+            return new ConcatNode(expression, expressions);
+        }
+    }
+
+    /**
+     * Creates an expression which converts the result of the expression to the given type.
+     * <p/>
+     * If the expression is compiled then the type converter to use is cached, to avoid
+     * looking up the type converter on every evaluation.
+     *
+     * @param expression the expression
+     * @param type       the type to convert to
+     * @return the expression which converts the result
+     */
+    public static Expression compileConvertTo(Expression expression, Class<?> type) {
+        if (expression instanceof CompiledNode && !(expression instanceof InterpretedNode)) {
+            return new ConvertNode((CompiledNode) expression, type);
+        }
+        return ExpressionBuilder.convertToExpression(expression, type);
+    }
+
+    private static CompiledNode compile(String expression, SimpleNode node) {
+        if (node instanceof LiteralExpression) {
+            String text = ((LiteralExpression) node).getText();
+            return new ConstantNode(text, text);
+        } else if (node instanceof NullExpression) {
+            return new ConstantNode("null", null);
+        } else if (node instanceof SingleQuoteStart) {
+            return compileQuoted(expression, node, ((SingleQuoteStart) node).getBlock());
+        } else if (node instanceof DoubleQuoteStart) {
+            return compileQuoted(expression, node, ((DoubleQuoteStart) node).getBlock());
+        } else if (node instanceof SimpleFunctionStart) {
+            CompiledNode answer = compileFunction(node, ((SimpleFunctionStart) node).getBlock());
+            if (answer != null) {
+                return answer;
+            }
+        } else if (node instanceof BinaryExpression) {
+            CompiledNode answer = compileBinary(expression, (BinaryExpression) node);
+            if (answer != null) {
+                return answer;
+            }
+        } else if (node instanceof LogicalExpression) {
+            LogicalExpression logical = (LogicalExpression) node;
+            CompiledNode left = compile(expression, logical.getLeft());
+            CompiledNode right = compile(expression, logical.getRight());
+            if (left != null && right != null) {
+                if (logical.getOperator() == LogicalOperatorType.AND) {
+                    return new AndNode(node.toString(), left, right);
+                } else if (logical.getOperator() == LogicalOperatorType.OR) {
+                    return new OrNode(node.toString(), left, right);
+                }
+            }
+        }
+
+        // not supported so fallback to use the interpreted expression
+        Expression exp = node.createExpression(expression);
+        return exp != null ? new InterpretedNode(exp) : null;
+    }
+
+    private static CompiledNode compileQuoted(String expression, SimpleNode node, CompositeNodes block) {
+        List<SimpleNode> children = block.getChildren();
+        if (children.isEmpty()) {
+            // the quoted literal is empty
+            return new ConstantNode(node.toString(), "");
+        } else if (children.size() == 1) {
+            return compile(expression, children.get(0));
+        }
+        List<CompiledNode> answer = new ArrayList<>(children.size());
+        for (SimpleNode child : children) {
+            CompiledNode compiled = compile(expression, child);
+            if (compiled == null) {
+                // fallback to use the interpreted block
+                Expression exp = node.createExpression(expression);
+                return exp != null ? new InterpretedNode(exp) : null;
+            }
+            answer.add(compiled);
+        }
+        return new ConcatNode(node.toString(), answer);
+    }
+
+    private static CompiledNode compileFunction(SimpleNode node, CompositeNodes block) {
+        if (block.getChildren().size() != 1 || !(block.getChildren().get(0) instanceof LiteralNode)) {
+            // nested functions are evaluated dynamically
+            return null;
+        }
+        String function = ((LiteralNode) block.getChildren().get(0)).getText();
+        if ("body".equals(function) || "in.body".equals(function)) {
+            return new BodyNode(node.toString());
+        }
+        String key = plainKey(function, "in.headers.", "in.header.", "headers.", "header.");
+        if (key != null) {
+            return new HeaderNode(node.toString(), key);
+        }
+        key = plainKey(function, "exchangeProperty.");
+        if (key != null) {
+            return new PropertyNode(node.toString(), key);
+        }
+        return null;
+    }
+
+    private static String plainKey(String function, String... prefixes) {
+        for (String prefix : prefixes) {
+            if (function.startsWith(prefix)) {
+                String key = function.substring(prefix.length());
+                return PLAIN_KEY.matcher(key).matches() ? key : null;
+            }
+        }
+        return null;
+    }
+
+    private static CompiledNode compileBinary(String expression, BinaryExpression binary) {
+        BinaryOperatorType operator = binary.getOperator();
+        if (!isCompilable(operator)) {
+            return null;
+        }
+        CompiledNode left = compile(expression, binary.getLeft());
+        CompiledNode right = compile(expression, binary.getRight());
+        if (left == null || right == null) {
+            return null;
+        }
+
+        String text = binary.toString();
+        switch (operator) {
+        case EQ:
+            return new EqualsNode(text, left, right, false, false);
+        case EQ_IGNORE:
+            return new EqualsNode(text, left, right, true, false);
+        case NOT_EQ:
+            return new EqualsNode(text, left, right, false, true);
+        case NOT_EQ_IGNORE:
+            return new EqualsNode(text, left, right, true, true);
+        case CONTAINS:
+            return new ContainsNode(text, left, right, false, false);
+        case NOT_CONTAINS:
+            return new ContainsNode(text, left, right, false, true);
+        case CONTAINS_IGNORECASE:
+            return new ContainsNode(text, left, right, true, false);
+        case NOT_CONTAINS_IGNORECASE:
+            return new ContainsNode(text, left, right, true, true);
+        case STARTS_WITH:
+            return new StartsWithNode(text, left, right, true);
+        case ENDS_WITH:
+            return new StartsWithNode(text, left, right, false);
+        default:
+            return new CompareNode(text, left, right, operator);
+        }
+    }
+
+    private static boolean isCompilable(BinaryOperatorType operator) {
+        switch (operator) {
+        case EQ:
+        case EQ_IGNORE:
+        case NOT_EQ:
+        case NOT_EQ_IGNORE:
+        case GT:
+        case GTE:
+        case LT:
+        case LTE:
+        case CONTAINS:
+        case NOT_CONTAINS:
+        case CONTAINS_IGNORECASE:
+        case NOT_CONTAINS_IGNORECASE:
+        case STARTS_WITH:
+        case ENDS_WITH:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Base class for the compiled nodes which are both an {@link Expression} and a {@link Predicate}.
+     */
+    abstract static class CompiledNode implements Expression, Predicate {
+
+        private final String text;
+
+        CompiledNode(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Evaluates the node and returns the value as-is without any type conversion
+         */
+        abstract Object evaluate(Exchange exchange);
+
+        @Override
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            Object value = evaluate(exchange);
+            if (type == Object.class || type.isInstance(value)) {
+                return type.cast(value);
+            }
+            return exchange.getContext().getTypeConverter().convertTo(type, exchange, value);
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            return org.apache.camel.util.ObjectHelper.evaluateValuePredicate(evaluate(exchange));
+        }
+
+        boolean isConstant() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Base class for the compiled nodes which results in a boolean.
+     */
+    abstract static class CompiledPredicate extends CompiledNode {
+
+        CompiledPredicate(String text) {
+            super(text);
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            return matches(exchange);
+        }
+
+        @Override
+        public abstract boolean matches(Exchange exchange);
+    }
+
+    static final class InterpretedNode extends CompiledNode {
+
+        private final Expression expression;
+
+        InterpretedNode(Expression expression) {
+            super(expression.toString());
+            this.expression = expression;
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            return expression.evaluate(exchange, Object.class);
+        }
+
+        @Override
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            return expression.evaluate(exchange, type);
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            if (expression instanceof Predicate) {
+                return ((Predicate) expression).matches(exchange);
+            }
+            return super.matches(exchange);
+        }
+    }
+
+    static final class ConstantNode extends CompiledNode {
+
+        private final Object value;
+        private final boolean matches;
+
+        ConstantNode(String text, Object value) {
+            super(text);
+            this.value = value;
+            this.matches = org.apache.camel.util.ObjectHelper.evaluateValuePredicate(value);
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            return value;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            return matches;
+        }
+
+        @Override
+        boolean isConstant() {
+            return true;
+        }
+    }
+
+    static final class BodyNode extends CompiledNode {
+
+        BodyNode(String text) {
+            super(text);
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            return exchange.getIn().getBody();
+        }
+    }
+
+    static final class HeaderNode extends CompiledNode {
+
+        private final String name;
+
+        HeaderNode(String text, String name) {
+            super(text);
+            this.name = name;
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            Object header = exchange.getIn().getHeader(name);
+            if (header == null) {
+                // fall back on a property
+                header = exchange.getProperty(name);
+            }
+            return header;
+        }
+    }
+
+    static final class PropertyNode extends CompiledNode {
+
+        private final String name;
+
+        PropertyNode(String text, String name) {
+            super(text);
+            this.name = name;
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            return exchange.getProperty(name);
+        }
+    }
+
+    static final class ConcatNode extends CompiledNode {
+
+        private final CompiledNode[] nodes;
+        private final TypeConverterCallSite<String>[] converters;
+
+        @SuppressWarnings("unchecked")
+        ConcatNode(String text, List<CompiledNode> nodes) {
+            super(text);
+            this.nodes = nodes.toArray(new CompiledNode[0]);
+            this.converters = new TypeConverterCallSite[this.nodes.length];
+            for (int i = 0; i < converters.length; i++) {
+                converters[i] = new TypeConverterCallSite<>(String.class);
+            }
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            StringBuilder buffer = new StringBuilder();
+            for (int i = 0; i < nodes.length; i++) {
+                CompiledNode node = nodes[i];
+                String text;
+                if (node instanceof InterpretedNode) {
+                    text = node.evaluate(exchange, String.class);
+                } else {
+                    text = converters[i].convertTo(exchange, node.evaluate(exchange));
+                }
+                if (text != null) {
+                    buffer.append(text);
+                }
+            }
+            return buffer.toString();
+        }
+    }
+
+    static final class ConvertNode extends CompiledNode {
+
+        private final CompiledNode node;
+        private final TypeConverterCallSite<?> converter;
+
+        ConvertNode(CompiledNode node, Class<?> type) {
+            super(node.toString());
+            this.node = node;
+            this.converter = new TypeConverterCallSite<>(type);
+        }
+
+        @Override
+        Object evaluate(Exchange exchange) {
+            return converter.convertTo(exchange, node.evaluate(exchange));
+        }
+    }
+
+    static final class AndNode extends CompiledPredicate {
+
+        private final CompiledNode left;
+        private final CompiledNode right;
+
+        AndNode(String text, CompiledNode left, CompiledNode right) {
+            super(text);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            return left.matches(exchange) && right.matches(exchange);
+        }
+    }
+
+    static final class OrNode extends CompiledPredicate {
+
+        private final CompiledNode left;
+        private final CompiledNode right;
+
+        OrNode(String text, CompiledNode left, CompiledNode right) {
+            super(text);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            return left.matches(exchange) || right.matches(exchange);
+        }
+    }
+
+    static final class EqualsNode extends CompiledPredicate {
+
+        private final CompiledNode left;
+        private final CompiledNode right;
+        private final boolean ignoreCase;
+        private final boolean negate;
+
+        EqualsNode(String text, CompiledNode left, CompiledNode right, boolean ignoreCase, boolean negate) {
+            super(text);
+            this.left = left;
+            this.right = right;
+            this.ignoreCase = ignoreCase;
+            this.negate = negate;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = left.evaluate(exchange);
+            Object rightValue = right.evaluate(exchange);
+            boolean answer;
+            if (leftValue == null || rightValue == null) {
+                // they are only equal if both are null
+                answer = leftValue == rightValue;
+            } else {
+                answer = ObjectHelper.typeCoerceEquals(exchange.getContext().getTypeConverter(), leftValue, rightValue, ignoreCase);
+            }
+            return negate != answer;
+        }
+    }
+
+    static final class ContainsNode extends CompiledPredicate {
+
+        private final CompiledNode left;
+        private final CompiledNode right;
+        private final boolean ignoreCase;
+        private final boolean negate;
+
+        ContainsNode(String text, CompiledNode left, CompiledNode right, boolean ignoreCase, boolean negate) {
+            super(text);
+            this.left = left;
+            this.right = right;
+            this.ignoreCase = ignoreCase;
+            this.negate = negate;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = left.evaluate(exchange);
+            Object rightValue = right.evaluate(exchange);
+            boolean answer;
+            if (leftValue == null || rightValue == null) {
+                // they are only equal if both are null
+                answer = leftValue == rightValue;
+            } else if (ignoreCase) {
+                answer = ObjectHelper.containsIgnoreCase(leftValue, rightValue);
+            } else {
+                answer = ObjectHelper.contains(leftValue, rightValue);
+            }
+            return negate != answer;
+        }
+    }
+
+    static final class StartsWithNode extends CompiledPredicate {
+
+        private final CompiledNode left;
+        private final CompiledNode right;
+        private final boolean startsWith;
+
+        StartsWithNode(String text, CompiledNode left, CompiledNode right, boolean startsWith) {
+            super(text);
+            this.left = left;
+            this.right = right;
+            this.startsWith = startsWith;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = left.evaluate(exchange);
+            Object rightValue = right.evaluate(exchange);
+            if (leftValue == null || rightValue == null) {
+                // they are only equal if both are null
+                return leftValue == rightValue;
+            }
+            TypeConverter converter = exchange.getContext().getTypeConverter();
+            String leftStr = converter.convertTo(String.class, leftValue);
+            String rightStr = converter.convertTo(String.class, rightValue);
+            if (leftStr != null && rightStr != null) {
+                return startsWith ? leftStr.startsWith(rightStr) : leftStr.endsWith(rightStr);
+            } else {
+                return false;
+            }
+        }
+    }
+
+    static final class CompareNode extends CompiledPredicate {
+
+        private final CompiledNode left;
+        private final CompiledNode right;
+        private final BinaryOperatorType operator;
+        // the right hand side converted to a number, if its a constant
+        private volatile NumericConstant numeric;
+
+        CompareNode(String text, CompiledNode left, CompiledNode right, BinaryOperatorType operator) {
+            super(text);
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = left.evaluate(exchange);
+            Object rightValue = right.evaluate(exchange);
+            if (leftValue == null || rightValue == null) {
+                // they are equal if both are null
+                return leftValue == rightValue && operator != BinaryOperatorType.GT;
+            }
+            int num = compare(exchange.getContext().getTypeConverter(), leftValue, rightValue);
+            switch (operator) {
+            case GT:
+                return num > 0;
+            case GTE:
+                return num >= 0;
+            case LT:
+                return num < 0;
+            default:
+                return num <= 0;
+            }
+        }
+
+        private int compare(TypeConverter converter, Object leftValue, Object rightValue) {
+            if (right.isConstant()) {
+                // the right hand side is constant so we only need to convert it once to a number,
+                // and then we can compare numbers without using the generic type coercion
+                NumericConstant constant = numeric;
+                if (constant == null || constant.converter != converter) {
+                    constant = new NumericConstant(converter, converter.tryConvertTo(Long.class, rightValue));
+                    numeric = constant;
+                }
+                if (constant.value != null) {
+                    Long leftNum = toLong(converter, leftValue);
+                    if (leftNum != null) {
+                        return leftNum.compareTo(constant.value);
+                    }
+                }
+            }
+            return ObjectHelper.typeCoerceCompare(converter, leftValue, rightValue);
+        }
+
+        private static Long toLong(TypeConverter converter, Object value) {
+            if (value instanceof Long) {
+                return (Long) value;
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            }
+            return converter.tryConvertTo(Long.class, value);
+        }
+    }
+
+    private static final class NumericConstant {
+
+        private final TypeConverter converter;
+        private final Long value;
+
+        NumericConstant(TypeConverter converter, Long value) {
+            this.converter = converter;
+            this.value = value;
+        }
+    }
+
+}
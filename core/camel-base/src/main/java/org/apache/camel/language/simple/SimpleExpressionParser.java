@@ -42,12 +42,21 @@ public class SimpleExpressionParser extends BaseSimpleParser {
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
 
+    // whether to compile the ast instead of using the interpreted nodes
+    private boolean compiled;
+
     public SimpleExpressionParser(String expression, boolean allowEscape,
                                   Map<String, Expression> cacheExpression) {
         super(expression, allowEscape);
         this.cacheExpression = cacheExpression;
     }
 
+    public SimpleExpressionParser(String expression, boolean allowEscape,
+                                  Map<String, Expression> cacheExpression, boolean compiled) {
+        this(expression, allowEscape, cacheExpression);
+        this.compiled = compiled;
+    }
+
     public Expression parseExpression() {
         clear();
         try {
@@ -83,6 +92,11 @@ public class SimpleExpressionParser extends BaseSimpleParser {
         // compact and stack unary operators
         prepareUnaryExpressions();
 
+        if (compiled) {
+            // compile the ast into a Camel expression
+            return SimpleCompiler.compileExpression(expression, nodes);
+        }
+
         // create and return as a Camel expression
         List<Expression> expressions = createExpressions();
         if (expressions.isEmpty()) {
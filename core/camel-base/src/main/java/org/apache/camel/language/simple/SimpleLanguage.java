@@ -18,6 +18,7 @@ package org.apache.camel.language.simple;
 
 import java.util.Map;
 
+import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
 import org.apache.camel.StaticService;
@@ -106,6 +107,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
     boolean allowEscape = true;
+    boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -117,6 +119,25 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    /**
+     * Whether the parsed expressions and predicates are compiled into specialized nodes
+     * instead of being evaluated by the interpreted AST.
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Sets whether to compile the parsed expressions and predicates into specialized nodes,
+     * which is faster to evaluate than the interpreted AST. Constructs which cannot be compiled
+     * falls back to be interpreted.
+     * <p/>
+     * This can also be enabled using the global option with the key {@link Exchange#SIMPLE_COMPILED}.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public void init() {
         // setup cache which requires CamelContext to be set first
@@ -134,7 +155,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     @Override
     public void start() {
-        // noop
+        if (!compiled && getCamelContext() != null) {
+            compiled = "true".equalsIgnoreCase(getCamelContext().getGlobalOption(Exchange.SIMPLE_COMPILED));
+        }
     }
 
     @Override
@@ -163,7 +186,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             expression = loadResource(expression);
 
-            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, cacheExpression);
+            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, cacheExpression, compiled);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
@@ -182,7 +205,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             expression = loadResource(expression);
 
-            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, cacheExpression);
+            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, cacheExpression, compiled);
             answer = parser.parseExpression();
 
             if (cacheExpression != null && answer != null) {
@@ -219,7 +242,11 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         } else {
             Expression exp = createExpression(expression);
             if (resultType != null) {
-                exp = ExpressionBuilder.convertToExpression(exp, resultType);
+                if (compiled) {
+                    exp = SimpleCompiler.compileConvertTo(exp, resultType);
+                } else {
+                    exp = ExpressionBuilder.convertToExpression(exp, resultType);
+                }
             }
             return exp;
         }
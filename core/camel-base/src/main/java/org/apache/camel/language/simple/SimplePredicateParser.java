@@ -57,11 +57,19 @@ public class SimplePredicateParser extends BaseSimpleParser {
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
 
+    // whether to compile the ast instead of using the interpreted nodes
+    private boolean compiled;
+
     public SimplePredicateParser(String expression, boolean allowEscape, Map<String, Expression> cacheExpression) {
         super(expression, allowEscape);
         this.cacheExpression = cacheExpression;
     }
 
+    public SimplePredicateParser(String expression, boolean allowEscape, Map<String, Expression> cacheExpression, boolean compiled) {
+        this(expression, allowEscape, cacheExpression);
+        this.compiled = compiled;
+    }
+
     public Predicate parsePredicate() {
         clear();
         try {
@@ -117,6 +125,11 @@ public class SimplePredicateParser extends BaseSimpleParser {
         // compact and stack logical expressions
         prepareLogicalExpressions();
 
+        if (compiled) {
+            // compile the ast into a Camel predicate
+            return SimpleCompiler.compilePredicate(expression, nodes);
+        }
+
         // create and return as a Camel predicate
         List<Predicate> predicates = createPredicates();
         if (predicates.isEmpty()) {
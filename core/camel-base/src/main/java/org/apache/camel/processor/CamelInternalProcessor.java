@@ -17,10 +17,13 @@
 package org.apache.camel.processor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
@@ -83,7 +86,15 @@ import org.slf4j.LoggerFactory;
  */
 public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
+    private static final CamelInternalProcessorAdvice[] NO_ADVICES = new CamelInternalProcessorAdvice[0];
+
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
+    // the advices in the order they should be executed, which is built once when advices are added,
+    // so routing does not need to access the list per exchange
+    private CamelInternalProcessorAdvice[] chain = NO_ADVICES;
+    private boolean stateful;
+    private boolean adviceStatisticsEnabled;
+    private AdviceStatistics[] adviceStatistics;
 
     public CamelInternalProcessor() {
     }
@@ -101,6 +112,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         advices.add(advice);
         // ensure advices are sorted so they are in the order we want
         advices.sort(OrderedComparator.get());
+        buildAdviceChain();
     }
 
     /**
@@ -119,6 +131,49 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         return null;
     }
 
+    public boolean isAdviceStatisticsEnabled() {
+        return adviceStatisticsEnabled;
+    }
+
+    /**
+     * Whether to gather the time spent in each of the advices (before and after) while routing.
+     * <p/>
+     * This is intended for measuring the overhead of the cross cutting functionality, and is by default
+     * enabled when the management statistics level is <tt>Extended</tt>.
+     */
+    public void setAdviceStatisticsEnabled(boolean adviceStatisticsEnabled) {
+        this.adviceStatisticsEnabled = adviceStatisticsEnabled;
+        buildAdviceChain();
+    }
+
+    /**
+     * Gets the statistics of the time spent in each of the advices, in the order the advices are executed.
+     *
+     * @return the statistics, or an empty list if advice statistics is not enabled
+     */
+    public List<AdviceStatistics> getAdviceStatistics() {
+        AdviceStatistics[] statistics = adviceStatistics;
+        return statistics != null ? Arrays.asList(statistics) : Collections.emptyList();
+    }
+
+    private void buildAdviceChain() {
+        CamelInternalProcessorAdvice[] answer = advices.toArray(new CamelInternalProcessorAdvice[0]);
+        boolean state = false;
+        for (CamelInternalProcessorAdvice advice : answer) {
+            state |= advice.hasState();
+        }
+        AdviceStatistics[] statistics = null;
+        if (adviceStatisticsEnabled) {
+            statistics = new AdviceStatistics[answer.length];
+            for (int i = 0; i < answer.length; i++) {
+                statistics[i] = new AdviceStatistics(unwrap(answer[i]).getClass().getSimpleName());
+            }
+        }
+        this.chain = answer;
+        this.stateful = state;
+        this.adviceStatistics = statistics;
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback originalCallback) {
         // ----------------------------------------------------------
@@ -141,45 +196,31 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return true;
         }
 
-        // optimise to use object array for states
-        final Object[] states = new Object[advices.size()];
-        // optimise for loop using index access to avoid creating iterator object
-        for (int i = 0; i < advices.size(); i++) {
-            CamelInternalProcessorAdvice task = advices.get(i);
+        final CamelInternalProcessorAdvice[] chain = this.chain;
+        final AdviceStatistics[] statistics = this.adviceStatistics;
+        // optimise to use object array for states, which is only needed if any of the advices has state
+        final Object[] states = stateful ? new Object[chain.length] : null;
+        for (int i = 0; i < chain.length; i++) {
+            CamelInternalProcessorAdvice task = chain[i];
+            long start = statistics != null ? System.nanoTime() : 0;
             try {
                 Object state = task.before(exchange);
-                states[i] = state;
+                if (states != null) {
+                    states[i] = state;
+                }
             } catch (Throwable e) {
                 exchange.setException(e);
                 originalCallback.done(true);
                 return true;
+            } finally {
+                if (statistics != null) {
+                    statistics[i].record(System.nanoTime() - start);
+                }
             }
         }
 
         // create internal callback which will execute the advices in reverse order when done
-        AsyncCallback callback = doneSync -> {
-            try {
-                for (int i = advices.size() - 1; i >= 0; i--) {
-                    CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = states[i];
-                    try {
-                        task.after(exchange, state);
-                    } catch (Throwable e) {
-                        exchange.setException(e);
-                        // allow all advices to complete even if there was an exception
-                    }
-                }
-            } finally {
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ START +++
-                // ----------------------------------------------------------
-                // callback must be called
-                exchange.getContext().getReactiveExecutor().callback(originalCallback);
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ END +++
-                // ----------------------------------------------------------
-            }
-        };
+        AsyncCallback callback = new InternalCallback(chain, states, statistics, exchange, originalCallback);
 
         if (exchange.isTransacted()) {
             // must be synchronized for transacted exchanges
@@ -224,6 +265,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // CAMEL END USER - DEBUG ME HERE +++ END +++
             // ----------------------------------------------------------
 
+            // the description is only for trace logging, so only build it (which generates the exchange id) when needed
             exchange.getContext().getReactiveExecutor().schedule(() -> {
                 // execute any after processor work (in current thread, not in the callback)
                 if (uow != null) {
@@ -234,11 +276,132 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                     log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
                              exchange.getExchangeId(), exchange);
                 }
-            }, "CamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId());
+            }, log.isTraceEnabled() ? "CamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId() : null);
             return false;
         }
     }
 
+    /**
+     * Internal callback that executes the after advices in reverse order, and then schedules itself
+     * to continue routing by calling the original callback. Using the same object for both avoids
+     * creating an additional task per exchange when continuing routing.
+     */
+    private static final class InternalCallback implements AsyncCallback, Runnable {
+
+        private final CamelInternalProcessorAdvice[] chain;
+        private final Object[] states;
+        private final AdviceStatistics[] statistics;
+        private final Exchange exchange;
+        private final AsyncCallback originalCallback;
+
+        private InternalCallback(CamelInternalProcessorAdvice[] chain, Object[] states, AdviceStatistics[] statistics,
+                                 Exchange exchange, AsyncCallback originalCallback) {
+            this.chain = chain;
+            this.states = states;
+            this.statistics = statistics;
+            this.exchange = exchange;
+            this.originalCallback = originalCallback;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void done(boolean doneSync) {
+            try {
+                for (int i = chain.length - 1; i >= 0; i--) {
+                    CamelInternalProcessorAdvice task = chain[i];
+                    Object state = states != null ? states[i] : null;
+                    long start = statistics != null ? System.nanoTime() : 0;
+                    try {
+                        task.after(exchange, state);
+                    } catch (Throwable e) {
+                        exchange.setException(e);
+                        // allow all advices to complete even if there was an exception
+                    }
+                    if (statistics != null) {
+                        statistics[i].record(System.nanoTime() - start);
+                    }
+                }
+            } finally {
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ START +++
+                // ----------------------------------------------------------
+                // callback must be called
+                exchange.getContext().getReactiveExecutor().schedule(this);
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ END +++
+                // ----------------------------------------------------------
+            }
+        }
+
+        @Override
+        public void run() {
+            originalCallback.done(false);
+        }
+
+        @Override
+        public String toString() {
+            return "Callback[" + originalCallback + "]";
+        }
+    }
+
+    /**
+     * Statistics of the time spent in an advice during routing.
+     */
+    public static final class AdviceStatistics {
+
+        private final String name;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+
+        AdviceStatistics(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos) {
+            invocations.increment();
+            totalTime.add(nanos);
+        }
+
+        /**
+         * The name of the advice
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Number of times the before and after callbacks of the advice has been invoked
+         */
+        public long getInvocations() {
+            return invocations.sum();
+        }
+
+        /**
+         * Total time spent in the advice in nanos
+         */
+        public long getTotalTime() {
+            return totalTime.sum();
+        }
+
+        /**
+         * Mean time spent in the advice per invocation in nanos
+         */
+        public long getMeanTime() {
+            long count = invocations.sum();
+            return count > 0 ? totalTime.sum() / count : 0;
+        }
+
+        public void reset() {
+            invocations.reset();
+            totalTime.reset();
+        }
+
+        @Override
+        public String toString() {
+            return "AdviceStatistics[" + name + " invocations=" + getInvocations() + " meanTime=" + getMeanTime() + "]";
+        }
+    }
+
     @Override
     public String toString() {
         return processor != null ? processor.toString() : super.toString();
@@ -299,6 +462,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 uow.afterRoute(exchange, route);
             }
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -324,6 +492,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object state) throws Exception {
             inflightRepository.remove(exchange, id);
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -393,6 +566,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         private static boolean isCamelStopping(CamelContext context) {
             if (context instanceof StatefulService) {
                 StatefulService ss = (StatefulService) context;
@@ -448,6 +626,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // noop
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         @Override
         public int getOrder() {
             // we want tracer just before calling the processor
@@ -737,6 +920,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object data) throws Exception {
             // noop
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -21,11 +21,13 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.TypeConverterCallSite;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -39,17 +41,20 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
     private String id;
     private final Class<?> type;
     private final String charset;
+    private final TypeConverterCallSite<?> converter;
 
     public ConvertBodyProcessor(Class<?> type) {
         ObjectHelper.notNull(type, "type", this);
         this.type = type;
         this.charset = null;
+        this.converter = new TypeConverterCallSite<>(type);
     }
 
     public ConvertBodyProcessor(Class<?> type, String charset) {
         ObjectHelper.notNull(type, "type", this);
         this.type = type;
         this.charset = IOHelper.normalizeCharset(charset);
+        this.converter = new TypeConverterCallSite<>(type);
     }
 
     @Override
@@ -87,8 +92,13 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
             // have explicit configured and expects to be used
             exchange.setProperty(Exchange.CHARSET_NAME, charset);
         }
-        // use mandatory conversion
-        Object value = old.getMandatoryBody(type);
+        // use mandatory conversion (using the call site to avoid looking up the type converter on every conversion)
+        Object value;
+        try {
+            value = converter.mandatoryConvertTo(exchange, old.getBody());
+        } catch (Exception cause) {
+            throw new InvalidPayloadException(exchange, type, old, cause);
+        }
 
         // create a new message container so we do not drag specialized message objects along
         // but that is only needed if the old message is a specialized message
@@ -31,8 +31,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
@@ -43,12 +45,16 @@ import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.ErrorHandlerFactory;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.aggregate.UseLatestAggregationStrategy;
+import org.apache.camel.processor.aggregate.UseOriginalAggregationStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteContext;
 import org.apache.camel.spi.UnitOfWork;
@@ -62,6 +68,7 @@ import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.KeyValueHolder;
 import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.concurrent.AsyncCompletionService;
+import org.apache.camel.util.concurrent.ReorderBuffer;
 
 import static org.apache.camel.util.ObjectHelper.notNull;
 
@@ -147,6 +154,12 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
     private final long timeout;
     private final ConcurrentMap<PreparedErrorHandler, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInflightExchanges;
+    private boolean orderedAggregate;
+    private final AtomicInteger inflightExchanges = new AtomicInteger();
+    private final LongAdder pulledExchanges = new LongAdder();
+    private final LongAdder aggregatedExchanges = new LongAdder();
+    private ExchangeFactory exchangeFactory;
 
     public MulticastProcessor(CamelContext camelContext, Collection<Processor> processors) {
         this(camelContext, processors, null);
@@ -250,11 +263,13 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         final Iterator<ProcessorExchangePair> iterator;
         final ReentrantLock lock;
         final AsyncCompletionService<Exchange> completion;
+        final ReorderBuffer<Exchange> reorder;
         final AtomicReference<Exchange> result;
         final AtomicInteger nbExchangeSent = new AtomicInteger();
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean waiting = new AtomicBoolean();
 
         MulticastState(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback) {
             this.original = original;
@@ -263,6 +278,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             this.iterator = pairs.iterator();
             this.lock = new ReentrantLock();
             this.completion = new AsyncCompletionService<>(MulticastProcessor.this::schedule, !isStreaming(), lock);
+            this.reorder = orderedAggregate && isParallelProcessing() ? new ReorderBuffer<>(maxInflightExchanges) : null;
             this.result = new AtomicReference<>();
             if (timeout > 0) {
                 schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
@@ -279,6 +295,11 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                     return;
                 }
 
+                // when the in-flight window is full then wait until a sub exchange has been aggregated
+                if (!acquirePermit()) {
+                    return;
+                }
+
                 // Check if the iterator is empty
                 // This can happen the very first time we check the existence
                 // of an item before queuing the run.
@@ -296,6 +317,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                     return;
                 }
 
+                pulledExchanges.increment();
                 Exchange exchange = pair.getExchange();
                 int index = nbExchangeSent.getAndIncrement();
                 updateNewExchange(exchange, index, pairs, hasNext);
@@ -309,13 +331,15 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                     allSent.set(true);
                 }
 
-                completion.submit(exchangeResult -> {
+                inflightExchanges.incrementAndGet();
+                Consumer<Consumer<Exchange>> task = exchangeResult -> {
                     // compute time taken if sending to another endpoint
                     StopWatch watch = beforeSend(pair);
 
                     AsyncProcessor async = AsyncProcessorConverterHelper.convert(pair.getProcessor());
                     async.process(exchange, doneSync -> {
                         afterSend(pair, watch);
+                        inflightExchanges.decrementAndGet();
 
                         // Decide whether to continue with the multicast or not; similar logic to the Pipeline
                         // remember to test for stop on exception and aggregate before copying back results
@@ -345,7 +369,13 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                             schedule(this);
                         }
                     });
-                });
+                };
+                if (reorder != null) {
+                    // the reorder buffer aggregates the sub exchanges in the order they were sent
+                    MulticastProcessor.this.schedule(() -> task.accept(e -> reorder.offer(index, e)));
+                } else {
+                    completion.submit(task);
+                }
             } catch (Exception e) {
                 original.setException(e);
                 doDone(null, false);
@@ -353,16 +383,25 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         }
 
         protected void aggregate() {
+            if (reorder != null) {
+                aggregateOrdered();
+                return;
+            }
             Lock lock = this.lock;
             if (lock.tryLock()) {
                 try {
                     Exchange exchange;
                     while (!done.get() && (exchange = completion.poll()) != null) {
                         doAggregate(result, exchange);
+                        aggregatedExchanges.increment();
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
                         }
                     }
+                    // room in the in-flight window so continue pulling from the iterator
+                    if (!done.get() && waiting.compareAndSet(true, false)) {
+                        schedule(this);
+                    }
                 } catch (Throwable e) {
                     original.setException(e);
                     // and do the done work
@@ -373,6 +412,32 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             }
         }
 
+        /**
+         * Aggregates the sub exchanges which are next in order. Only one thread drains the reorder buffer at any time,
+         * so the aggregation strategy is called in order, and without the synchronized aggregation of the processor.
+         */
+        protected void aggregateOrdered() {
+            try {
+                reorder.drain(exchange -> {
+                    if (!done.get()) {
+                        doAggregateInternal(getAggregationStrategy(exchange), result, exchange);
+                        aggregatedExchanges.increment();
+                        if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
+                            doDone(result.get(), true);
+                        }
+                    }
+                });
+            } catch (Throwable e) {
+                original.setException(e);
+                // and do the done work
+                doDone(null, false);
+            }
+            // room in the in-flight window so continue pulling from the iterator
+            if (!done.get() && waiting.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -387,6 +452,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                         }
                         if (exchange != null) {
                             doAggregate(result, exchange);
+                            aggregatedExchanges.increment();
                             nbAggregated.incrementAndGet();
                         }
                     }
@@ -401,6 +467,24 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             }
         }
 
+        /**
+         * Whether another sub exchange can be pulled from the iterator, which is always the case unless
+         * parallel processing is used with a bounded in-flight window. When the window is full then the
+         * state is marked as waiting, and the next aggregation of a sub exchange continues the work.
+         */
+        protected boolean acquirePermit() {
+            if (maxInflightExchanges <= 0 || !isParallelProcessing()) {
+                return true;
+            }
+            if (nbExchangeSent.get() - nbAggregated.get() < maxInflightExchanges) {
+                return true;
+            }
+            waiting.set(true);
+            // check again as a sub exchange may have been aggregated in the meantime
+            return nbExchangeSent.get() - nbAggregated.get() < maxInflightExchanges
+                    && waiting.compareAndSet(true, false);
+        }
+
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
@@ -511,6 +595,10 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                 // copy the current result to original so it will contain this result of this eip
                 ExchangeHelper.copyResults(original, subExchange);
             }
+            if (subExchange != original && isRecyclable(strategy)) {
+                // the result has been copied so the sub exchange can be recycled
+                releaseSubExchange(subExchange, exception);
+            }
         }
 
         // .. and then if there was an exception we need to configure the redelivery exhaust
@@ -571,10 +659,82 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             // prepare the exchanges for aggregation
             Exchange oldExchange = result.get();
             ExchangeHelper.prepareAggregation(oldExchange, exchange);
-            result.set(strategy.aggregate(oldExchange, exchange));
+            Exchange newExchange = strategy.aggregate(oldExchange, exchange);
+            result.set(newExchange);
+            if (isRecyclable(strategy)) {
+                // the sub exchanges which are no longer the result of the aggregation can be recycled
+                if (oldExchange != null && oldExchange != newExchange) {
+                    releaseSubExchange(oldExchange, oldExchange.getException() != null);
+                }
+                if (exchange != newExchange) {
+                    releaseSubExchange(exchange, exchange.getException() != null);
+                }
+            }
         }
     }
 
+    /**
+     * Releases the sub exchange back to the {@link ExchangeFactory}, so it can be recycled. A sub exchange which
+     * failed is detached from the factory instead, as the exception may refer to the sub exchange, and the exception
+     * is propagated to the original exchange.
+     * <p/>
+     * A sub exchange which is kept by an EIP in its branch, such as the Resequencer, has already been detached from
+     * the factory by the EIP, and is therefore not recycled.
+     *
+     * @param subExchange the sub exchange
+     * @param failed      whether the sub exchange failed
+     */
+    private void releaseSubExchange(Exchange subExchange, boolean failed) {
+        if (failed) {
+            exchangeFactory.detach(subExchange);
+        } else {
+            exchangeFactory.release(subExchange);
+        }
+    }
+
+    /**
+     * Whether the sub exchanges can be recycled by the {@link ExchangeFactory} once they have been aggregated, which
+     * requires a pooled factory and an aggregation strategy which is known not to keep hold of the sub exchanges.
+     * The sub exchanges are not recycled when using parallel aggregate, as the aggregation is not synchronized,
+     * and therefore another thread may still be aggregating the same sub exchange. The sub exchanges which are kept
+     * by an EIP in the branch, such as the Resequencer, are detached from the factory and therefore not recycled.
+     *
+     * @param strategy the aggregation strategy
+     * @return <tt>true</tt> if the sub exchanges can be recycled
+     */
+    protected boolean isRecyclable(AggregationStrategy strategy) {
+        if (exchangeFactory == null || !exchangeFactory.isPooled() || strategy == null || isParallelAggregate()) {
+            return false;
+        }
+        return strategy.getClass() == UseLatestAggregationStrategy.class || strategy.getClass() == UseOriginalAggregationStrategy.class;
+    }
+
+    /**
+     * Creates a correlated copy of the exchange to be routed as a sub exchange, which does not share the unit of work.
+     * The copy reuses a recycled exchange from the {@link ExchangeFactory} if the sub exchanges are
+     * {@link #isRecyclable(AggregationStrategy) recyclable}.
+     *
+     * @param exchange the exchange
+     * @return the copy
+     */
+    protected Exchange createCorrelatedCopy(Exchange exchange) {
+        if (!isRecyclable(getAggregationStrategy(exchange))) {
+            return ExchangeHelper.createCorrelatedCopy(exchange, false);
+        }
+
+        Exchange copy = exchangeFactory.copy(exchange);
+        // do not reuse message id on copy
+        if (copy.hasOut()) {
+            copy.getOut().setMessageId(null);
+        }
+        copy.getIn().setMessageId(null);
+        // do not share the unit of work
+        copy.setUnitOfWork(null);
+        // set a correlation id so we can track back the original exchange
+        copy.setProperty(Exchange.CORRELATION_ID, exchange.getExchangeId());
+        return copy;
+    }
+
     protected void updateNewExchange(Exchange exchange, int index, Iterable<ProcessorExchangePair> allPairs, boolean hasNext) {
         exchange.setProperty(Exchange.MULTICAST_INDEX, index);
         if (hasNext) {
@@ -600,7 +760,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         int index = 0;
         for (Processor processor : processors) {
             // copy exchange, and do not share the unit of work
-            Exchange copy = ExchangeHelper.createCorrelatedCopy(exchange, false);
+            Exchange copy = createCorrelatedCopy(exchange);
 
             if (streamCache != null) {
                 if (index > 0) {
@@ -764,6 +924,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
     }
 
     protected void doStart() throws Exception {
+        exchangeFactory = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
         if (isParallelProcessing() && executorService == null) {
             throw new IllegalArgumentException("ParallelProcessing is enabled but ExecutorService has not been set");
         }
@@ -933,6 +1094,54 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         return shareUnitOfWork;
     }
 
+    /**
+     * The maximum number of sub exchanges that are in-flight at the same time when using parallel processing.
+     * The sub exchanges are pulled from the iterator only when there is room in this window, which keeps
+     * memory usage bounded when splitting a large stream. A value of 0 or less means no limit.
+     */
+    public int getMaxInflightExchanges() {
+        return maxInflightExchanges;
+    }
+
+    public void setMaxInflightExchanges(int maxInflightExchanges) {
+        this.maxInflightExchanges = maxInflightExchanges;
+    }
+
+    /**
+     * Whether the sub exchanges are aggregated strictly in the order they were sent, when using parallel processing.
+     * Unlike the default ordered aggregation, this also works in streaming mode, and uses a reorder buffer instead of
+     * synchronizing the calls to the {@link AggregationStrategy} across all the exchanges routed through this processor.
+     * The aggregation strategy is never called concurrently for the sub exchanges of the same exchange.
+     */
+    public boolean isOrderedAggregate() {
+        return orderedAggregate;
+    }
+
+    public void setOrderedAggregate(boolean orderedAggregate) {
+        this.orderedAggregate = orderedAggregate;
+    }
+
+    /**
+     * Number of sub exchanges currently being processed
+     */
+    public int getInflightExchanges() {
+        return inflightExchanges.get();
+    }
+
+    /**
+     * Total number of sub exchanges pulled from the iterator
+     */
+    public long getPulledExchangesCounter() {
+        return pulledExchanges.sum();
+    }
+
+    /**
+     * Total number of sub exchanges aggregated
+     */
+    public long getAggregatedExchangesCounter() {
+        return aggregatedExchanges.sum();
+    }
+
     public List<Processor> next() {
         if (!hasNext()) {
             return null;
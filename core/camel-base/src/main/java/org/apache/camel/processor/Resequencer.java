@@ -38,11 +38,13 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Navigate;
 import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
@@ -76,6 +78,7 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
     private final AsyncProcessor processor;
     private final Collection<Exchange> collection;
     private ExceptionHandler exceptionHandler;
+    private ExchangeFactory exchangeFactory;
 
     private final BatchSender sender;
 
@@ -304,6 +307,7 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
     }
 
     protected void doStart() throws Exception {
+        exchangeFactory = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
         ServiceHelper.startService(processor);
         sender.start();
     }
@@ -337,7 +341,9 @@ public class Resequencer extends AsyncProcessorSupport implements Navigate<Proce
                     throw new CamelExchangeException("Exchange is not valid to be used by the BatchProcessor", exchange);
                 }
             } else {
-                // exchange is valid so enqueue the exchange
+                // exchange is valid so enqueue the exchange, which is kept after this method has returned
+                // and therefore must not be recycled
+                exchangeFactory.detach(exchange);
                 sender.enqueueExchange(exchange);
             }
         } catch (Throwable e) {
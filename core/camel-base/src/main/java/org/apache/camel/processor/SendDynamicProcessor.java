@@ -54,6 +54,7 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
     protected boolean ignoreInvalidEndpoint;
     protected int cacheSize;
     protected boolean allowOptimisedComponents = true;
+    protected String warmupUris;
 
     public SendDynamicProcessor(String uri, Expression expression) {
         this.uri = uri;
@@ -267,6 +268,26 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
         }
 
         ServiceHelper.startService(producerCache);
+
+        if (warmupUris != null) {
+            for (String warmupUri : warmupUris.split(",")) {
+                warmupUri = warmupUri.trim();
+                if (warmupUri.isEmpty()) {
+                    continue;
+                }
+                try {
+                    Endpoint endpoint = camelContext.getEndpoint(camelContext.resolvePropertyPlaceholders(warmupUri));
+                    producerCache.warmup(endpoint);
+                    log.debug("DynamicSendTo {} warmed up producer for endpoint: {}", this, endpoint);
+                } catch (Exception e) {
+                    if (isIgnoreInvalidEndpoint()) {
+                        log.debug("Error warming up producer for endpoint: " + URISupport.sanitizeUri(warmupUri) + ". This exception is ignored", e);
+                    } else {
+                        throw e;
+                    }
+                }
+            }
+        }
     }
 
     protected void doStop() throws Exception {
@@ -328,4 +349,15 @@ public class SendDynamicProcessor extends AsyncProcessorSupport implements IdAwa
     public void setAllowOptimisedComponents(boolean allowOptimisedComponents) {
         this.allowOptimisedComponents = allowOptimisedComponents;
     }
+
+    public String getWarmupUris() {
+        return warmupUris;
+    }
+
+    /**
+     * Endpoint uris (separated by comma) to create and start producers for when starting
+     */
+    public void setWarmupUris(String warmupUris) {
+        this.warmupUris = warmupUris;
+    }
 }
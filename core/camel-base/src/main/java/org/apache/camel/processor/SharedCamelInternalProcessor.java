@@ -191,6 +191,7 @@ public class SharedCamelInternalProcessor {
             // CAMEL END USER - DEBUG ME HERE +++ END +++
             // ----------------------------------------------------------
 
+            // the description is only for trace logging, so only build it (which generates the exchange id) when needed
             exchange.getContext().getReactiveExecutor().schedule(() -> {
                 // execute any after processor work (in current thread, not in the callback)
                 if (uow != null) {
@@ -201,7 +202,7 @@ public class SharedCamelInternalProcessor {
                     LOG.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
                             exchange.getExchangeId(), exchange);
                 }
-            }, "SharedCamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId());
+            }, LOG.isTraceEnabled() ? "SharedCamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId() : null);
             return sync;
         }
     }
@@ -28,6 +28,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
@@ -35,6 +36,7 @@ import org.apache.camel.processor.resequencer.ResequencerEngine;
 import org.apache.camel.processor.resequencer.SequenceElementComparator;
 import org.apache.camel.processor.resequencer.SequenceSender;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.LoggingExceptionHandler;
@@ -70,6 +72,7 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
     private final ResequencerEngine<Exchange> engine;
     private final Processor processor;
     private final Expression expression;
+    private ExchangeFactory exchangeFactory;
     private Delivery delivery;
     private int capacity;
     private boolean ignoreInvalidExchanges;
@@ -187,6 +190,7 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
 
     @Override
     protected void doStart() throws Exception {
+        exchangeFactory = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory();
         ServiceHelper.startService(processor);
         delivery = new Delivery();
         engine.start();
@@ -223,6 +227,8 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
         }
 
         try {
+            // the exchange is kept after this method has returned and therefore must not be recycled
+            exchangeFactory.detach(exchange);
             engine.insert(exchange);
             delivery.request();
         } catch (Exception e) {
@@ -383,6 +383,14 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         this.callerRunsWhenRejected = callerRunsWhenRejected;
     }
 
+    public Expression getCorrelationExpression() {
+        return correlationExpression;
+    }
+
+    public ScheduledExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
     public String getId() {
         return id;
     }
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a token bucket per correlation key
+ * instead of a DelayQueue of permits.
+ * <p/>
+ * The token bucket is implemented as a generic cell rate algorithm (GCRA) which only keeps the theoretical arrival time
+ * of the next message, so acquiring a permit is a single compare and set without any locking or allocation.
+ * The bucket holds up to maxRequestsPerPeriod tokens which are refilled at a steady rate of maxRequestsPerPeriod per
+ * time period. This means a burst of up to maxRequestsPerPeriod messages is allowed when the bucket is full,
+ * and thereafter the messages are spread evenly over the time period.
+ * <p/>
+ * A message which exceeds the rate reserves the next available slot in the bucket, and then waits until the slot
+ * is due. When asyncDelayed is enabled the message is parked without blocking any thread, and continues routing on
+ * the reactive executor when the slot is due. The state of a correlation key is evicted when the key has been idle
+ * for 10 time periods.
+ */
+public class TokenBucketThrottler extends Throttler {
+
+    private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> evictionTask;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression, final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor, final boolean rejectExecution,
+                                Expression correlation) {
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor, rejectExecution, correlation);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (getCorrelationExpression() != null) {
+                key = getCorrelationExpression().evaluate(exchange, String.class);
+            }
+
+            long now = System.nanoTime();
+            TokenBucket bucket;
+            long delay;
+            do {
+                bucket = buckets.computeIfAbsent(key, TokenBucket::new);
+                bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+                delay = bucket.acquire(now, !isRejectExecution());
+            } while (delay < 0);
+
+            if (delay > 0) {
+                if (isRejectExecution()) {
+                    throw new ThrottlerRejectedExecutionException("Exceeded the max throttle rate of "
+                            + bucket.getThrottleRate() + " within " + getTimePeriodMillis() + "ms");
+                }
+                if (isAsyncDelayed() && !exchange.isTransacted() && scheduleDelayed(exchange, callback, delay)) {
+                    return false;
+                }
+                // block until the reserved slot is due
+                log.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } else {
+                log.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+            }
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().forceShutdown(this);
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: " + exchange;
+                log.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+        } catch (final Throwable t) {
+            exchange.setException(t);
+        }
+
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Parks the exchange until the reserved slot is due, and then continues routing on the reactive executor.
+     *
+     * @return <tt>true</tt> if the exchange was parked, or <tt>false</tt> if the async executor rejected the task and
+     *         the caller should run instead
+     */
+    protected boolean scheduleDelayed(final Exchange exchange, final AsyncCallback callback, long delay) {
+        try {
+            log.debug("Throttle rate exceeded but AsyncDelayed enabled, so parking for {}ms, exchangeId: {}",
+                    TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+            getAsyncExecutor().schedule(() -> exchange.getContext().getReactiveExecutor().schedule(() -> callback.done(false)),
+                    delay, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                log.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}", exchange.getExchangeId());
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the token buckets which have been full for at least 10 time periods, as they are equal to a new bucket.
+     */
+    protected void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idle = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis() * 10);
+        for (TokenBucket bucket : buckets.values()) {
+            bucket.evictIfIdle(now, idle);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getAsyncExecutor() != null) {
+            long period = getTimePeriodMillis() * 10;
+            evictionTask = getAsyncExecutor().scheduleWithFixedDelay(this::evictIdleBuckets, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ScheduledFuture<?> task = evictionTask;
+        if (task != null) {
+            task.cancel(false);
+            evictionTask = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        buckets.clear();
+        super.doShutdown();
+    }
+
+    @Override
+    public int getCurrentMaximumRequestsPerPeriod() {
+        return buckets.values().stream().mapToInt(TokenBucket::getThrottleRate).max().orElse(0);
+    }
+
+    /**
+     * Number of correlation keys which currently have a token bucket.
+     */
+    public int getBucketSize() {
+        return buckets.size();
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + getMaximumRequestsPerPeriodExpression() + " per: " + getTimePeriodMillis() + " token bucket]";
+    }
+
+    @Override
+    public String toString() {
+        return "TokenBucketThrottler[requests: " + getMaximumRequestsPerPeriodExpression() + " per: " + getTimePeriodMillis() + " (ms)]";
+    }
+
+    private final class TokenBucket {
+        private final String key;
+        // the theoretical arrival time of the next message when the bucket is empty
+        private final AtomicLong arrival = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        TokenBucket(String key) {
+            this.key = key;
+        }
+
+        public int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Acquires a token from the bucket.
+         *
+         * @param now     the current time in nanos
+         * @param reserve whether to reserve the next available slot if the bucket is empty
+         * @return 0 if a token was acquired, the delay in nanos until the slot is due if the bucket is empty,
+         *         or -1 if this bucket has been evicted
+         */
+        public long acquire(long now, boolean reserve) {
+            int rate = throttleRate;
+            if (rate == 0) {
+                throw new ThrottlerRejectedExecutionException("The throttle rate is 0 within " + getTimePeriodMillis() + "ms");
+            }
+            long period = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+            long interval = period / rate;
+            for (;;) {
+                long current = arrival.get();
+                if (current == EVICTED) {
+                    buckets.remove(key, this);
+                    return -1;
+                }
+                long next = (current - now < 0 ? now : current) + interval;
+                long delay = next - now - period;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                if (arrival.compareAndSet(current, next)) {
+                    return delay > 0 ? delay : 0;
+                }
+            }
+        }
+
+        public void evictIfIdle(long now, long idle) {
+            long current = arrival.get();
+            if (current != EVICTED && now - current > idle && arrival.compareAndSet(current, EVICTED)) {
+                buckets.remove(key, this);
+            }
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
+         */
+        public void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException("The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsPerPeriodExpression(), exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                log.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle, exchange.getExchangeId());
+                throttleRate = newThrottle;
+            }
+        }
+    }
+}
@@ -64,6 +64,8 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.TimeoutMapHelper;
+import org.apache.camel.support.TimingWheelTimeoutMap;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -98,7 +100,9 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     public static final String COMPLETED_BY_FORCE = "force";
 
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
+    private final AtomicBoolean forceCompletionOfAllGroupsPending = new AtomicBoolean();
     private final CamelContext camelContext;
     private final AsyncProcessor processor;
     private String id;
@@ -204,6 +208,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -356,13 +361,14 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         copy.getIn().removeHeader(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -374,11 +380,34 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // check for the special header to force completion of all groups (inclusive of the message)
         if (getAndRemoveBooleanHeader(exchange, Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE)) {
             forceCompletionOfAllGroups();
+        } else if (forceCompletionOfAllGroupsPending.compareAndSet(true, false)) {
+            // the aggregation strategy requested to complete all groups while we held the lock stripe
+            forceCompletionOfAllGroups();
         }
 
         callback.done(false);
     }
 
+    /**
+     * Gets the lock which guards the given correlation key.
+     * <p/>
+     * When lock striping is enabled the key is hashed to one of the stripes, so exchanges with
+     * different correlation keys can be aggregated in parallel. Otherwise the shared aggregation lock is used.
+     *
+     * @param key the correlation key
+     * @return the lock to use
+     */
+    protected Lock lockFor(String key) {
+        Lock[] locks = stripedLocks;
+        if (locks == null) {
+            return lock;
+        }
+        int hash = key.hashCode();
+        // spread the higher bits as the number of stripes is a power of two
+        hash ^= hash >>> 16;
+        return locks[hash & (locks.length - 1)];
+    }
+
     protected boolean getBooleanProperty(Exchange exchange, String key) {
         return camelContext.getTypeConverter().convertTo(boolean.class, exchange, exchange.getProperty(key));
     }
@@ -484,7 +513,12 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         // check for the special exchange property to force completion of all groups
         if (getAndRemoveBooleanProperty(answer, Exchange.AGGREGATION_COMPLETE_ALL_GROUPS)) {
-            forceCompletionOfAllGroups();
+            if (stripedLocks != null) {
+                // we cannot acquire the other stripes while holding this one, so defer until the stripe is released
+                forceCompletionOfAllGroupsPending.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -976,6 +1010,19 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of locks to stripe the correlation keys over, so exchanges with different correlation keys
+     * can be aggregated in parallel. The value is rounded up to a power of two. Is default 0 which
+     * means a single shared lock is used.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1110,59 +1157,104 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
-            addListener(this::onEviction);
+            // (unless lock striping is in use as then there is no single lock that can guard the entire map)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 1);
+            addListener(AggregateProcessor.this::onTimeoutEviction);
         }
 
         @Override
         protected void purge() {
-            // wait for lock to be created
-            if (lock != null) {
-                // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
-                try {
-                    super.purge();
-                } finally {
-                    lock.unlock();
-                }
-            }
+            purgeTimeoutMap(super::purge);
         }
+    }
 
-        private void onEviction(Listener.Type type, String key, String exchangeId) {
-            if (type != Listener.Type.Evict) {
-                return;
-            }
-            log.debug("Completion timeout triggered for correlation key: {}", key);
+    /**
+     * Same as {@link AggregationTimeoutMap} but using a timing wheel, which is used when the <tt>CamelTimeoutMap</tt>
+     * global option is set to <tt>timing-wheel</tt>.
+     */
+    private final class TimingWheelAggregationTimeoutMap extends TimingWheelTimeoutMap<String, String> {
 
-            boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
-            if (inProgress) {
-                log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
-                return;
+        private TimingWheelAggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 1);
+            addListener(AggregateProcessor.this::onTimeoutEviction);
+        }
+
+        @Override
+        protected void purge() {
+            purgeTimeoutMap(super::purge);
+        }
+    }
+
+    private void purgeTimeoutMap(Runnable purge) {
+        // wait for lock to be created
+        if (stripedLocks != null) {
+            // each evicted correlation key acquires its own lock stripe in onTimeoutEviction
+            purge.run();
+        } else if (lock != null) {
+            // must acquire the shared aggregation lock to be able to purge
+            lock.lock();
+            try {
+                purge.run();
+            } finally {
+                lock.unlock();
             }
+        }
+    }
 
-            // get the aggregated exchange
-            boolean evictionStolen = false;
-            Exchange answer = aggregationRepository.get(camelContext, key);
-            if (answer == null) {
-                evictionStolen = true;
-            } else {
-                // indicate it was completed by timeout
-                answer.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
-                try {
-                    answer = onCompletion(key, answer, answer, true);
-                    if (answer != null) {
-                        onSubmitCompletion(key, answer);
-                    }
-                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                    evictionStolen = true;
+    private void onTimeoutEviction(TimeoutMap.Listener.Type type, String key, String exchangeId) {
+        if (type != TimeoutMap.Listener.Type.Evict) {
+            return;
+        }
+        log.debug("Completion timeout triggered for correlation key: {}", key);
+
+        boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
+        if (inProgress) {
+            log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
+            return;
+        }
+
+        if (stripedLocks != null) {
+            Lock keyLock = lockFor(key);
+            keyLock.lock();
+            try {
+                // a new exchange may have been aggregated after the key was evicted but before we got the stripe
+                // which would have tracked the timeout again, and then the group should not be completed yet
+                if (timeoutMap.get(key) != null) {
+                    log.trace("Completion timeout for correlation key: {} was renewed while waiting for the lock", key);
+                    return;
                 }
+                doTimeoutEviction(key, exchangeId);
+            } finally {
+                keyLock.unlock();
             }
+        } else {
+            doTimeoutEviction(key, exchangeId);
+        }
+    }
 
-            if (optimisticLocking && evictionStolen) {
-                log.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
-                          + "for exchange with id: {} and correlation id: {}", exchangeId, key);
+    private void doTimeoutEviction(String key, String exchangeId) {
+        // get the aggregated exchange
+        boolean evictionStolen = false;
+        Exchange answer = aggregationRepository.get(camelContext, key);
+        if (answer == null) {
+            evictionStolen = true;
+        } else {
+            // indicate it was completed by timeout
+            answer.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+            try {
+                answer = onCompletion(key, answer, answer, true);
+                if (answer != null) {
+                    onSubmitCompletion(key, answer);
+                }
+            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                evictionStolen = true;
             }
         }
+
+        if (optimisticLocking && evictionStolen) {
+            log.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
+                      + "for exchange with id: {} and correlation id: {}", exchangeId, key);
+        }
     }
 
     /**
@@ -1184,37 +1276,49 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                // (or the lock stripe of each correlation key when lock striping is in use)
+                Lock sharedLock = stripedLocks != null ? NoLock.INSTANCE : lock;
+                sharedLock.lock();
                 try {
                     for (String key : keys) {
-                        boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            log.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                                stolenInterval = true;
-                            }
-                        }
-                        if (optimisticLocking && stolenInterval) {
-                            log.debug("Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}", key);
+                        Lock keyLock = stripedLocks != null ? lockFor(key) : NoLock.INSTANCE;
+                        keyLock.lock();
+                        try {
+                            doIntervalCompletion(key);
+                        } finally {
+                            keyLock.unlock();
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    sharedLock.unlock();
                 }
             }
 
             log.trace("Completion interval task complete");
         }
+
+        private void doIntervalCompletion(String key) {
+            boolean stolenInterval = false;
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange == null) {
+                stolenInterval = true;
+            } else {
+                log.trace("Completion interval triggered for correlation key: {}", key);
+                // indicate it was completed by interval
+                exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                try {
+                    Exchange answer = onCompletion(key, exchange, exchange, false);
+                    if (answer != null) {
+                        onSubmitCompletion(key, answer);
+                    }
+                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                    stolenInterval = true;
+                }
+            }
+            if (optimisticLocking && stolenInterval) {
+                log.debug("Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}", key);
+            }
+        }
     }
 
     /**
@@ -1247,7 +1351,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     log.info("We are shutting down so stop recovering");
                     return;
                 }
-                lock.lock();
+                lockAll();
                 try {
                     // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                     // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1311,7 +1415,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1362,6 +1466,16 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             log.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 1) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Only one of optimisticLocking or lockStripes can be used, not both.");
+            }
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException("Option lockStripes cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup"
+                        + " as these completions span all correlation groups.");
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1418,7 +1532,12 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            // (the timeout map implementation can be configured using the CamelTimeoutMap global option)
+            if (TimeoutMapHelper.isTimingWheel(camelContext)) {
+                timeoutMap = new TimingWheelAggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            } else {
+                timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            }
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
@@ -1436,11 +1555,45 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 setOptimisticLockingExecutorService(camelContext.getExecutorServiceManager().newScheduledThreadPool(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR, 1));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 1) {
+            // round up to a power of two so the stripe can be selected by masking the hash
+            int size = Integer.highestOneBit(lockStripes - 1) << 1;
+            Lock[] locks = new Lock[size];
+            for (int i = 0; i < size; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            log.info("Lock striping is enabled using {} locks", size);
+            stripedLocks = locks;
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Acquires the shared aggregation lock, or all the lock stripes (in order) when lock striping is in use.
+     */
+    private void lockAll() {
+        Lock[] locks = stripedLocks;
+        if (locks == null) {
+            lock.lock();
+        } else {
+            for (Lock stripe : locks) {
+                stripe.lock();
+            }
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] locks = stripedLocks;
+        if (locks == null) {
+            lock.unlock();
+        } else {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1547,7 +1700,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1561,7 +1715,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         log.trace("Completed force completion of group {}", key);
 
@@ -1588,23 +1742,31 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            // (or the lock stripe of each correlation key when lock striping is in use)
+            Lock sharedLock = stripedLocks != null ? NoLock.INSTANCE : lock;
+            sharedLock.lock();
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        log.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    Lock keyLock = stripedLocks != null ? lockFor(key) : NoLock.INSTANCE;
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            log.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
-                lock.unlock();
+                sharedLock.unlock();
             }
         }
         log.trace("Completed force completion of all groups task");
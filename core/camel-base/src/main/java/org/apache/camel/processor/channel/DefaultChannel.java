@@ -189,6 +189,11 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
             instrumentationProcessor = managed.createProcessor(targetOutputDef, nextProcessor);
         }
 
+        // gather the overhead of the advices when using extended statistics
+        if (camelContext.getManagementStrategy() != null && camelContext.getManagementStrategy().getManagementAgent() != null) {
+            setAdviceStatisticsEnabled(camelContext.getManagementStrategy().getManagementAgent().getStatisticsLevel().isExtended());
+        }
+
         // then wrap the output with the tracer and debugger (debugger first,
         // as we do not want regular tracer to trace the debugger)
         if (routeContext.isTracing()) {
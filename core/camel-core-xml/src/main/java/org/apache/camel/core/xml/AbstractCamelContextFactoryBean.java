@@ -87,6 +87,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventFactory;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.HeadersMapFactory;
@@ -236,6 +237,11 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
             LOG.info("Using custom UnitOfWorkFactory: {}", unitOfWorkFactory);
             getContext().adapt(ExtendedCamelContext.class).setUnitOfWorkFactory(unitOfWorkFactory);
         }
+        ExchangeFactory exchangeFactory = getBeanForType(ExchangeFactory.class);
+        if (exchangeFactory != null) {
+            LOG.info("Using custom ExchangeFactory: {}", exchangeFactory);
+            getContext().adapt(ExtendedCamelContext.class).setExchangeFactory(exchangeFactory);
+        }
         RuntimeEndpointRegistry runtimeEndpointRegistry = getBeanForType(RuntimeEndpointRegistry.class);
         if (runtimeEndpointRegistry != null) {
             LOG.info("Using custom RuntimeEndpointRegistry: {}", runtimeEndpointRegistry);
@@ -996,6 +1002,7 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         answer.setAllowCoreThreadTimeOut(CamelContextHelper.parseBoolean(context, definition.getAllowCoreThreadTimeOut()));
         answer.setRejectedPolicy(definition.getRejectedPolicy());
         answer.setTimeUnit(definition.getTimeUnit());
+        answer.setVirtualThreads(CamelContextHelper.parseBoolean(context, definition.getVirtualThreads()));
         return answer;
     }
 
@@ -36,6 +36,7 @@ import org.apache.camel.impl.engine.DefaultClassResolver;
 import org.apache.camel.impl.engine.DefaultComponentResolver;
 import org.apache.camel.impl.engine.DefaultDataFormatResolver;
 import org.apache.camel.impl.engine.DefaultEndpointRegistry;
+import org.apache.camel.impl.engine.DefaultExchangeFactory;
 import org.apache.camel.impl.engine.DefaultFactoryFinderResolver;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
 import org.apache.camel.impl.engine.DefaultInjector;
@@ -70,6 +71,7 @@ import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.ComponentResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.EndpointRegistry;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -268,6 +270,10 @@ public class DefaultCamelContext extends AbstractModelCamelContext {
         return new DefaultUnitOfWorkFactory();
     }
 
+    protected ExchangeFactory createExchangeFactory() {
+        return new DefaultExchangeFactory();
+    }
+
     protected RuntimeCamelCatalog createRuntimeCamelCatalog() {
         return new DefaultRuntimeCamelCatalog(this, true);
     }
@@ -77,6 +77,8 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
     @XmlAttribute
     private Boolean optimisticLocking;
     @XmlAttribute
+    private Integer lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -383,6 +385,14 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
         this.optimisticLocking = optimisticLocking;
     }
 
+    public Integer getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(Integer lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public Boolean getParallelProcessing() {
         return parallelProcessing;
     }
@@ -858,6 +868,17 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
         return this;
     }
 
+    /**
+     * Turns on lock striping, where the correlation keys are spread over the given number of locks
+     * (rounded up to a power of two) instead of a single shared lock, which allows exchanges
+     * with different correlation keys to be aggregated in parallel.
+     * This option cannot be used together with optimisticLocking, completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
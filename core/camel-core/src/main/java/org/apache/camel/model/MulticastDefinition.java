@@ -66,6 +66,8 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
     @XmlAttribute
     private Boolean parallelAggregate;
     @XmlAttribute
+    private Boolean orderedAggregate;
+    @XmlAttribute
     private Boolean stopOnAggregateException;
 
     public MulticastDefinition() {
@@ -178,6 +180,21 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
         setParallelAggregate(true);
         return this;
     }
+
+    /**
+     * If enabled then the sub messages are aggregated strictly in the same order as they were sent, when using parallel processing.
+     * The sub messages are processed concurrently, and a reorder buffer holds the replies which come back early until the
+     * previous replies have been aggregated. Unlike the default ordered aggregation this also works in streaming mode,
+     * and the calls to the aggregate method are not synchronized across all the messages routed through the Multicast,
+     * but are only guaranteed to not happen concurrently for the sub messages of the same message.
+     * This option cannot be used together with parallelAggregate or timeout.
+     *
+     * @return the builder
+     */
+    public MulticastDefinition orderedAggregate() {
+        setOrderedAggregate(true);
+        return this;
+    }
     
     /**
      * If enabled, unwind exceptions occurring at aggregation time to the error handler when parallelProcessing is used.
@@ -432,6 +449,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
         this.parallelAggregate = parallelAggregate;
     }
 
+    public Boolean getOrderedAggregate() {
+        return orderedAggregate;
+    }
+
+    public void setOrderedAggregate(Boolean orderedAggregate) {
+        this.orderedAggregate = orderedAggregate;
+    }
+
     public Boolean getStopOnAggregateException() {
         return stopOnAggregateException;
     }
@@ -57,6 +57,8 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     private Boolean stopOnException;
     @XmlAttribute @Metadata(defaultValue = "0")
     private Long timeout;
+    @XmlAttribute @Metadata(defaultValue = "0")
+    private Integer maxInflightExchanges;
     @XmlAttribute
     private String onPrepareRef;
     @XmlTransient
@@ -66,6 +68,8 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @XmlAttribute
     private Boolean parallelAggregate;
     @XmlAttribute
+    private Boolean orderedAggregate;
+    @XmlAttribute
     private Boolean stopOnAggregateException;
 
     public SplitDefinition() {
@@ -173,6 +177,21 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         setParallelAggregate(true);
         return this;
     }
+
+    /**
+     * If enabled then the sub messages are aggregated strictly in the same order as they were sent, when using parallel processing.
+     * The sub messages are processed concurrently, and a reorder buffer holds the replies which come back early until the
+     * previous replies have been aggregated. Unlike the default ordered aggregation this also works in streaming mode,
+     * and the calls to the aggregate method are not synchronized across all the messages routed through the Splitter,
+     * but are only guaranteed to not happen concurrently for the sub messages of the same message.
+     * This option cannot be used together with parallelAggregate or timeout.
+     *
+     * @return the builder
+     */
+    public SplitDefinition orderedAggregate() {
+        setOrderedAggregate(true);
+        return this;
+    }
     
     /**
      * If enabled, unwind exceptions occurring at aggregation time to the error handler when parallelProcessing is used.
@@ -286,6 +305,21 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of splitted messages that are in-flight at the same time, when using parallel processing.
+     * The Splitter only pulls the next message from the iterator when a previous message has been processed and aggregated,
+     * which keeps memory usage bounded when splitting big payloads in streaming mode, and applies backpressure
+     * towards the source instead of splitting the entire payload upfront.
+     * The default value is 0 which means there is no limit.
+     *
+     * @param maxInflightExchanges the maximum number of in-flight splitted messages
+     * @return the builder
+     */
+    public SplitDefinition maxInflightExchanges(int maxInflightExchanges) {
+        setMaxInflightExchanges(maxInflightExchanges);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages.
      * Splitter will by default not share unit of work between the parent exchange and each splitted exchange.
@@ -346,6 +380,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     public void setParallelAggregate(Boolean parallelAggregate) {
         this.parallelAggregate = parallelAggregate;
     }
+
+    public Boolean getOrderedAggregate() {
+        return orderedAggregate;
+    }
+
+    public void setOrderedAggregate(Boolean orderedAggregate) {
+        this.orderedAggregate = orderedAggregate;
+    }
     
     public Boolean getStopOnAggregateException() {
         return this.stopOnAggregateException;
@@ -426,6 +468,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public Integer getMaxInflightExchanges() {
+        return maxInflightExchanges;
+    }
+
+    public void setMaxInflightExchanges(Integer maxInflightExchanges) {
+        this.maxInflightExchanges = maxInflightExchanges;
+    }
+
     public String getOnPrepareRef() {
         return onPrepareRef;
     }
@@ -52,6 +52,8 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
     private String allowCoreThreadTimeOut;
     @XmlAttribute
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    @XmlAttribute
+    private String virtualThreads;
 
     public ThreadPoolProfileDefinition() {
     }
@@ -117,6 +119,11 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         return this;
     }
 
+    public ThreadPoolProfileDefinition virtualThreads(boolean virtualThreads) {
+        setVirtualThreads("" + virtualThreads);
+        return this;
+    }
+
     public Boolean getDefaultProfile() {
         return defaultProfile;
     }
@@ -191,6 +198,21 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to use virtual threads, where each task is executed by its own virtual thread.
+     * The pool size, max pool size, keep alive time and max queue size options are not in use with virtual threads.
+     * Requires running on a JVM which supports virtual threads, otherwise a regular thread pool is used.
+     * <p/>
+     * Is by default <tt>false</tt>
+     */
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public TimeUnit getTimeUnit() {
         return timeUnit;
     }
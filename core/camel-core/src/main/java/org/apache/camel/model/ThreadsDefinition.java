@@ -60,6 +60,8 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition> imp
     private ThreadPoolRejectedPolicy rejectedPolicy;
     @XmlAttribute @Metadata(defaultValue = "true")
     private Boolean callerRunsWhenRejected;
+    @XmlAttribute
+    private Boolean virtualThreads;
     
     public ThreadsDefinition() {
         this.threadName =  "Threads";
@@ -203,6 +205,38 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition> imp
         return this;
     }
 
+    /**
+     * Whether to use virtual threads, where each task is executed by its own virtual thread.
+     * This allows blocking tasks to scale without being limited by the pool size, and therefore
+     * the pool size, max pool size, keep alive time and max queue size options are not in use.
+     * <p/>
+     * Requires running on a JVM which supports virtual threads, otherwise a regular thread pool is used.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @return the builder
+     */
+    public ThreadsDefinition virtualThreads() {
+        return virtualThreads(true);
+    }
+
+    /**
+     * Whether to use virtual threads, where each task is executed by its own virtual thread.
+     * This allows blocking tasks to scale without being limited by the pool size, and therefore
+     * the pool size, max pool size, keep alive time and max queue size options are not in use.
+     * <p/>
+     * Requires running on a JVM which supports virtual threads, otherwise a regular thread pool is used.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     * @return the builder
+     */
+    public ThreadsDefinition virtualThreads(boolean virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     public ExecutorService getExecutorService() {
         return executorService;
     }
@@ -290,4 +324,12 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition> imp
     public void setAllowCoreThreadTimeOut(Boolean allowCoreThreadTimeOut) {
         this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
     }
+
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
 }
@@ -54,6 +54,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     private Boolean callerRunsWhenRejected;
     @XmlAttribute
     private Boolean rejectExecution;
+    @XmlAttribute
+    private Boolean tokenBucket;
 
     public ThrottleDefinition() {
     }
@@ -153,6 +155,21 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Whether to use a lock free token bucket per correlation key instead of a queue of permits.
+     * The token bucket allows a burst of up to the maximum requests per period, and thereafter spreads the
+     * messages evenly over the time period. This scales better with high message rates and many correlation keys,
+     * and when asyncDelayed is enabled the throttled messages are parked without blocking any thread.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket() {
+        setTokenBucket(true);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -235,6 +252,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public Boolean getTokenBucket() {
+        return tokenBucket;
+    }
+
+    public void setTokenBucket(Boolean tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping.
      * The Exchange which has the same correlation key is throttled together.
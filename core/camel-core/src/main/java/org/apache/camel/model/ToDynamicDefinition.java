@@ -52,6 +52,8 @@ public class ToDynamicDefinition extends NoOutputDefinition<ToDynamicDefinition>
     private Boolean ignoreInvalidEndpoint;
     @XmlAttribute @Metadata(defaultValue = "true")
     private Boolean allowOptimisedComponents;
+    @XmlAttribute
+    private String warmupUris;
 
     public ToDynamicDefinition() {
     }
@@ -112,6 +114,18 @@ public class ToDynamicDefinition extends NoOutputDefinition<ToDynamicDefinition>
         return this;
     }
 
+    /**
+     * Endpoint uris (separated by comma) which are known to be sent to, where the producers are created and
+     * started when the route is started, so the first messages sent to these endpoints do not have to wait for the producers.
+     *
+     * @param warmupUris  the endpoint uris separated by comma
+     * @return the builder
+     */
+    public ToDynamicDefinition warmupUris(String warmupUris) {
+        setWarmupUris(warmupUris);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -166,4 +180,16 @@ public class ToDynamicDefinition extends NoOutputDefinition<ToDynamicDefinition>
         this.allowOptimisedComponents = allowOptimisedComponents;
     }
 
+    public String getWarmupUris() {
+        return warmupUris;
+    }
+
+    /**
+     * Endpoint uris (separated by comma) which are known to be sent to, where the producers are created and
+     * started when the route is started, so the first messages sent to these endpoints do not have to wait for the producers.
+     */
+    public void setWarmupUris(String warmupUris) {
+        this.warmupUris = warmupUris;
+    }
+
 }
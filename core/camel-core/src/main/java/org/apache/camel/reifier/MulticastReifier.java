@@ -69,12 +69,20 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        boolean isOrderedAggregate = definition.getOrderedAggregate() != null && definition.getOrderedAggregate();
+        if (isOrderedAggregate && !isParallelProcessing) {
+            throw new IllegalArgumentException("OrderedAggregate is used but ParallelProcessing has not been enabled.");
+        }
+        if (isOrderedAggregate && (isParallelAggregate || timeout > 0)) {
+            throw new IllegalArgumentException("OrderedAggregate cannot be used together with ParallelAggregate or Timeout.");
+        }
         if (definition.getOnPrepareRef() != null) {
             definition.setOnPrepare(CamelContextHelper.mandatoryLookup(routeContext.getCamelContext(), definition.getOnPrepareRef(), Processor.class));
         }
 
         MulticastProcessor answer = new MulticastProcessor(routeContext.getCamelContext(), list, strategy, isParallelProcessing,
                 threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(), isShareUnitOfWork, isParallelAggregate, isStopOnAggregateException);
+        answer.setOrderedAggregate(isOrderedAggregate);
         return answer;
     }
 
@@ -54,6 +54,17 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        boolean isOrderedAggregate = definition.getOrderedAggregate() != null && definition.getOrderedAggregate();
+        if (isOrderedAggregate && !isParallelProcessing) {
+            throw new IllegalArgumentException("OrderedAggregate is used but ParallelProcessing has not been enabled.");
+        }
+        if (isOrderedAggregate && (isParallelAggregate || timeout > 0)) {
+            throw new IllegalArgumentException("OrderedAggregate cannot be used together with ParallelAggregate or Timeout.");
+        }
+        int maxInflightExchanges = definition.getMaxInflightExchanges() != null ? definition.getMaxInflightExchanges() : 0;
+        if (maxInflightExchanges > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("MaxInflightExchanges is used but ParallelProcessing has not been enabled.");
+        }
         if (definition.getOnPrepareRef() != null) {
             definition.setOnPrepare(CamelContextHelper.mandatoryLookup(routeContext.getCamelContext(), definition.getOnPrepareRef(), Processor.class));
         }
@@ -63,6 +74,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         Splitter answer = new Splitter(routeContext.getCamelContext(), exp, childProcessor, definition.getAggregationStrategy(),
                 isParallelProcessing, threadPool, shutdownThreadPool, isStreaming, definition.isStopOnException(),
                 timeout, definition.getOnPrepare(), isShareUnitOfWork, isParallelAggregate, isStopOnAggregateException);
+        answer.setMaxInflightExchanges(maxInflightExchanges);
+        answer.setOrderedAggregate(isOrderedAggregate);
         return answer;
     }
 
@@ -66,6 +66,7 @@ public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
                     .maxQueueSize(definition.getMaxQueueSize())
                     .rejectedPolicy(policy)
                     .allowCoreThreadTimeOut(definition.getAllowCoreThreadTimeOut())
+                    .virtualThreads(definition.getVirtualThreads())
                     .build();
             threadPool = manager.newThreadPool(definition, name, profile);
             shutdownThreadPool = true;
@@ -94,6 +95,9 @@ public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
             if (definition.getAllowCoreThreadTimeOut() != null) {
                 throw new IllegalArgumentException("AllowCoreThreadTimeOut and executorServiceRef options cannot be used together.");
             }
+            if (definition.getVirtualThreads() != null) {
+                throw new IllegalArgumentException("VirtualThreads and executorServiceRef options cannot be used together.");
+            }
         }
 
         return new ThreadsProcessor(routeContext.getCamelContext(), threadPool, shutdownThreadPool, policy);
@@ -59,6 +59,9 @@ public class ToDynamicReifier<T extends ToDynamicDefinition> extends ProcessorRe
         if (definition.getIgnoreInvalidEndpoint() != null) {
             processor.setIgnoreInvalidEndpoint(definition.getIgnoreInvalidEndpoint());
         }
+        if (definition.getWarmupUris() != null) {
+            processor.setWarmupUris(definition.getWarmupUris());
+        }
         return processor;
     }
 
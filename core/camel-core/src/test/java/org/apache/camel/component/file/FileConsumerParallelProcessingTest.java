@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for consuming the files from a poll in parallel
+ */
+public class FileConsumerParallelProcessingTest extends ContextTestSupport {
+
+    private String fileUrl = "file://target/data/parallel";
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/parallel");
+        super.setUp();
+    }
+
+    @Test
+    public void testParallelProcessing() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader(fileUrl, "Message " + i, Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(10).create();
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(notify.matchesMockWaitTime());
+
+        // the files are moved when they are done
+        for (int i = 0; i < 10; i++) {
+            assertFileExists("target/data/parallel/.camel/file" + i + ".txt");
+        }
+        assertFalse("Files should be moved", new File("target/data/parallel/file0.txt").exists());
+
+        assertTrue("Should process files in parallel, was: " + maxActive.get(), maxActive.get() > 1);
+        assertTrue("Should process at most 5 files at the same time, was: " + maxActive.get(), maxActive.get() <= 5);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(fileUrl + "?initialDelay=0&delay=10&parallelProcessing=true&maxConcurrentFiles=5")
+                        .routeId("foo").noAutoStartup()
+                        .process(e -> {
+                            int current = active.incrementAndGet();
+                            maxActive.accumulateAndGet(current, Math::max);
+                            Thread.sleep(100);
+                            active.decrementAndGet();
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for consuming files using the watch service
+ */
+public class FileConsumerWatchServiceTest extends ContextTestSupport {
+
+    private String fileUrl = "file://target/data/watch";
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/watch");
+        createDirectory("target/data/watch");
+        deleteDirectory("target/data/watchlimit");
+        createDirectory("target/data/watchlimit");
+        super.setUp();
+    }
+
+    @Test
+    public void testWatchService() throws Exception {
+        // a file which exists before the consumer is started is picked up by the full scan
+        template.sendBodyAndHeader(fileUrl, "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // new files are picked up as they are created, and not after the watch timeout of 30 seconds
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("Bye World", "Hi World");
+        mock.setResultWaitTime(10000);
+
+        template.sendBodyAndHeader(fileUrl, "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUrl, "Hi World", Exchange.FILE_NAME, "sub/hi.txt");
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testWatchServiceMaxMessagesPerPoll() throws Exception {
+        context.getRouteController().startRoute("bar");
+
+        // the files which are not processed as the poll is limited are picked up on the next poll,
+        // and not after the watch timeout or the rescan interval
+        MockEndpoint mock = getMockEndpoint("mock:limit");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C");
+        mock.setResultWaitTime(10000);
+
+        template.sendBodyAndHeader("file://target/data/watchlimit", "A", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader("file://target/data/watchlimit", "B", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader("file://target/data/watchlimit", "C", Exchange.FILE_NAME, "c.txt");
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(fileUrl + "?initialDelay=0&delay=1&watchService=true&watchTimeout=30000&recursive=true")
+                        .routeId("foo").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from("file://target/data/watchlimit?initialDelay=0&delay=1&watchService=true&watchTimeout=30000"
+                        + "&watchServiceRescanInterval=120000&maxMessagesPerPoll=1&eagerLimitMaxMessagesPerPoll=false")
+                        .routeId("bar").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:limit");
+            }
+        };
+    }
+
+}
@@ -15,6 +15,9 @@
  * limitations under the License.
  */
 package org.apache.camel.component.file;
+
+import java.io.File;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.builder.RouteBuilder;
@@ -38,6 +41,17 @@ public class FileProduceAppendTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testAppendFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists("target/data/test-file-append/hello.txt", "Hello World");
+
+        template.sendBody("direct:start", new File("target/data/test-file-append/world.txt"));
+
+        assertMockEndpointsSatisfied();
+    }
+
     @Override
     @Before
     public void setUp() throws Exception {
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class SedaMpmcQueueBatchTest extends ContextTestSupport {
+
+    private static final String URI = "seda:foo?queueFactory=#mpmcQueueFactory&maxMessagesPerPoll=10&statisticsEnabled=true";
+    private static final String SLOW_URI = "seda:slow?queueFactory=#mpmcQueueFactory";
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("mpmcQueueFactory", new MpmcArrayBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testBatchDrain() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(200);
+        mock.expectsNoDuplicates(body());
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody(URI, "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        SedaEndpoint endpoint = context.getEndpoint(URI, SedaEndpoint.class);
+        assertIsInstanceOf(MpmcArrayBlockingQueue.class, endpoint.getQueue());
+        assertEquals(10, endpoint.getMaxMessagesPerPoll());
+
+        QueueStatistics statistics = endpoint.getQueueStatistics();
+        assertNotNull(statistics);
+        assertEquals(200, statistics.getLatency().getCount());
+        assertTrue(statistics.getOccupancy().getCount() > 0);
+        assertTrue(statistics.getLatency().getMax() >= statistics.getLatency().getPercentile(0.5));
+
+        // the enqueued time is only used for the statistics and should not leak into the route
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertNull(exchange.getProperty(QueueStatistics.ENQUEUED_TIME));
+        }
+
+        endpoint.resetQueueStatistics();
+        assertEquals(0, statistics.getLatency().getCount());
+    }
+
+    @Test
+    public void testTimedOutExchangeIsSkipped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:slow");
+        mock.expectedBodiesReceived("A");
+        mock.setAssertPeriod(200);
+
+        // the consumer is busy with the first message
+        template.sendBody(SLOW_URI, "A");
+
+        // so the second message times out while waiting on the queue, which cannot remove it
+        try {
+            template.requestBody(SLOW_URI + "&timeout=100", "B");
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ExchangeTimedOutException.class, e.getCause());
+        }
+
+        // and the consumer should skip the timed out message
+        latch.countDown();
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMpmcQueue() throws Exception {
+        MpmcArrayBlockingQueue<String> queue = new MpmcArrayBlockingQueue<>(3);
+        // capacity is rounded up to the next power of two
+        assertEquals(4, queue.remainingCapacity());
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertTrue(queue.offer("D"));
+        assertFalse(queue.offer("E"));
+        assertFalse(queue.offer("E", 10, TimeUnit.MILLISECONDS));
+        assertEquals(4, queue.size());
+        assertEquals("A", queue.peek());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained, 3));
+        assertEquals("[A, B, C]", drained.toString());
+        assertEquals("D", queue.poll());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(URI).to("mock:result");
+
+                from(SLOW_URI)
+                    .process(exchange -> latch.await(5, TimeUnit.SECONDS))
+                    .to("mock:slow");
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.junit.Test;
+
+public class SedaVirtualThreadsTest extends ContextTestSupport {
+
+    @Test
+    public void testSendToSeda() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("seda:foo", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        SedaEndpoint seda = context.getEndpoint("seda:foo?concurrentConsumers=5&virtualThreads=true", SedaEndpoint.class);
+        assertTrue(seda.isVirtualThreads());
+
+        Thread thread = mock.getReceivedExchanges().get(0).getIn().getHeader("thread", Thread.class);
+        if (CamelThreadFactory.isVirtualThreadsSupported()) {
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?concurrentConsumers=5&virtualThreads=true")
+                    .process(exchange -> exchange.getIn().setHeader("thread", Thread.currentThread()))
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachedOutputStreamBufferPoolTest extends ContextTestSupport {
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/cachedir");
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+        context.getStreamCachingStrategy().setBufferSize(64);
+        context.getStreamCachingStrategy().setBufferPoolSize(4 * 64);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/cachedir");
+        super.setUp();
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCacheInPooledBuffers() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        byte[] data = createData(200);
+        cos.write(data, 0, 100);
+        cos.write(data[100]);
+        cos.write(data, 101, 99);
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the ByteBufferInputStreamCache", cache instanceof ByteBufferInputStreamCache);
+        assertTrue(cache.inMemory());
+        assertEquals(200, cache.length());
+        assertArrayEquals(data, read((InputStream) cache));
+
+        // reset and read again
+        cache.reset();
+        assertArrayEquals(data, read((InputStream) cache));
+
+        // copy should be readable from the beginning
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertArrayEquals(data, bos.toByteArray());
+
+        assertEquals(4, statistics.getBufferPoolAcquiredCounter());
+        assertEquals(4 * 64, statistics.getBufferPoolUsedSize());
+        assertEquals(4 * 64, statistics.getBufferPoolAllocatedSize());
+
+        // the buffers should be released when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+        assertEquals(4 * 64, statistics.getBufferPoolAllocatedSize());
+
+        try {
+            ((InputStream) cache).read();
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCopyOutlivesExchange() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        byte[] data = createData(200);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+
+        // copy the stream cache to another exchange, such as a wiretap
+        Exchange other = new DefaultExchange(context);
+        other.setUnitOfWork(new DefaultUnitOfWork(other));
+        StreamCache copy = cache.copy(other);
+
+        // the copy should still be readable when the first exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(4 * 64, statistics.getBufferPoolUsedSize());
+        assertArrayEquals(data, read((InputStream) copy));
+
+        try {
+            ((InputStream) cache).read();
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            // expected
+        }
+
+        // and the buffers should be released when the other exchange is done as well
+        other.getUnitOfWork().done(other);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+
+        try {
+            ((InputStream) copy).read();
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testBufferPoolExhaustedSpoolToFile() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        byte[] data = createData(300);
+        cos.write(data);
+
+        File file = new File("target/data/cachedir");
+        String[] files = file.list();
+        assertEquals("we should have a temp file", 1, files.length);
+        assertEquals(1, statistics.getBufferPoolExhaustedCounter());
+        // the buffers should be released when spooled to file
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the FileInputStreamCache", cache instanceof FileInputStreamCache);
+        assertArrayEquals(data, read((InputStream) cache));
+        ((InputStream) cache).close();
+
+        exchange.getUnitOfWork().done(exchange);
+        files = file.list();
+        assertEquals("we should have no temp file", 0, files.length);
+    }
+
+    @Test
+    public void testSpoolThresholdToFile() throws Exception {
+        context.getStreamCachingStrategy().setBufferPoolSize(16 * 1024);
+        context.getStreamCachingStrategy().stop();
+        context.getStreamCachingStrategy().start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        byte[] data = createData(2000);
+        cos.write(data, 0, 1000);
+        cos.write(data, 1000, 1000);
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the FileInputStreamCache", cache instanceof FileInputStreamCache);
+        assertEquals(2000, cache.length());
+        assertArrayEquals(data, read((InputStream) cache));
+        ((InputStream) cache).close();
+
+        assertEquals(0, context.getStreamCachingStrategy().getStatistics().getBufferPoolUsedSize());
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private static byte[] read(InputStream is) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(is, bos);
+        return bos.toByteArray();
+    }
+}
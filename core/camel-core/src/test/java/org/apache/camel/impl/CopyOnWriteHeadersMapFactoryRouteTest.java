@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CopyOnWriteHeadersMapFactory;
+import org.junit.Test;
+
+public class CopyOnWriteHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setHeadersMapFactory(new CopyOnWriteHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCopyOnWriteHeaders() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", 123);
+        getMockEndpoint("mock:a").expectedHeaderReceived("bar", "a");
+        getMockEndpoint("mock:b").expectedHeaderReceived("FOO", 123);
+        getMockEndpoint("mock:b").expectedHeaderReceived("bar", "b");
+        // the header set in the first branch should not be seen in the second branch
+        getMockEndpoint("mock:b").expectedHeaderReceived("onlyA", null);
+        getMockEndpoint("mock:result").expectedHeaderReceived("Foo", 123);
+        // the result of the multicast is the last branch
+        getMockEndpoint("mock:result").expectedHeaderReceived("Bar", "b");
+        getMockEndpoint("mock:result").expectedHeaderReceived(Exchange.FILE_NAME, "hello.txt");
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        headers.put("Bar", "yes");
+        headers.put("camelfilename", "hello.txt");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .multicast().to("direct:a", "direct:b").end()
+                    .to("mock:result");
+
+                from("direct:a").setHeader("bar", constant("a")).setHeader("onlyA", constant(true)).to("mock:a");
+                from("direct:b").setHeader("BAR", constant("b")).to("mock:b");
+            }
+        };
+    }
+
+}
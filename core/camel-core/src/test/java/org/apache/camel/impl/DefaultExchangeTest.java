@@ -18,6 +18,7 @@ package org.apache.camel.impl;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.Date;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -27,6 +28,7 @@ import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConversionException;
 import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
 import org.apache.camel.support.DefaultMessage;
 import org.junit.Test;
 
@@ -130,7 +132,58 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals("banana", exchange.getProperty("beer", "banana"));
         assertEquals("banana", exchange.getProperty("beer", "banana", String.class));
     }
-    
+
+    @Test
+    public void testCreatedTimestamp() throws Exception {
+        DefaultExchange target = new DefaultExchange(context);
+        // the created timestamp is set when the exchange is routed
+        assertNull(target.getCreated());
+        assertFalse(target.hasProperties());
+
+        target.setCreated(1000);
+        assertEquals(new Date(1000), target.getCreated());
+        assertEquals(new Date(1000), target.getProperty(Exchange.CREATED_TIMESTAMP, Date.class));
+        assertTrue(target.hasProperties());
+
+        Exchange copy = target.copy();
+        assertEquals(new Date(1000), copy.getCreated());
+
+        // the timestamp is stored in the properties map when it is created
+        assertEquals(new Date(1000), target.getProperties().get(Exchange.CREATED_TIMESTAMP));
+
+        Date created = new Date(0);
+        target.setProperty(Exchange.CREATED_TIMESTAMP, created);
+        assertSame(created, target.getCreated());
+
+        target.removeProperty(Exchange.CREATED_TIMESTAMP);
+        assertNull(target.getCreated());
+        assertFalse(target.hasProperties());
+    }
+
+    @Test
+    public void testCreatedTimestampRemovedWithoutProperties() throws Exception {
+        DefaultExchange target = new DefaultExchange(context);
+        target.setCreated(1000);
+
+        assertEquals(new Date(1000), target.removeProperty(Exchange.CREATED_TIMESTAMP));
+        assertNull(target.getCreated());
+        assertFalse(target.hasProperties());
+
+        // and the copy does not have the timestamp either
+        assertNull(target.copy().getCreated());
+    }
+
+    @Test
+    public void testCreatedTimestampMarshal() throws Exception {
+        DefaultExchange target = new DefaultExchange(context);
+        target.setCreated(1000);
+
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(target);
+        Exchange other = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(other, holder);
+        assertEquals(new Date(1000), other.getCreated());
+    }
+
     @Test
     public void testRemoveProperties() throws Exception {
         exchange.removeProperty("foobar");
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
@@ -45,4 +48,68 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testBrowseDisabled() throws Exception {
+        DefaultInflightRepository repo = new DefaultInflightRepository();
+        repo.setBrowseSampleRate(0);
+        repo.addRoute("foo");
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        repo.add(e2, "foo");
+
+        // the counters are still accurate but no exchanges can be browsed
+        assertEquals(2, repo.size());
+        assertEquals(2, repo.size("foo"));
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        assertEquals(1, repo.size());
+        assertEquals(1, repo.size("foo"));
+
+        repo.remove(e2, "foo");
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.size("foo"));
+    }
+
+    @Test
+    public void testBrowseSampled() throws Exception {
+        DefaultInflightRepository repo = new DefaultInflightRepository();
+        repo.setBrowseSampleRate(4);
+
+        List<Exchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchanges.add(exchange);
+            repo.add(exchange);
+        }
+
+        assertEquals(1000, repo.size());
+        int browseable = repo.browse().size();
+        assertTrue("Should only keep a sample of the exchanges, was: " + browseable, browseable > 0 && browseable < 1000);
+
+        for (Exchange exchange : exchanges) {
+            repo.remove(exchange);
+        }
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.browse().size());
+    }
+
+    @Test
+    public void testInvalidBrowseSampleRate() throws Exception {
+        DefaultInflightRepository repo = new DefaultInflightRepository();
+        try {
+            repo.setBrowseSampleRate(-1);
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.camel.impl;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncProducer;
@@ -34,6 +35,8 @@ import org.apache.camel.support.DefaultEndpoint;
 import org.apache.camel.support.DefaultProducer;
 import org.junit.Test;
 
+import static org.awaitility.Awaitility.await;
+
 public class DefaultProducerCacheTest extends ContextTestSupport {
 
     private final AtomicInteger stopCounter = new AtomicInteger();
@@ -144,6 +147,59 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         cache.stop();
     }
 
+    @Test
+    public void testCacheShardsAndAsyncStop() throws Exception {
+        context.getGlobalOptions().put(Exchange.PRODUCER_CACHE_SHARDS, "2");
+        context.getGlobalOptions().put(Exchange.PRODUCER_CACHE_ASYNC_STOP, "true");
+
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 4);
+        cache.setExtendedStatistics(true);
+        cache.start();
+
+        for (int i = 0; i < 8; i++) {
+            Endpoint e = newEndpoint(true, i);
+            e.setCamelContext(context);
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+
+        // the eviction is async so force cleanup
+        cache.cleanUp();
+
+        // each shard holds at most 2 producers, and the evicted producers are stopped in the background
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            int size = cache.size();
+            assertTrue("Size should be at most 4 but was " + size, size <= 4);
+            assertEquals(8 - size, stopCounter.get());
+        });
+        assertEquals(8, cache.getMisses());
+        assertTrue(cache.getMeanMissTime() > 0);
+
+        cache.stop();
+
+        // should have stopped all 8
+        assertEquals(8, stopCounter.get());
+    }
+
+    @Test
+    public void testWarmup() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e = newEndpoint(true, 1);
+        cache.warmup(e);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getMisses());
+
+        // the producer is already created so its a cache hit
+        AsyncProducer p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHits());
+
+        cache.stop();
+    }
+
     @Override
     public void setUp() throws Exception {
         super.setUp();
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.impl.engine.MonotonicUuidGenerator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MonotonicUuidGeneratorTest extends Assert {
+
+    @Test
+    public void testGenerateUUID() {
+        MonotonicUuidGenerator uuidGenerator = new MonotonicUuidGenerator("ID-foo");
+
+        String firstUUID = uuidGenerator.generateUuid();
+        String secondUUID = uuidGenerator.generateUuid();
+
+        assertTrue(firstUUID, firstUUID.startsWith("ID-foo-"));
+        assertTrue(firstUUID, firstUUID.endsWith("-1"));
+        assertTrue(secondUUID, secondUUID.endsWith("-2"));
+        assertEquals(firstUUID.substring(0, firstUUID.length() - 1), secondUUID.substring(0, secondUUID.length() - 1));
+    }
+
+    @Test
+    public void testGenerateManyUUID() {
+        MonotonicUuidGenerator uuidGenerator = new MonotonicUuidGenerator("ID-foo");
+
+        String uuid = null;
+        for (int i = 0; i < 12345; i++) {
+            uuid = uuidGenerator.generateUuid();
+        }
+        assertTrue(uuid, uuid.endsWith("-12345"));
+    }
+
+    @Test
+    public void testUniquePerInstance() {
+        MonotonicUuidGenerator first = new MonotonicUuidGenerator();
+        MonotonicUuidGenerator second = new MonotonicUuidGenerator();
+
+        assertNotEquals(first.generateUuid(), second.generateUuid());
+    }
+
+}
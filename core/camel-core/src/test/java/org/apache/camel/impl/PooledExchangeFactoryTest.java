@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class PooledExchangeFactoryTest extends ContextTestSupport {
+
+    private PooledExchangeFactory factory;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        factory = new PooledExchangeFactory();
+        factory.setCapacity(10);
+        factory.setLeakDetectionEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(factory);
+        return context;
+    }
+
+    @Test
+    public void testRecycleExchange() throws Exception {
+        Endpoint endpoint = context.getEndpoint("mock:foo");
+
+        Exchange exchange = factory.createReleasable(endpoint, ExchangePattern.InOut);
+        String id = exchange.getExchangeId();
+        exchange.setProperty("foo", "bar");
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("beer", "Carlsberg");
+        exchange.getOut().setBody("Bye World");
+        exchange.setException(new IllegalArgumentException("Forced"));
+        assertEquals(1, factory.getInUseSize());
+
+        assertTrue(factory.release(exchange));
+        assertEquals(1, factory.getPoolSize());
+        assertEquals(0, factory.getInUseSize());
+        // releasing again is not allowed
+        assertFalse(factory.release(exchange));
+        assertEquals(1, factory.getPoolSize());
+
+        Exchange recycled = endpoint.createExchange(ExchangePattern.InOnly);
+        assertSame(exchange, recycled);
+        assertEquals(1, factory.getAcquiredCounter());
+        assertNotEquals(id, recycled.getExchangeId());
+        assertEquals(ExchangePattern.InOnly, recycled.getPattern());
+        assertSame(endpoint, recycled.getFromEndpoint());
+        assertFalse(recycled.hasProperties());
+        assertNull(recycled.getIn().getBody());
+        assertFalse(recycled.getIn().hasHeaders());
+        assertFalse(recycled.hasOut());
+        assertNull(recycled.getException());
+    }
+
+    @Test
+    public void testCopyIntoRecycledExchange() throws Exception {
+        Endpoint endpoint = context.getEndpoint("mock:foo");
+
+        Exchange exchange = endpoint.createExchange();
+        exchange.setProperty("foo", "bar");
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("beer", "Carlsberg");
+
+        factory.release(factory.createReleasable(endpoint, ExchangePattern.InOnly));
+
+        Exchange copy = factory.copy(exchange);
+        assertNotSame(exchange, copy);
+        assertEquals(1, factory.getAcquiredCounter());
+        assertEquals("bar", copy.getProperty("foo"));
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertEquals("Carlsberg", copy.getIn().getHeader("beer"));
+
+        // the copy must not share state with the original
+        copy.setProperty("foo", "baz");
+        copy.getIn().setHeader("beer", "Heineken");
+        assertEquals("bar", exchange.getProperty("foo"));
+        assertEquals("Carlsberg", exchange.getIn().getHeader("beer"));
+    }
+
+    @Test
+    public void testReleaseOnlyOnce() throws Exception {
+        // without leak detection the exchange should still only be released once
+        PooledExchangeFactory other = new PooledExchangeFactory();
+        other.setCamelContext(context);
+        Endpoint endpoint = context.getEndpoint("mock:foo");
+
+        Exchange exchange = other.create(endpoint, ExchangePattern.InOnly);
+        assertTrue(other.release(exchange));
+        assertFalse(other.release(exchange));
+        assertEquals(1, other.getPoolSize());
+
+        // and can be released again once it has been reused
+        assertSame(exchange, other.create(endpoint, ExchangePattern.InOnly));
+        assertTrue(other.release(exchange));
+        assertEquals(1, other.getPoolSize());
+    }
+
+    @Test
+    public void testPoolCapacity() throws Exception {
+        Endpoint endpoint = context.getEndpoint("mock:foo");
+        Exchange[] exchanges = new Exchange[15];
+        for (int i = 0; i < exchanges.length; i++) {
+            exchanges[i] = factory.createReleasable(endpoint, ExchangePattern.InOnly);
+        }
+        for (Exchange exchange : exchanges) {
+            factory.release(exchange);
+        }
+        assertEquals(10, factory.getPoolSize());
+        assertEquals(10, factory.getReleasedCounter());
+        assertEquals(5, factory.getDiscardedCounter());
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World", "Bye World");
+
+        // the producer template does not release the exchanges it creates, so these are not tracked
+        template.sendBody("direct:start", "Hello World");
+        assertEquals(0, factory.getInUseSize());
+
+        Exchange exchange = factory.createReleasable(context.getEndpoint("direct:start"), ExchangePattern.InOnly);
+        exchange.getIn().setBody("Bye World");
+        template.send("direct:start", exchange);
+
+        assertMockEndpointsSatisfied();
+        // the exchange has completed but was never released
+        assertEquals(1, factory.getInUseSize());
+        assertEquals(1, factory.getLeakedSize());
+
+        assertTrue(factory.release(exchange));
+        assertEquals(0, factory.getInUseSize());
+    }
+
+    @Test
+    public void testTimerRecyclesExchanges() throws Exception {
+        getMockEndpoint("mock:timer").expectedMessageCount(5);
+
+        context.getRouteController().startRoute("timer");
+
+        assertMockEndpointsSatisfied();
+        // the timer consumer releases the exchange when it is done with it, so the next one reuses the exchange
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(5, factory.getReleasedCounter()));
+        assertEquals(1, factory.getCreatedCounter());
+        assertEquals(4, factory.getAcquiredCounter());
+        assertEquals(0, factory.getInUseSize());
+    }
+
+    @Test
+    public void testDetachedExchangeIsNotRecycled() throws Exception {
+        Endpoint endpoint = context.getEndpoint("mock:foo");
+
+        Exchange exchange = factory.createReleasable(endpoint, ExchangePattern.InOnly);
+        assertEquals(1, factory.getInUseSize());
+
+        factory.detach(exchange);
+        // a detached exchange is no longer expected to be released
+        assertEquals(0, factory.getInUseSize());
+        assertFalse(factory.release(exchange));
+        assertEquals(0, factory.getPoolSize());
+    }
+
+    @Test
+    public void testSplitRecyclesSubExchanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:line");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L");
+        getMockEndpoint("mock:result").expectedBodiesReceived("A,B,C,D,E,F", "G,H,I,J,K,L");
+
+        template.sendBody("direct:split", "A,B,C,D,E,F");
+        // the sub exchanges are recycled after they have been aggregated
+        assertEquals(6, factory.getReleasedCounter());
+        assertEquals(0, factory.getAcquiredCounter());
+
+        // and reused when splitting the next message
+        template.sendBody("direct:split", "G,H,I,J,K,L");
+        assertEquals(12, factory.getReleasedCounter());
+        assertEquals(6, factory.getAcquiredCounter());
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, factory.getInUseSize());
+    }
+
+    @Test
+    public void testSplitDoesNotRecycleResequencedSubExchanges() throws Exception {
+        getMockEndpoint("mock:reseq").expectedBodiesReceived("A", "B", "C", "D", "E", "F");
+
+        template.sendBody("direct:splitReseq", "F,E,D,C,B,A");
+
+        assertMockEndpointsSatisfied();
+        // the resequencer keeps the sub exchanges after the split has aggregated them, so they are not recycled
+        assertEquals(0, factory.getReleasedCounter());
+        assertEquals(0, factory.getInUseSize());
+    }
+
+    @Test
+    public void testSplitParallelAggregateDoesNotRecycle() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(6);
+
+        template.sendBody("direct:parallel", "A,B,C,D,E,F");
+
+        assertMockEndpointsSatisfied();
+        // the aggregation is not synchronized so the sub exchanges are not recycled
+        assertEquals(0, factory.getReleasedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+
+                from("direct:split")
+                    .split(body().tokenize(","))
+                        .to("mock:line")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:splitReseq")
+                    .split(body().tokenize(","))
+                        .to("direct:reseq")
+                    .end();
+
+                from("direct:reseq")
+                    .resequence(body()).batch().timeout(50)
+                    .to("mock:reseq");
+
+                from("timer:foo?period=10&repeatCount=5").routeId("timer").noAutoStartup()
+                    .to("mock:timer");
+
+                from("direct:parallel")
+                    .split(body().tokenize(",")).parallelProcessing().parallelAggregate()
+                        .to("mock:line")
+                    .end();
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.TypeConverterCallSite;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.Test;
+
+public class TypeConverterForPairTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testForPair() throws Exception {
+        TypeConverter tc = context.getTypeConverter();
+        TypeConverter pair = tc.forPair(String.class, Integer.class);
+        assertNotSame(tc, pair);
+
+        assertEquals(Integer.valueOf(123), pair.convertTo(Integer.class, "123"));
+        assertEquals(Integer.valueOf(456), pair.mandatoryConvertTo(Integer.class, "456"));
+        assertNull(pair.tryConvertTo(Integer.class, "foo"));
+        // other types should still be converted
+        assertEquals("789", pair.convertTo(String.class, 789));
+
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+        assertEquals(2, statistics.getPairHitCounter());
+    }
+
+    @Test
+    public void testForPairNoConversionNeeded() throws Exception {
+        TypeConverter tc = context.getTypeConverter();
+        assertSame(tc, tc.forPair(String.class, String.class));
+        assertSame(tc, tc.forPair(String.class, Object.class));
+        assertSame(tc, tc.forPair(String.class, MyOrder.class));
+    }
+
+    @Test
+    public void testSkippedLookupThenAdd() throws Exception {
+        TypeConverterRegistry.Statistics statistics = context.getTypeConverterRegistry().getStatistics();
+        statistics.reset();
+
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "123"));
+        assertEquals(1, statistics.getMissCounter());
+
+        // the lookup should be skipped as we know it would not find any converter
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123")));
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123")));
+        assertTrue(statistics.getSkippedLookupCounter() > 0);
+
+        // add missing type converter
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new MyOrderTypeConverter());
+
+        MyOrder order = context.getTypeConverter().convertTo(MyOrder.class, "123");
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
+    @Test
+    public void testCallSite() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        TypeConverterCallSite<Integer> site = new TypeConverterCallSite<>(Integer.class);
+
+        assertEquals(Integer.valueOf(1), site.convertTo(exchange, "1"));
+        assertEquals(Integer.valueOf(2), site.mandatoryConvertTo(exchange, "2"));
+        assertEquals(Integer.valueOf(3), site.convertTo(exchange, 3L));
+        assertEquals(Integer.valueOf(4), site.convertTo(exchange, 4));
+        assertNull(site.convertTo(exchange, null));
+        assertNull(site.tryConvertTo(exchange, "foo"));
+
+        try {
+            site.mandatoryConvertTo(exchange, new MyOrder());
+            fail("Should have thrown exception");
+        } catch (NoTypeConversionAvailableException e) {
+            // expected
+        }
+    }
+
+    private static class MyOrder {
+        private int id;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+    }
+
+    private static class MyOrderTypeConverter extends TypeConverterSupport {
+
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            MyOrder order = new MyOrder();
+            order.setId(Integer.parseInt(value.toString()));
+            return (T) order;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class RingBufferReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(ReactiveExecutorResolver.REACTIVE_EXECUTOR, "ring-buffer");
+        return context;
+    }
+
+    @Test
+    public void testRingBufferReactiveExecutor() throws Exception {
+        assertIsInstanceOf(RingBufferReactiveExecutor.class, context.getReactiveExecutor());
+
+        getMockEndpoint("mock:line").expectedBodiesReceived("A", "B", "C", "D");
+        getMockEndpoint("mock:result").expectedBodiesReceived("A,B,C,D");
+
+        template.sendBody("direct:start", "A,B,C,D");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRingBufferReactiveExecutorRedelivery() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(0);
+        getMockEndpoint("mock:dead").expectedMessageCount(1);
+
+        template.sendBody("direct:fail", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testManyTasks() throws Exception {
+        // should be more tasks than the initial capacity of the ring buffers
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append(i);
+        }
+
+        getMockEndpoint("mock:line").expectedMessageCount(100);
+        getMockEndpoint("mock:result").expectedBodiesReceived(sb.toString());
+
+        template.sendBody("direct:start", sb.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .split(body().tokenize(","))
+                        .to("mock:line")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:fail")
+                    .errorHandler(deadLetterChannel("mock:dead").maximumRedeliveries(3).redeliveryDelay(0))
+                    .throwException(new IllegalArgumentException("Forced"))
+                    .to("mock:line");
+            }
+        };
+    }
+
+}
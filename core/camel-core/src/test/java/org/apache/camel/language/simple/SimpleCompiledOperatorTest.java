@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.junit.Test;
+
+/**
+ * Runs the {@link SimpleOperatorTest} with the simple language in compiled mode.
+ */
+public class SimpleCompiledOperatorTest extends SimpleOperatorTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.SIMPLE_COMPILED, "true");
+        return context;
+    }
+
+    @Test
+    public void testCompiled() throws Exception {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        assertTrue(simple.isCompiled());
+    }
+
+    @Test
+    public void testCompiledPredicate() throws Exception {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        Predicate predicate = simple.createPredicate("${header.x} > 10 && ${body} contains 'foo'");
+        assertIsInstanceOf(SimpleCompiler.AndNode.class, predicate);
+
+        exchange.getIn().setHeader("x", 15);
+        exchange.getIn().setBody("foo bar");
+        assertTrue(predicate.matches(exchange));
+
+        exchange.getIn().setHeader("x", "9");
+        assertFalse(predicate.matches(exchange));
+
+        exchange.getIn().setHeader("x", 11L);
+        exchange.getIn().setBody("bar");
+        assertFalse(predicate.matches(exchange));
+
+        exchange.getIn().removeHeader("x");
+        exchange.setProperty("x", "20");
+        exchange.getIn().setBody("foo");
+        assertTrue(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testCompiledFallbackToInterpreted() throws Exception {
+        exchange.getIn().setHeader("x", 15);
+        exchange.getIn().setBody("Hello World");
+        assertPredicate("${header.x} range '10..20' && ${body} regex '^Hello.*'", true);
+        assertPredicate("${body.length} > 10 && ${header.x} in '15,16'", true);
+        assertPredicate("${body.length} > 20 || ${header.x} not in '15,16'", false);
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Ordered;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
+import org.junit.Test;
+
+public class CamelInternalProcessorTest extends ContextTestSupport {
+
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testStatelessAdvices() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(e -> events.add("process"));
+        internal.addAdvice(new MyStatelessAdvice("b", 2));
+        internal.addAdvice(new MyStatelessAdvice("a", 1));
+
+        internal.process(createExchangeWithBody("Hello World"));
+
+        assertEquals("[before-a, before-b, process, after-b, after-a]", events.toString());
+        assertTrue(internal.getAdviceStatistics().isEmpty());
+    }
+
+    @Test
+    public void testStatefulAdvices() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(e -> events.add("process"));
+        internal.addAdvice(new MyStatelessAdvice("a", 1));
+        internal.addAdvice(new MyStatefulAdvice("b", 2));
+
+        internal.process(createExchangeWithBody("Hello World"));
+
+        assertEquals("[before-a, before-b, process, after-b-state-b, after-a]", events.toString());
+    }
+
+    @Test
+    public void testAdviceStatistics() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(e -> events.add("process"));
+        internal.addAdvice(new MyStatelessAdvice("a", 1));
+        internal.addAdvice(new MyStatefulAdvice("b", 2));
+        internal.setAdviceStatisticsEnabled(true);
+
+        internal.process(createExchangeWithBody("Hello World"));
+        internal.process(createExchangeWithBody("Bye World"));
+
+        List<CamelInternalProcessor.AdviceStatistics> statistics = internal.getAdviceStatistics();
+        assertEquals(2, statistics.size());
+        assertEquals("MyStatelessAdvice", statistics.get(0).getName());
+        assertEquals("MyStatefulAdvice", statistics.get(1).getName());
+        // both before and after are counted
+        assertEquals(4, statistics.get(0).getInvocations());
+        assertEquals(4, statistics.get(1).getInvocations());
+
+        statistics.get(0).reset();
+        assertEquals(0, statistics.get(0).getInvocations());
+        assertEquals(0, statistics.get(0).getTotalTime());
+    }
+
+    @Test
+    public void testAdviceFailure() throws Exception {
+        CamelInternalProcessor internal = new CamelInternalProcessor(e -> events.add("process"));
+        internal.addAdvice(new MyStatelessAdvice("a", 1) {
+            @Override
+            public Object before(Exchange exchange) throws Exception {
+                throw new IllegalArgumentException("Forced");
+            }
+        });
+
+        Exchange exchange = createExchangeWithBody("Hello World");
+        internal.process(exchange);
+
+        assertIsInstanceOf(IllegalArgumentException.class, exchange.getException());
+        assertTrue(events.isEmpty());
+    }
+
+    private class MyStatelessAdvice implements CamelInternalProcessorAdvice<Object>, Ordered {
+
+        private final String name;
+        private final int order;
+
+        MyStatelessAdvice(String name, int order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        @Override
+        public Object before(Exchange exchange) throws Exception {
+            events.add("before-" + name);
+            return null;
+        }
+
+        @Override
+        public void after(Exchange exchange, Object data) throws Exception {
+            events.add("after-" + name);
+        }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+
+    private class MyStatefulAdvice implements CamelInternalProcessorAdvice<String>, Ordered {
+
+        private final String name;
+        private final int order;
+
+        MyStatefulAdvice(String name, int order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        @Override
+        public String before(Exchange exchange) throws Exception {
+            events.add("before-" + name);
+            return "state-" + name;
+        }
+
+        @Override
+        public void after(Exchange exchange, String data) throws Exception {
+            events.add("after-" + name + "-" + data);
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+
+}
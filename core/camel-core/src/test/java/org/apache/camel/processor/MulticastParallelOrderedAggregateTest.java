@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class MulticastParallelOrderedAggregateTest extends ContextTestSupport {
+
+    @Test
+    public void testMulticastParallelOrderedAggregate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.expectedBodiesReceived("ABC", "ABC", "ABC", "ABC", "ABC", "ABC", "ABC", "ABC", "ABC", "ABC");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .multicast(new AggregationStrategy() {
+                        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+                            if (oldExchange == null) {
+                                return newExchange;
+                            }
+
+                            String body = oldExchange.getIn().getBody(String.class);
+                            oldExchange.getIn().setBody(body + newExchange.getIn().getBody(String.class));
+                            return oldExchange;
+                        }
+                    }).parallelProcessing().streaming().orderedAggregate()
+                        .to("direct:a", "direct:b", "direct:c")
+                    // use end to indicate end of multicast route
+                    .end()
+                    .to("mock:result");
+
+                // a is the slowest, but should still be aggregated first
+                from("direct:a").delay(100).asyncDelayed().setBody(constant("A"));
+
+                from("direct:b").delay(20).asyncDelayed().setBody(constant("B"));
+
+                from("direct:c").setBody(constant("C"));
+            }
+        };
+    }
+}
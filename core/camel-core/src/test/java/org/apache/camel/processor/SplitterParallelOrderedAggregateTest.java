@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Random;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.FailedToCreateRouteException;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class SplitterParallelOrderedAggregateTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+
+    @Test
+    public void testSplitterParallelOrderedAggregate() throws Exception {
+        StringBuilder lines = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            lines.append("line").append(i).append("\n");
+            expected.append("LINE").append(i).append("\n");
+        }
+
+        getMockEndpoint("mock:result").expectedBodiesReceived(expected.toString());
+
+        template.sendBody("direct:start", lines.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testOrderedAggregateRequiresParallelProcessing() throws Exception {
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:sequential")
+                        .split(body().tokenize("\n")).streaming().orderedAggregate()
+                            .to("mock:line");
+                }
+            });
+            fail("Should have thrown exception");
+        } catch (FailedToCreateRouteException e) {
+            IllegalArgumentException iae = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("OrderedAggregate is used but ParallelProcessing has not been enabled.", iae.getMessage());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                final Random random = new Random();
+
+                from("direct:start")
+                    .split(body().tokenize("\n"), new LinesAggregationStrategy())
+                        .streaming().parallelProcessing().orderedAggregate().maxInflightExchanges(20)
+                        .process(e -> {
+                            // let the lines complete out of order
+                            Thread.sleep(random.nextInt(5));
+                            e.getIn().setBody(e.getIn().getBody(String.class).toUpperCase());
+                        })
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+
+    private static class LinesAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            String line = newExchange.getIn().getBody(String.class) + "\n";
+            if (oldExchange == null) {
+                newExchange.getIn().setBody(line);
+                return newExchange;
+            }
+            oldExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + line);
+            return oldExchange;
+        }
+    }
+}
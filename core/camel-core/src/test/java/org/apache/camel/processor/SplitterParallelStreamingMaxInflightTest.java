@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class SplitterParallelStreamingMaxInflightTest extends ContextTestSupport {
+
+    private static final int MAX_INFLIGHT = 5;
+    private static final int SIZE = 200;
+
+    private final AtomicInteger pulled = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxPending = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testMaxInflightExchanges() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        getMockEndpoint("mock:result").expectedBodiesReceived(SIZE);
+
+        template.sendBody("direct:start", "Hello");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(SIZE, pulled.get());
+        assertEquals(SIZE, aggregated.get());
+        assertTrue("Should not pull more than " + MAX_INFLIGHT + " ahead of aggregation but was " + maxPending.get(),
+                maxPending.get() <= MAX_INFLIGHT);
+        assertTrue("Should not process more than " + MAX_INFLIGHT + " at the same time but was " + maxInflight.get(),
+                maxInflight.get() <= MAX_INFLIGHT);
+
+        Splitter splitter = (Splitter) context.getProcessor("mySplitter");
+        assertEquals(MAX_INFLIGHT, splitter.getMaxInflightExchanges());
+        assertEquals(SIZE, splitter.getPulledExchangesCounter());
+        assertEquals(SIZE, splitter.getAggregatedExchangesCounter());
+        assertEquals(0, splitter.getInflightExchanges());
+    }
+
+    public Iterator<Integer> items() {
+        return new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return pulled.get() < SIZE;
+            }
+
+            @Override
+            public Integer next() {
+                int pending = pulled.incrementAndGet() - aggregated.get();
+                maxPending.accumulateAndGet(pending, Math::max);
+                return pulled.get();
+            }
+        };
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .split(method(SplitterParallelStreamingMaxInflightTest.this, "items"), new CountingAggregationStrategy())
+                        .streaming().parallelProcessing().maxInflightExchanges(MAX_INFLIGHT).id("mySplitter")
+                        .process(e -> {
+                            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+                            Thread.sleep(1);
+                            inflight.decrementAndGet();
+                        })
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+
+    private class CountingAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            int count = aggregated.incrementAndGet();
+            Exchange answer = oldExchange != null ? oldExchange : newExchange;
+            answer.getIn().setBody(count);
+            return answer;
+        }
+    }
+}
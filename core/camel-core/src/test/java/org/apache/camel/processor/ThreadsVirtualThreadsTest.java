@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.junit.Test;
+
+public class ThreadsVirtualThreadsTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testThreadsVirtualThreads() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(50);
+
+        // the tasks are blocked until released
+        for (int i = 0; i < 50; i++) {
+            template.asyncSendBody("direct:start", "Hello " + i);
+        }
+        latch.countDown();
+
+        assertMockEndpointsSatisfied();
+
+        Thread thread = getMockEndpoint("mock:result").getReceivedExchanges().get(0).getIn().getHeader("thread", Thread.class);
+        assertTrue(thread.getName().contains("Virtual"));
+        if (CamelThreadFactory.isVirtualThreadsSupported()) {
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    // a small pool size which is not in use when using virtual threads
+                    .threads(1, 1).maxQueueSize(100).threadName("Virtual").virtualThreads()
+                    .process(exchange -> {
+                        latch.await(10, TimeUnit.SECONDS);
+                        exchange.getIn().setHeader("thread", Thread.currentThread());
+                    })
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+
+    private static final int INTERVAL = 500;
+    private static final int MESSAGE_COUNT = 15;
+
+    @Test
+    public void testSendLotsOfMessagesSimultaneously() throws Exception {
+        assertThrottled("direct:a");
+    }
+
+    @Test
+    public void testSendLotsOfMessagesSimultaneouslyAsyncDelayed() throws Exception {
+        assertThrottled("direct:async");
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reject");
+        mock.expectedMessageCount(2);
+
+        template.sendBody("direct:reject", "A");
+        template.sendBody("direct:reject", "B");
+        try {
+            template.sendBody("direct:reject", "C");
+            fail("Should have thrown exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testEvictIdleBuckets() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(3);
+
+        template.sendBodyAndHeader("direct:grouped", "A", "key", "1");
+        template.sendBodyAndHeader("direct:grouped", "B", "key", "2");
+        template.sendBodyAndHeader("direct:grouped", "C", "key", "3");
+
+        assertMockEndpointsSatisfied();
+
+        TokenBucketThrottler throttler = (TokenBucketThrottler) context.getProcessor("grouped");
+        assertEquals(3, throttler.getBucketSize());
+
+        // the buckets are idle after 10 time periods
+        Thread.sleep(400);
+        throttler.evictIdleBuckets();
+        assertEquals(0, throttler.getBucketSize());
+
+        // and a new bucket is created on demand
+        template.sendBodyAndHeader("direct:grouped", "D", "key", "1");
+        assertEquals(1, throttler.getBucketSize());
+    }
+
+    private void assertThrottled(String uri) throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(MESSAGE_COUNT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(MESSAGE_COUNT);
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                executor.execute(() -> template.sendBody(uri, "<message>payload</message>"));
+            }
+            mock.assertIsSatisfied();
+            long elapsed = (System.nanoTime() - start) / 1000000;
+
+            // a burst of 5 messages, and then a message every 100 millis
+            long minimum = (MESSAGE_COUNT - 5) * INTERVAL / 5 - 50;
+            assertTrue("Should take at least " + minimum + "ms, was: " + elapsed, elapsed >= minimum);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:a").throttle(5).timePeriodMillis(INTERVAL).tokenBucket().to("mock:result");
+
+                from("direct:async").throttle(5).timePeriodMillis(INTERVAL).tokenBucket().asyncDelayed().to("mock:result");
+
+                from("direct:reject").throttle(2).timePeriodMillis(10000).tokenBucket().rejectExecution(true).to("mock:reject");
+
+                from("direct:grouped").throttle(constant(1), header("key")).timePeriodMillis(20).tokenBucket().id("grouped").to("mock:grouped");
+            }
+        };
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.apache.camel.TestSupport.assertIsInstanceOf;
+import static org.awaitility.Awaitility.await;
+
+public class TimingWheelTimeoutMapTest extends Assert {
+
+    private ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+
+    @Test
+    public void testTimeoutMapHelper() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        assertIsInstanceOf(DefaultTimeoutMap.class, TimeoutMapHelper.newTimeoutMap(context, executor, 100));
+
+        context.getGlobalOptions().put(TimeoutMapHelper.TIMEOUT_MAP, "timing-wheel");
+        assertIsInstanceOf(TimingWheelTimeoutMap.class, TimeoutMapHelper.newTimeoutMap(context, executor, 100));
+
+        context.getGlobalOptions().put(TimeoutMapHelper.TIMEOUT_MAP, "unknown");
+        try {
+            TimeoutMapHelper.newTimeoutMap(context, executor, 100);
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMapPurge() throws Exception {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        map.start();
+        assertEquals(0, map.size());
+        assertEquals(512, map.getWheelSize());
+
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMapGetRemove() throws Exception {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        map.start();
+
+        map.put("A", 123, 50);
+        assertEquals(1, map.size());
+        assertEquals(123, (int) map.get("A"));
+        assertEquals(123, (int) map.putIfAbsent("A", 456, 50));
+        assertEquals(123, (int) map.put("A", 789, 50));
+
+        Object old = map.remove("A");
+        assertEquals(789, old);
+        assertEquals(null, map.get("A"));
+        assertEquals(0, map.size());
+
+        map.stop();
+    }
+
+    @Test
+    public void testExpiredInCorrectOrder() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        final AtomicLong now = new AtomicLong(10000);
+
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<String, Integer>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return now.get();
+            }
+        };
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 230);
+        map.put("C", 3, 40);
+        map.put("D", 4, 20);
+        map.put("E", 5, 240);
+        // expires after more than one revolution of the wheel
+        map.put("F", 6, 60000);
+
+        now.set(10100);
+        map.purge();
+        assertEquals("[D, C, A]", keys.toString());
+
+        now.set(10300);
+        map.purge();
+        assertEquals("[D, C, A, B, E]", keys.toString());
+        assertEquals(1, map.size());
+
+        now.set(69000);
+        map.purge();
+        assertEquals(1, map.size());
+
+        now.set(70001);
+        map.purge();
+        assertEquals("[D, C, A, B, E, F]", keys.toString());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testGetRenewsTimeout() throws Exception {
+        final AtomicLong now = new AtomicLong(10000);
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<String, Integer>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return now.get();
+            }
+        };
+
+        map.put("A", 1, 500);
+        map.purge();
+
+        now.set(10400);
+        assertEquals(1, (int) map.get("A"));
+        now.set(10600);
+        map.purge();
+        assertEquals(1, map.size());
+
+        now.set(11000);
+        map.purge();
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testNotValidForEviction() throws Exception {
+        final AtomicLong now = new AtomicLong(10000);
+        final List<String> keep = new ArrayList<>();
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<String, Integer>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return now.get();
+            }
+
+            @Override
+            protected boolean isValidForEviction(TimeoutMapEntry<String, Integer> entry) {
+                return !keep.contains(entry.getKey());
+            }
+        };
+
+        keep.add("A");
+        map.put("A", 1, 50);
+        now.set(10200);
+        map.purge();
+        assertEquals(1, map.size());
+
+        // should be checked again on the next purge
+        keep.clear();
+        now.set(10300);
+        map.purge();
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMapStopStart() throws Exception {
+        TimingWheelTimeoutMap<String, Integer> map = new TimingWheelTimeoutMap<>(executor, 100);
+        map.start();
+        map.put("A", 1, 500);
+
+        assertEquals(1, map.size());
+        map.stop();
+
+        assertEquals(0, map.size());
+        map.put("A", 1, 50);
+
+        // should not timeout as the scheduler doesn't run
+        Thread.sleep(250);
+        assertEquals(1, map.size());
+
+        // start
+        map.start();
+
+        // start and wait for scheduler to purge
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+            // now it should be gone
+            assertEquals(0, map.size()));
+
+        map.stop();
+    }
+
+}
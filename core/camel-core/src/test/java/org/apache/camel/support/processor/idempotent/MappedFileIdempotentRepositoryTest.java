@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.camel.TestSupport.deleteDirectory;
+import static org.awaitility.Awaitility.await;
+
+public class MappedFileIdempotentRepositoryTest extends Assert {
+
+    private final File fileStore = new File("target/data/mappedstore/store.dat");
+
+    @Before
+    public void setup() {
+        deleteDirectory("target/data/mappedstore");
+    }
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        MappedFileIdempotentRepository repo = new MappedFileIdempotentRepository(fileStore);
+        repo.start();
+
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+        assertTrue(repo.add("B"));
+        assertTrue(repo.remove("A"));
+        assertFalse(repo.remove("A"));
+        assertFalse(repo.contains("A"));
+        assertEquals(1, repo.getCacheSize());
+        assertEquals(3, repo.getRecords());
+        assertEquals(2, repo.getObsoleteRecords());
+
+        repo.clear();
+        assertEquals(0, repo.getCacheSize());
+        assertFalse(repo.contains("B"));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testLoadStore() throws Exception {
+        MappedFileIdempotentRepository repo = new MappedFileIdempotentRepository(fileStore);
+        // use a small region so the records span several regions
+        repo.setMappedRegionSize(64);
+        repo.start();
+        for (int i = 0; i < 100; i++) {
+            repo.add("key-" + i);
+        }
+        repo.remove("key-5");
+        repo.stop();
+
+        repo.start();
+        assertEquals(99, repo.getCacheSize());
+        assertTrue(repo.contains("key-0"));
+        assertTrue(repo.contains("key-99"));
+        assertFalse(repo.contains("key-5"));
+        assertTrue(repo.add("key-100"));
+        repo.stop();
+
+        repo.start();
+        assertEquals(100, repo.getCacheSize());
+        assertTrue(repo.contains("key-100"));
+        repo.stop();
+    }
+
+    @Test
+    public void testRecoverIncompleteRecord() throws Exception {
+        MappedFileIdempotentRepository repo = new MappedFileIdempotentRepository(fileStore);
+        repo.start();
+        repo.add("A");
+        repo.add("B");
+        repo.stop();
+
+        // simulate a crash while writing a record after A and B
+        long length = 2 * (9 + 1);
+        try (RandomAccessFile raf = new RandomAccessFile(fileStore, "rw")) {
+            raf.seek(length);
+            raf.writeByte(1);
+            raf.writeInt(100);
+            raf.write("Crash".getBytes());
+        }
+
+        repo.start();
+        assertEquals(2, repo.getCacheSize());
+        assertTrue(repo.contains("A"));
+        assertTrue(repo.contains("B"));
+        assertFalse(repo.contains("Crash"));
+        assertTrue(repo.add("C"));
+        repo.stop();
+
+        repo.start();
+        assertEquals(3, repo.getCacheSize());
+        assertTrue(repo.contains("C"));
+        repo.stop();
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        MappedFileIdempotentRepository repo = new MappedFileIdempotentRepository(fileStore);
+        repo.setCompactionThreshold(100);
+        repo.start();
+
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key-" + i);
+            if (i % 2 == 0) {
+                repo.remove("key-" + i);
+            }
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertTrue(repo.getCompactions() > 0));
+        assertEquals(500, repo.getCacheSize());
+
+        // compact the remaining obsolete records (may be compacting in the background)
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            repo.compact();
+            assertEquals(500, repo.getRecords());
+        });
+
+        repo.stop();
+
+        repo.start();
+        assertEquals(500, repo.getCacheSize());
+        assertTrue(repo.contains("key-1"));
+        assertFalse(repo.contains("key-2"));
+        assertTrue(repo.contains("key-999"));
+        repo.stop();
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ShardedMemoryIdempotentRepositoryTest extends Assert {
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        ShardedMemoryIdempotentRepository repo = new ShardedMemoryIdempotentRepository(100);
+        repo.start();
+
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+        assertEquals(1, repo.getCacheSize());
+
+        assertTrue(repo.remove("A"));
+        assertFalse(repo.remove("A"));
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.add("A"));
+
+        repo.clear();
+        assertEquals(0, repo.getCacheSize());
+        assertFalse(repo.contains("A"));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testEvictOldest() throws Exception {
+        ShardedMemoryIdempotentRepository repo = new ShardedMemoryIdempotentRepository();
+        repo.setSegments(1);
+        repo.setMaximumSize(100);
+        repo.start();
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repo.add("key-" + i));
+            // remove some keys so the ring buffer has removed entries to skip
+            if (i % 7 == 0) {
+                assertTrue(repo.remove("key-" + i));
+            }
+        }
+        assertTrue(repo.getCacheSize() <= 100);
+        for (int i = 990; i < 1000; i++) {
+            assertEquals(i % 7 != 0, repo.contains("key-" + i));
+        }
+        assertFalse(repo.contains("key-0"));
+        assertFalse(repo.contains("key-1"));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        ShardedMemoryIdempotentRepository repo = new ShardedMemoryIdempotentRepository(1000);
+        repo.setTimeToLive(200);
+        repo.start();
+
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+
+        Thread.sleep(300);
+
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.add("A"));
+        repo.add("B");
+        Thread.sleep(300);
+        repo.purgeExpired();
+        assertEquals(0, repo.getCacheSize());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testManyKeysWithBloomFilter() throws Exception {
+        ShardedMemoryIdempotentRepository repo = new ShardedMemoryIdempotentRepository(20000);
+        repo.setBloomFilter(true);
+        repo.start();
+
+        Random random = new Random(42);
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < 50000; i++) {
+            String key = Long.toHexString(random.nextLong());
+            keys.add(key);
+            repo.add(key);
+            if (i % 3 == 0) {
+                repo.remove(key);
+                keys.remove(key);
+            }
+        }
+        assertTrue(repo.getCacheSize() <= 20000);
+
+        int found = 0;
+        for (String key : keys) {
+            if (repo.contains(key)) {
+                found++;
+            }
+        }
+        // all the remaining keys are found as the most recent keys are kept
+        assertEquals(repo.getCacheSize(), found);
+        assertFalse(repo.contains("unknown"));
+
+        repo.stop();
+    }
+
+}
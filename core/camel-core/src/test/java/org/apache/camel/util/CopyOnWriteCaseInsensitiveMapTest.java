@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CopyOnWriteCaseInsensitiveMapTest extends Assert {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CopyOnWriteCaseInsensitiveMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertTrue(map.containsKey("fOO"));
+        assertFalse(map.containsKey("bar"));
+    }
+
+    @Test
+    public void testPreserveOriginalKey() {
+        Map<String, Object> map = new CopyOnWriteCaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        assertEquals("cheese", map.put("FOO", "cake"));
+
+        assertEquals(1, map.size());
+        assertEquals("Foo", map.keySet().iterator().next());
+        assertEquals("cake", map.get("foo"));
+
+        assertEquals("cake", map.remove("fOo"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testKnownKeys() {
+        Map<String, String> known = new HashMap<>();
+        known.put("CamelFileName", CopyOnWriteCaseInsensitiveMap.foldCase("CamelFileName"));
+        Map<String, Object> map = new CopyOnWriteCaseInsensitiveMap(known);
+
+        map.put("CamelFileName", "hello.txt");
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("hello.txt", map.get("CamelFileName"));
+
+        map.put("camelFILEname", "bye.txt");
+        assertEquals("bye.txt", map.get("CamelFileName"));
+        assertEquals("CamelFileName", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        CopyOnWriteCaseInsensitiveMap map = new CopyOnWriteCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        CopyOnWriteCaseInsensitiveMap copy = map.copy();
+        CopyOnWriteCaseInsensitiveMap copy2 = map.copy();
+        assertEquals(map, copy);
+
+        copy.put("FOO", "cake");
+        copy.put("baz", true);
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cake", copy.get("foo"));
+        assertEquals("cheese", copy2.get("foo"));
+        assertFalse(map.containsKey("baz"));
+
+        map.remove("bar");
+        assertEquals(123, copy.get("bar"));
+        assertEquals(123, copy2.get("bar"));
+        assertNull(map.get("bar"));
+
+        copy2.clear();
+        assertTrue(copy2.isEmpty());
+        assertEquals(1, map.size());
+        assertEquals(3, copy.size());
+    }
+
+    @Test
+    public void testPutAllShares() {
+        CopyOnWriteCaseInsensitiveMap map = new CopyOnWriteCaseInsensitiveMap();
+        map.put("foo", "cheese");
+
+        Map<String, Object> other = new CopyOnWriteCaseInsensitiveMap();
+        other.putAll(map);
+        assertEquals("cheese", other.get("FOO"));
+
+        other.put("foo", "cake");
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cake", other.get("foo"));
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        CopyOnWriteCaseInsensitiveMap map = new CopyOnWriteCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+        map.put("baz", true);
+        CopyOnWriteCaseInsensitiveMap copy = map.copy();
+
+        Iterator<Map.Entry<String, Object>> it = copy.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if ("bar".equals(entry.getKey())) {
+                it.remove();
+            } else {
+                entry.setValue("changed");
+            }
+        }
+
+        assertEquals(2, copy.size());
+        assertEquals("changed", copy.get("FOO"));
+        assertEquals("changed", copy.get("BAZ"));
+        assertEquals(3, map.size());
+        assertEquals("cheese", map.get("foo"));
+
+        // and without copy
+        it = map.entrySet().iterator();
+        it.next();
+        it.remove();
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey("foo"));
+    }
+
+    @Test
+    public void testManyEntries() {
+        CopyOnWriteCaseInsensitiveMap map = new CopyOnWriteCaseInsensitiveMap();
+        Map<String, Object> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10000; i++) {
+            String key = "Key" + random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key.toLowerCase()), map.remove(key.toUpperCase()));
+            } else {
+                assertEquals(expected.put(key.toLowerCase(), i), map.put(key, i));
+            }
+            if (i % 1000 == 0) {
+                // copy and continue with the copy
+                CopyOnWriteCaseInsensitiveMap copy = map.copy();
+                map.put("extra", i);
+                map = copy;
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            assertEquals(expected.get(entry.getKey().toLowerCase()), entry.getValue());
+            assertEquals(entry.getValue(), map.get(entry.getKey().toUpperCase()));
+        }
+    }
+}
@@ -765,6 +765,44 @@ public interface FileEndpointBuilderFactory {
             setProperty("readLock", readLock);
             return this;
         }
+        /**
+         * This option is applied only for readLock=changed. Whether to check if
+         * the files are changing asynchronously, instead of the consumer
+         * waiting (sleeping) until each file is no longer changing. When
+         * enabled then the read lock is not granted the first time a file is
+         * polled, but the file is checked in the background at every
+         * readLockCheckInterval, and the read lock is granted when the file is
+         * polled again after it has not changed. This allows the consumer to
+         * wait for many files being written at the same time. When using the
+         * watchService option then the file is polled again as soon as it is no
+         * longer changing.
+         * The option is a <code>boolean</code> type.
+         * @group lock
+         */
+        default FileEndpointConsumerBuilder readLockChangedAsync(
+                boolean readLockChangedAsync) {
+            setProperty("readLockChangedAsync", readLockChangedAsync);
+            return this;
+        }
+        /**
+         * This option is applied only for readLock=changed. Whether to check if
+         * the files are changing asynchronously, instead of the consumer
+         * waiting (sleeping) until each file is no longer changing. When
+         * enabled then the read lock is not granted the first time a file is
+         * polled, but the file is checked in the background at every
+         * readLockCheckInterval, and the read lock is granted when the file is
+         * polled again after it has not changed. This allows the consumer to
+         * wait for many files being written at the same time. When using the
+         * watchService option then the file is polled again as soon as it is no
+         * longer changing.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group lock
+         */
+        default FileEndpointConsumerBuilder readLockChangedAsync(
+                String readLockChangedAsync) {
+            setProperty("readLockChangedAsync", readLockChangedAsync);
+            return this;
+        }
         /**
          * Interval in millis for the read-lock, if supported by the read lock.
          * This interval is used for sleeping between attempts to acquire the
@@ -1665,6 +1703,28 @@ public interface FileEndpointBuilderFactory {
             setProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * The maximum number of files to process at the same time when using
+         * the parallelProcessing option.
+         * The option is a <code>int</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder maxConcurrentFiles(
+                int maxConcurrentFiles) {
+            setProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
+        /**
+         * The maximum number of files to process at the same time when using
+         * the parallelProcessing option.
+         * The option will be converted to a <code>int</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder maxConcurrentFiles(
+                String maxConcurrentFiles) {
+            setProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
@@ -1693,6 +1753,44 @@ public interface FileEndpointBuilderFactory {
             setProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Whether the consumer should process the files from a poll
+         * concurrently, instead of one by one. Each file is still processed
+         * with its own read lock, and is moved, deleted or added to the
+         * idempotent repository when that file is done. The consumer waits for
+         * all the files from the poll to be done before polling again. The
+         * number of files processed at the same time is set by the
+         * maxConcurrentFiles option. Mind that the files may be done in another
+         * order than they were sorted, and for FTP and SFTP the option
+         * streamDownload cannot be used, as the files are downloaded by the
+         * consumer before they are processed.
+         * The option is a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelProcessing(
+                boolean parallelProcessing) {
+            setProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
+        /**
+         * Whether the consumer should process the files from a poll
+         * concurrently, instead of one by one. Each file is still processed
+         * with its own read lock, and is moved, deleted or added to the
+         * idempotent repository when that file is done. The consumer waits for
+         * all the files from the poll to be done before polling again. The
+         * number of files processed at the same time is set by the
+         * maxConcurrentFiles option. Mind that the files may be done in another
+         * order than they were sorted, and for FTP and SFTP the option
+         * streamDownload cannot be used, as the files are downloaded by the
+         * consumer before they are processed.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelProcessing(
+                String parallelProcessing) {
+            setProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -1833,6 +1931,98 @@ public interface FileEndpointBuilderFactory {
             setProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether the consumer should use a java.nio.file.WatchService to keep
+         * an index of the files which have been created or changed in the
+         * directory (and sub directories if recursive), so each poll only has
+         * to process those files, instead of listing and filtering all the
+         * files in the directory. The consumer also picks up new files as soon
+         * as they are created, as it waits for files to be created (up till
+         * the watchTimeout option) while polling.
+         * The directory is fully scanned on the first poll, if the file system
+         * has lost events, and periodically as a safety net as configured by
+         * the watchServiceRescanInterval option.
+         * The option is a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchService(
+                boolean watchService) {
+            setProperty("watchService", watchService);
+            return this;
+        }
+        /**
+         * Whether the consumer should use a java.nio.file.WatchService to keep
+         * an index of the files which have been created or changed in the
+         * directory (and sub directories if recursive), so each poll only has
+         * to process those files, instead of listing and filtering all the
+         * files in the directory. The consumer also picks up new files as soon
+         * as they are created, as it waits for files to be created (up till
+         * the watchTimeout option) while polling.
+         * The directory is fully scanned on the first poll, if the file system
+         * has lost events, and periodically as a safety net as configured by
+         * the watchServiceRescanInterval option.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchService(
+                String watchService) {
+            setProperty("watchService", watchService);
+            return this;
+        }
+        /**
+         * Interval in millis to do a full scan of the directory when using the
+         * watchService option, such as to pick up files again which failed
+         * processing and are still in the directory. Use 0 to only do a full
+         * scan when the file system has lost events.
+         * The option is a <code>long</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceRescanInterval(
+                long watchServiceRescanInterval) {
+            setProperty("watchServiceRescanInterval", watchServiceRescanInterval);
+            return this;
+        }
+        /**
+         * Interval in millis to do a full scan of the directory when using the
+         * watchService option, such as to pick up files again which failed
+         * processing and are still in the directory. Use 0 to only do a full
+         * scan when the file system has lost events.
+         * The option will be converted to a <code>long</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceRescanInterval(
+                String watchServiceRescanInterval) {
+            setProperty("watchServiceRescanInterval", watchServiceRescanInterval);
+            return this;
+        }
+        /**
+         * Timeout in millis the consumer waits for files to be created or
+         * changed while polling, when using the watchService option. The
+         * consumer polls again after the delay option, so use a low delay
+         * (such as 1) together with a higher watchTimeout to pick up new files
+         * as soon as they are created. Use 0 to not wait.
+         * The option is a <code>long</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchTimeout(
+                long watchTimeout) {
+            setProperty("watchTimeout", watchTimeout);
+            return this;
+        }
+        /**
+         * Timeout in millis the consumer waits for files to be created or
+         * changed while polling, when using the watchService option. The
+         * consumer polls again after the delay option, so use a low delay
+         * (such as 1) together with a higher watchTimeout to pick up new files
+         * as soon as they are created. Use 0 to not wait.
+         * The option will be converted to a <code>long</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedFileEndpointConsumerBuilder watchTimeout(
+                String watchTimeout) {
+            setProperty("watchTimeout", watchTimeout);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -553,6 +553,48 @@ public interface KafkaEndpointBuilderFactory {
             setProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * The maximum number of partitions whose records are processed at the
+         * same time. By default the records from a poll are processed one
+         * partition after the other by the thread of the consumer. When set to a
+         * value higher than 1, the records of each partition are processed by a
+         * pool of this many worker threads (shared by the consumers when using
+         * consumersCount), so the records of the same partition are still
+         * processed in order, but different partitions are processed in parallel.
+         * The consumer waits for the records of the poll to be processed before
+         * polling again, and commits the offsets per partition. This allows a
+         * single consumer to use more CPU for CPU-heavy routes without opening
+         * more connections to the kafka server as with the consumersCount option.
+         * This option cannot be used together with the allowManualCommit option.
+         * The option is a <code>int</code> type.
+         * @group consumer
+         */
+        default KafkaEndpointConsumerBuilder maxConcurrentPartitions(
+                int maxConcurrentPartitions) {
+            setProperty("maxConcurrentPartitions", maxConcurrentPartitions);
+            return this;
+        }
+        /**
+         * The maximum number of partitions whose records are processed at the
+         * same time. By default the records from a poll are processed one
+         * partition after the other by the thread of the consumer. When set to a
+         * value higher than 1, the records of each partition are processed by a
+         * pool of this many worker threads (shared by the consumers when using
+         * consumersCount), so the records of the same partition are still
+         * processed in order, but different partitions are processed in parallel.
+         * The consumer waits for the records of the poll to be processed before
+         * polling again, and commits the offsets per partition. This allows a
+         * single consumer to use more CPU for CPU-heavy routes without opening
+         * more connections to the kafka server as with the consumersCount option.
+         * This option cannot be used together with the allowManualCommit option.
+         * The option will be converted to a <code>int</code> type.
+         * @group consumer
+         */
+        default KafkaEndpointConsumerBuilder maxConcurrentPartitions(
+                String maxConcurrentPartitions) {
+            setProperty("maxConcurrentPartitions", maxConcurrentPartitions);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -213,6 +213,34 @@ public interface SedaEndpointBuilderFactory {
             setProperty("limitConcurrentConsumers", limitConcurrentConsumers);
             return this;
         }
+        /**
+         * The maximum number of messages a consumer takes from the queue each
+         * time it polls the queue. When the queue has more messages, then the
+         * consumer drains up to this number of messages at once, which reduces
+         * the overhead of polling the queue one message at a time under high
+         * load.
+         * The option is a <code>int</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxMessagesPerPoll(
+                int maxMessagesPerPoll) {
+            setProperty("maxMessagesPerPoll", maxMessagesPerPoll);
+            return this;
+        }
+        /**
+         * The maximum number of messages a consumer takes from the queue each
+         * time it polls the queue. When the queue has more messages, then the
+         * consumer drains up to this number of messages at once, which reduces
+         * the overhead of polling the queue one message at a time under high
+         * load.
+         * The option will be converted to a <code>int</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxMessagesPerPoll(
+                String maxMessagesPerPoll) {
+            setProperty("maxMessagesPerPoll", maxMessagesPerPoll);
+            return this;
+        }
         /**
          * Specifies whether multiple consumers are allowed. If enabled, you can
          * use SEDA for Publish-Subscribe messaging. That is, you can send a
@@ -288,6 +316,30 @@ public interface SedaEndpointBuilderFactory {
             setProperty("purgeWhenStopping", purgeWhenStopping);
             return this;
         }
+        /**
+         * Whether to use virtual threads for the concurrent consumers. This
+         * requires running on a JVM which supports virtual threads, otherwise
+         * regular threads are used.
+         * The option is a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSedaEndpointConsumerBuilder virtualThreads(
+                boolean virtualThreads) {
+            setProperty("virtualThreads", virtualThreads);
+            return this;
+        }
+        /**
+         * Whether to use virtual threads for the concurrent consumers. This
+         * requires running on a JVM which supports virtual threads, otherwise
+         * regular threads are used.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSedaEndpointConsumerBuilder virtualThreads(
+                String virtualThreads) {
+            setProperty("virtualThreads", virtualThreads);
+            return this;
+        }
         /**
          * Whether the endpoint should use basic property binding (Camel 2.x) or
          * the newer property binding with additional capabilities.
@@ -333,6 +385,30 @@ public interface SedaEndpointBuilderFactory {
             setProperty("queue", queue);
             return this;
         }
+        /**
+         * Whether to gather statistics of how long the messages wait on the
+         * queue, and how many messages are on the queue when the consumers poll
+         * the queue. The statistics are available as histograms from JMX.
+         * The option is a <code>boolean</code> type.
+         * @group advanced
+         */
+        default AdvancedSedaEndpointConsumerBuilder statisticsEnabled(
+                boolean statisticsEnabled) {
+            setProperty("statisticsEnabled", statisticsEnabled);
+            return this;
+        }
+        /**
+         * Whether to gather statistics of how long the messages wait on the
+         * queue, and how many messages are on the queue when the consumers poll
+         * the queue. The statistics are available as histograms from JMX.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group advanced
+         */
+        default AdvancedSedaEndpointConsumerBuilder statisticsEnabled(
+                String statisticsEnabled) {
+            setProperty("statisticsEnabled", statisticsEnabled);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -643,6 +719,30 @@ public interface SedaEndpointBuilderFactory {
             setProperty("queue", queue);
             return this;
         }
+        /**
+         * Whether to gather statistics of how long the messages wait on the
+         * queue, and how many messages are on the queue when the consumers poll
+         * the queue. The statistics are available as histograms from JMX.
+         * The option is a <code>boolean</code> type.
+         * @group advanced
+         */
+        default AdvancedSedaEndpointProducerBuilder statisticsEnabled(
+                boolean statisticsEnabled) {
+            setProperty("statisticsEnabled", statisticsEnabled);
+            return this;
+        }
+        /**
+         * Whether to gather statistics of how long the messages wait on the
+         * queue, and how many messages are on the queue when the consumers poll
+         * the queue. The statistics are available as histograms from JMX.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group advanced
+         */
+        default AdvancedSedaEndpointProducerBuilder statisticsEnabled(
+                String statisticsEnabled) {
+            setProperty("statisticsEnabled", statisticsEnabled);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -763,6 +863,30 @@ public interface SedaEndpointBuilderFactory {
             setProperty("queue", queue);
             return this;
         }
+        /**
+         * Whether to gather statistics of how long the messages wait on the
+         * queue, and how many messages are on the queue when the consumers poll
+         * the queue. The statistics are available as histograms from JMX.
+         * The option is a <code>boolean</code> type.
+         * @group advanced
+         */
+        default AdvancedSedaEndpointBuilder statisticsEnabled(
+                boolean statisticsEnabled) {
+            setProperty("statisticsEnabled", statisticsEnabled);
+            return this;
+        }
+        /**
+         * Whether to gather statistics of how long the messages wait on the
+         * queue, and how many messages are on the queue when the consumers poll
+         * the queue. The statistics are available as histograms from JMX.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group advanced
+         */
+        default AdvancedSedaEndpointBuilder statisticsEnabled(
+                String statisticsEnabled) {
+            setProperty("statisticsEnabled", statisticsEnabled);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -2020,6 +2020,28 @@ public interface SftpEndpointBuilderFactory {
             setProperty("localWorkDirectory", localWorkDirectory);
             return this;
         }
+        /**
+         * The maximum number of files to process at the same time when using
+         * the parallelProcessing option.
+         * The option is a <code>int</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSftpEndpointConsumerBuilder maxConcurrentFiles(
+                int maxConcurrentFiles) {
+            setProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
+        /**
+         * The maximum number of files to process at the same time when using
+         * the parallelProcessing option.
+         * The option will be converted to a <code>int</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSftpEndpointConsumerBuilder maxConcurrentFiles(
+                String maxConcurrentFiles) {
+            setProperty("maxConcurrentFiles", maxConcurrentFiles);
+            return this;
+        }
         /**
          * To use a custom org.apache.camel.spi.ExceptionHandler to handle any
          * thrown exceptions that happens during the file on completion process
@@ -2048,6 +2070,44 @@ public interface SftpEndpointBuilderFactory {
             setProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Whether the consumer should process the files from a poll
+         * concurrently, instead of one by one. Each file is still processed
+         * with its own read lock, and is moved, deleted or added to the
+         * idempotent repository when that file is done. The consumer waits for
+         * all the files from the poll to be done before polling again. The
+         * number of files processed at the same time is set by the
+         * maxConcurrentFiles option. Mind that the files may be done in another
+         * order than they were sorted, and for FTP and SFTP the option
+         * streamDownload cannot be used, as the files are downloaded by the
+         * consumer before they are processed.
+         * The option is a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSftpEndpointConsumerBuilder parallelProcessing(
+                boolean parallelProcessing) {
+            setProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
+        /**
+         * Whether the consumer should process the files from a poll
+         * concurrently, instead of one by one. Each file is still processed
+         * with its own read lock, and is moved, deleted or added to the
+         * idempotent repository when that file is done. The consumer waits for
+         * all the files from the poll to be done before polling again. The
+         * number of files processed at the same time is set by the
+         * maxConcurrentFiles option. Mind that the files may be done in another
+         * order than they were sorted, and for FTP and SFTP the option
+         * streamDownload cannot be used, as the files are downloaded by the
+         * consumer before they are processed.
+         * The option will be converted to a <code>boolean</code> type.
+         * @group consumer (advanced)
+         */
+        default AdvancedSftpEndpointConsumerBuilder parallelProcessing(
+                String parallelProcessing) {
+            setProperty("parallelProcessing", parallelProcessing);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -40,6 +40,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventFactory;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.InflightRepository;
@@ -110,6 +111,7 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setStreamCaching(config.isStreamCachingEnabled());
         camelContext.getStreamCachingStrategy().setAnySpoolRules(config.isStreamCachingAnySpoolRules());
         camelContext.getStreamCachingStrategy().setBufferSize(config.getStreamCachingBufferSize());
+        camelContext.getStreamCachingStrategy().setBufferPoolSize(config.getStreamCachingBufferPoolSize());
         camelContext.getStreamCachingStrategy().setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
         if (config.getStreamCachingSpoolDirectory() != null) {
@@ -206,6 +208,10 @@ public final class DefaultConfigurationConfigurer {
         if (uowf != null) {
             ecc.setUnitOfWorkFactory(uowf);
         }
+        ExchangeFactory exf = getSingleBeanOfType(registry, ExchangeFactory.class);
+        if (exf != null) {
+            ecc.setExchangeFactory(exf);
+        }
         RuntimeEndpointRegistry rer = getSingleBeanOfType(registry, RuntimeEndpointRegistry.class);
         if (rer != null) {
             ecc.setRuntimeEndpointRegistry(rer);
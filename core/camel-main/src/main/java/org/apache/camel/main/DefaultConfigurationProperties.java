@@ -47,6 +47,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
+    private long streamCachingBufferPoolSize;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean tracing;
@@ -363,6 +364,20 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingBufferSize = streamCachingBufferSize;
     }
 
+    public long getStreamCachingBufferPoolSize() {
+        return streamCachingBufferPoolSize;
+    }
+
+    /**
+     * Sets the total number of bytes of memory to use for a pool of direct (off-heap) buffers used for in-memory
+     * stream caches. When the pool is exhausted then the stream cache is spooled to disk.
+     *
+     * The default value is 0 which means the pool is not in use.
+     */
+    public void setStreamCachingBufferPoolSize(long streamCachingBufferPoolSize) {
+        this.streamCachingBufferPoolSize = streamCachingBufferPoolSize;
+    }
+
     public boolean isStreamCachingRemoveSpoolDirectoryWhenStopping() {
         return streamCachingRemoveSpoolDirectoryWhenStopping;
     }
@@ -866,6 +881,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the total number of bytes of memory to use for a pool of direct (off-heap) buffers used for in-memory
+     * stream caches. When the pool is exhausted then the stream cache is spooled to disk.
+     *
+     * The default value is 0 which means the pool is not in use.
+     */
+    public T withStreamCachingBufferPoolSize(long streamCachingBufferPoolSize) {
+        this.streamCachingBufferPoolSize = streamCachingBufferPoolSize;
+        return (T) this;
+    }
+
     /**
      * Whether to remove stream caching temporary directory when stopping.
      * This option is default true.
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedExchangeFactoryMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Maximum number of exchanges kept in the pool")
+    int getCapacity();
+
+    @ManagedAttribute(description = "Current number of exchanges in the pool")
+    int getPoolSize();
+
+    @ManagedAttribute(description = "Number of exchanges created because the pool was empty")
+    long getCreatedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges which have been reused from the pool")
+    long getAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of exchanges which have been released back to the pool")
+    long getReleasedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges which were released but discarded because the pool was full")
+    long getDiscardedCounter();
+
+    @ManagedAttribute(description = "Whether leak detection is enabled")
+    boolean isLeakDetectionEnabled();
+
+    @ManagedAttribute(description = "Number of exchanges which have not been released yet (only tracked when leak detection is enabled)")
+    int getInUseSize();
+
+    @ManagedAttribute(description = "Number of exchanges which have completed but have not been released yet (only tracked when leak detection is enabled)")
+    int getLeakedSize();
+
+    @ManagedOperation(description = "Resets the statistics")
+    void resetStatistics();
+
+}
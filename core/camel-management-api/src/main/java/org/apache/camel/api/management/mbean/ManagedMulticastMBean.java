@@ -26,6 +26,9 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If enabled then sending messages to the multicasts occurs concurrently.")
     Boolean isParallelProcessing();
 
+    @ManagedAttribute(description = "If enabled then the replies are aggregated in the same order as the messages were sent, using a reorder buffer.")
+    Boolean isOrderedAggregate();
+
     @ManagedAttribute(description = "If enabled then Camel will process replies out-of-order, eg in the order they come back.")
     Boolean isStreaming();
 
@@ -38,4 +41,16 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The total timeout specified in millis, when using parallel processing.")
     Long getTimeout();
 
+    @ManagedAttribute(description = "The maximum number of sub messages in-flight at the same time, when using parallel processing.")
+    Integer getMaxInflightExchanges();
+
+    @ManagedAttribute(description = "Number of sub messages currently being processed.")
+    Integer getInflightExchanges();
+
+    @ManagedAttribute(description = "Total number of sub messages created.")
+    Long getPulledExchangesCounter();
+
+    @ManagedAttribute(description = "Total number of sub messages aggregated.")
+    Long getAggregatedExchangesCounter();
+
 }
\ No newline at end of file
@@ -39,6 +39,15 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Cache evicted")
     Long getEvicted();
 
+    @ManagedAttribute(description = "Average time in nanos to acquire a cached producer (requires extended statistics)")
+    Long getMeanHitTime();
+
+    @ManagedAttribute(description = "Average time in nanos to create a producer which was not cached (requires extended statistics)")
+    Long getMeanMissTime();
+
+    @ManagedAttribute(description = "Average time in nanos to stop an evicted producer (requires extended statistics)")
+    Long getMeanEvictionTime();
+
     @ManagedOperation(description = "Reset cache statistics")
     void resetStatistics();
 
@@ -61,6 +61,9 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     int getBufferSize();
 
+    @ManagedAttribute(description = "Total number of bytes of memory to use for a pool of direct buffers used for in-memory stream caches")
+    long getBufferPoolSize();
+
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     void setRemoveSpoolDirectoryWhenStopping(boolean remove);
 
@@ -91,6 +94,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of buffers acquired from the buffer pool")
+    long getBufferPoolAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of times the buffer pool was exhausted")
+    long getBufferPoolExhaustedCounter();
+
+    @ManagedAttribute(description = "Number of bytes of the buffer pool currently in use")
+    long getBufferPoolUsedSize();
+
+    @ManagedAttribute(description = "Number of bytes allocated by the buffer pool")
+    long getBufferPoolAllocatedSize();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -38,6 +38,12 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of type conversion hits using a pre-resolved type converter")
+    long getPairHitCounter();
+
+    @ManagedAttribute(description = "Number of type converter lookups skipped as no type converter is known to exist")
+    long getSkippedLookupCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
@@ -50,6 +50,7 @@ import org.apache.camel.StartupListener;
 import org.apache.camel.TimerListener;
 import org.apache.camel.VetoCamelContextStartException;
 import org.apache.camel.cluster.CamelClusterService;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.management.mbean.ManagedAsyncProcessorAwaitManager;
 import org.apache.camel.management.mbean.ManagedBacklogDebugger;
 import org.apache.camel.management.mbean.ManagedBacklogTracer;
@@ -57,6 +58,7 @@ import org.apache.camel.management.mbean.ManagedCamelContext;
 import org.apache.camel.management.mbean.ManagedConsumerCache;
 import org.apache.camel.management.mbean.ManagedEndpoint;
 import org.apache.camel.management.mbean.ManagedEndpointRegistry;
+import org.apache.camel.management.mbean.ManagedExchangeFactory;
 import org.apache.camel.management.mbean.ManagedInflightRepository;
 import org.apache.camel.management.mbean.ManagedProducerCache;
 import org.apache.camel.management.mbean.ManagedRestRegistry;
@@ -514,6 +516,8 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
             answer = new ManagedRestRegistry(context, (RestRegistry) service);
         } else if (service instanceof InflightRepository) {
             answer = new ManagedInflightRepository(context, (InflightRepository) service);
+        } else if (service instanceof PooledExchangeFactory) {
+            answer = new ManagedExchangeFactory(context, (PooledExchangeFactory) service);
         } else if (service instanceof AsyncProcessorAwaitManager) {
             answer = new ManagedAsyncProcessorAwaitManager(context, (AsyncProcessorAwaitManager) service);
         } else if (service instanceof RuntimeEndpointRegistry) {
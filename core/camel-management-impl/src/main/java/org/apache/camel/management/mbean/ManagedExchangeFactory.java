@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedExchangeFactoryMBean;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+
+@ManagedResource(description = "Managed ExchangeFactory")
+public class ManagedExchangeFactory extends ManagedService implements ManagedExchangeFactoryMBean {
+
+    private final PooledExchangeFactory exchangeFactory;
+
+    public ManagedExchangeFactory(CamelContext context, PooledExchangeFactory exchangeFactory) {
+        super(context, exchangeFactory);
+        this.exchangeFactory = exchangeFactory;
+    }
+
+    public PooledExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    @Override
+    public int getCapacity() {
+        return exchangeFactory.getCapacity();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return exchangeFactory.getPoolSize();
+    }
+
+    @Override
+    public long getCreatedCounter() {
+        return exchangeFactory.getCreatedCounter();
+    }
+
+    @Override
+    public long getAcquiredCounter() {
+        return exchangeFactory.getAcquiredCounter();
+    }
+
+    @Override
+    public long getReleasedCounter() {
+        return exchangeFactory.getReleasedCounter();
+    }
+
+    @Override
+    public long getDiscardedCounter() {
+        return exchangeFactory.getDiscardedCounter();
+    }
+
+    @Override
+    public boolean isLeakDetectionEnabled() {
+        return exchangeFactory.isLeakDetectionEnabled();
+    }
+
+    @Override
+    public int getInUseSize() {
+        return exchangeFactory.getInUseSize();
+    }
+
+    @Override
+    public int getLeakedSize() {
+        return exchangeFactory.getLeakedSize();
+    }
+
+    @Override
+    public void resetStatistics() {
+        exchangeFactory.resetStatistics();
+    }
+}
@@ -41,6 +41,11 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
         return processor.isParallelProcessing();
     }
 
+    @Override
+    public Boolean isOrderedAggregate() {
+        return processor.isOrderedAggregate();
+    }
+
     @Override
     public Boolean isStreaming() {
         return processor.isStreaming();
@@ -60,4 +65,24 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
     public Long getTimeout() {
         return processor.getTimeout();
     }
+
+    @Override
+    public Integer getMaxInflightExchanges() {
+        return processor.getMaxInflightExchanges();
+    }
+
+    @Override
+    public Integer getInflightExchanges() {
+        return processor.getInflightExchanges();
+    }
+
+    @Override
+    public Long getPulledExchangesCounter() {
+        return processor.getPulledExchangesCounter();
+    }
+
+    @Override
+    public Long getAggregatedExchangesCounter() {
+        return processor.getAggregatedExchangesCounter();
+    }
 }
@@ -61,6 +61,18 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
         return producerCache.getEvicted();
     }
 
+    public Long getMeanHitTime() {
+        return producerCache.getMeanHitTime();
+    }
+
+    public Long getMeanMissTime() {
+        return producerCache.getMeanMissTime();
+    }
+
+    public Long getMeanEvictionTime() {
+        return producerCache.getMeanEvictionTime();
+    }
+
     public void resetStatistics() {
         producerCache.resetCacheStatistics();
     }
@@ -112,6 +112,10 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getBufferSize();
     }
 
+    public long getBufferPoolSize() {
+        return streamCachingStrategy.getBufferPoolSize();
+    }
+
     public void setRemoveSpoolDirectoryWhenStopping(boolean remove) {
         streamCachingStrategy.setRemoveSpoolDirectoryWhenStopping(remove);
     }
@@ -152,6 +156,22 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    public long getBufferPoolAcquiredCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolAcquiredCounter();
+    }
+
+    public long getBufferPoolExhaustedCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolExhaustedCounter();
+    }
+
+    public long getBufferPoolUsedSize() {
+        return streamCachingStrategy.getStatistics().getBufferPoolUsedSize();
+    }
+
+    public long getBufferPoolAllocatedSize() {
+        return streamCachingStrategy.getStatistics().getBufferPoolAllocatedSize();
+    }
+
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
     }
@@ -68,6 +68,14 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         return registry.getStatistics().getFailedCounter();
     }
 
+    public long getPairHitCounter() {
+        return registry.getStatistics().getPairHitCounter();
+    }
+
+    public long getSkippedLookupCounter() {
+        return registry.getStatistics().getSkippedLookupCounter();
+    }
+
     public void resetTypeConversionCounters() {
         registry.getStatistics().reset();
     }
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for caching using {@link ByteBuffer}s, such as pooled direct buffers
+ * or a memory mapped file.
+ * <p/>
+ * When using pooled buffers each copy of the stream cache holds a reference to the buffers, which is released
+ * when the exchange of the copy is done. The buffers are released back to the pool when all the copies are done.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private final CachedByteBufferOutputStream owner;
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private int index;
+
+    public ByteBufferInputStreamCache(ByteBuffer buffer) {
+        this(new ByteBuffer[]{buffer}, buffer.remaining(), null, null);
+    }
+
+    ByteBufferInputStreamCache(ByteBuffer[] buffers, long length, CachedByteBufferOutputStream owner,
+                               FileInputStreamCache.TempFileManager tempFileManager) {
+        this.buffers = buffers;
+        this.length = length;
+        this.owner = owner;
+        this.tempFileManager = tempFileManager;
+    }
+
+    @Override
+    public int read() throws IOException {
+        lock();
+        try {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            return buffer.get() & 0xff;
+        } finally {
+            unlock();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        lock();
+        try {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            int answer = 0;
+            while (buffer != null && answer < len) {
+                int chunk = Math.min(len - answer, buffer.remaining());
+                buffer.get(b, off + answer, chunk);
+                answer += chunk;
+                buffer = answer < len ? nextBuffer() : null;
+            }
+            return answer;
+        } finally {
+            unlock();
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        lock();
+        try {
+            long answer = 0;
+            ByteBuffer buffer = nextBuffer();
+            while (buffer != null && answer < n) {
+                int chunk = (int) Math.min(n - answer, buffer.remaining());
+                buffer.position(buffer.position() + chunk);
+                answer += chunk;
+                buffer = answer < n ? nextBuffer() : null;
+            }
+            return answer;
+        } finally {
+            unlock();
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        lock();
+        try {
+            long answer = 0;
+            for (int i = index; i < buffers.length; i++) {
+                answer += buffers[i].remaining();
+            }
+            return (int) Math.min(Integer.MAX_VALUE, answer);
+        } finally {
+            unlock();
+        }
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        index = 0;
+    }
+
+    public void writeTo(OutputStream os) throws IOException {
+        lock();
+        try {
+            WritableByteChannel channel = Channels.newChannel(os);
+            for (int i = index; i < buffers.length; i++) {
+                ByteBuffer buffer = buffers[i].duplicate();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } finally {
+            unlock();
+        }
+    }
+
+    public StreamCache copy(Exchange exchange) throws IOException {
+        lock();
+        try {
+            ByteBuffer[] copy = new ByteBuffer[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                copy[i] = buffers[i].duplicate();
+                copy[i].rewind();
+            }
+            ByteBufferInputStreamCache answer = new ByteBufferInputStreamCache(copy, length, owner, tempFileManager);
+            if (owner != null) {
+                // the copy holds its own reference to the buffers until the exchange of the copy is done,
+                // which cannot fail as this stream cache holds a reference while being locked
+                owner.retain();
+                tempFileManager.add(answer, exchange);
+            }
+            return answer;
+        } finally {
+            unlock();
+        }
+    }
+
+    public boolean inMemory() {
+        return true;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Releases the reference to the pooled buffers held by this stream cache.
+     */
+    void release() {
+        if (owner != null && released.compareAndSet(false, true)) {
+            owner.release();
+        }
+    }
+
+    private ByteBuffer nextBuffer() {
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private void lock() throws IOException {
+        if (owner != null) {
+            owner.readLock().lock();
+            if (released.get() || owner.isReleased()) {
+                owner.readLock().unlock();
+                throw new IOException("The buffers of the stream cache has been released");
+            }
+        }
+    }
+
+    private void unlock() {
+        if (owner != null) {
+            owner.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} which stores the data in direct buffers acquired from the buffer pool of the
+ * {@link StreamCachingStrategy}, and that is capable of returning a {@link ByteBufferInputStreamCache} view of
+ * the buffers.
+ * <p/>
+ * The buffers are acquired up front using {@link #reserve(int)}. The buffers are reference counted, as the
+ * {@link ByteBufferInputStreamCache} views may outlive this stream, such as when a stream cache is copied to another
+ * exchange. This stream holds the first reference, and each view holds a reference using {@link #retain()}. The buffers
+ * are released back to the pool when the last reference is released using {@link #release()}.
+ */
+public final class CachedByteBufferOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private int index;
+    private long capacity;
+    private long count;
+    private final AtomicInteger refCount = new AtomicInteger(1);
+    // the views reads the buffers holding the read lock, so the buffers cannot be released while being read
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean released;
+
+    public CachedByteBufferOutputStream(StreamCachingStrategy strategy, ByteBuffer buffer) {
+        this.strategy = strategy;
+        addBuffer(buffer);
+    }
+
+    /**
+     * Reserves room for writing the given number of bytes, by acquiring more buffers from the pool if needed.
+     *
+     * @param len the number of bytes to write
+     * @return <tt>true</tt> if there is room, or <tt>false</tt> if the buffer pool is exhausted
+     */
+    public boolean reserve(int len) {
+        while (capacity - count < len) {
+            ByteBuffer buffer = strategy.acquireBuffer();
+            if (buffer == null) {
+                return false;
+            }
+            addBuffer(buffer);
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!reserve(1)) {
+            throw new IOException("Cannot acquire buffer from the stream caching buffer pool");
+        }
+        ByteBuffer buffer = currentBuffer();
+        buffer.put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (!reserve(len)) {
+            throw new IOException("Cannot acquire buffer from the stream caching buffer pool");
+        }
+        while (len > 0) {
+            ByteBuffer buffer = currentBuffer();
+            int chunk = Math.min(len, buffer.remaining());
+            buffer.put(b, off, chunk);
+            off += chunk;
+            len -= chunk;
+            count += chunk;
+        }
+    }
+
+    /**
+     * Writes the data to the given channel.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        for (ByteBuffer buffer : readableBuffers()) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Writes the data to the given stream.
+     */
+    public void writeTo(OutputStream os) throws IOException {
+        ByteBuffer[] views = readableBuffers();
+        byte[] data = new byte[(int) Math.min(count, views[0].capacity())];
+        for (ByteBuffer buffer : views) {
+            while (buffer.hasRemaining()) {
+                int len = Math.min(data.length, buffer.remaining());
+                buffer.get(data, 0, len);
+                os.write(data, 0, len);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link ByteBufferInputStreamCache} view of the buffers.
+     *
+     * @param closer the temp file manager which tracks the exchanges using the buffers
+     */
+    ByteBufferInputStreamCache newInputStreamCache(FileInputStreamCache.TempFileManager closer) {
+        if (!retain()) {
+            throw new IllegalStateException("The buffers of the stream cache has been released");
+        }
+        ByteBufferInputStreamCache answer = new ByteBufferInputStreamCache(readableBuffers(), count, this, closer);
+        closer.add(answer, null);
+        return answer;
+    }
+
+    /**
+     * Acquires a reference to the buffers.
+     *
+     * @return <tt>true</tt> if a reference was acquired, or <tt>false</tt> if the buffers has already been released
+     */
+    boolean retain() {
+        int refs = refCount.get();
+        while (refs > 0) {
+            if (refCount.compareAndSet(refs, refs + 1)) {
+                return true;
+            }
+            refs = refCount.get();
+        }
+        return false;
+    }
+
+    /**
+     * Releases a reference to the buffers. The buffers are released back to the pool when the last reference is released.
+     */
+    public void release() {
+        if (refCount.decrementAndGet() == 0) {
+            // wait for any ongoing reads to complete before the buffers can be reused
+            lock.writeLock().lock();
+            try {
+                released = true;
+                for (ByteBuffer buffer : buffers) {
+                    strategy.releaseBuffer(buffer);
+                }
+                buffers.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * The lock which must be held while reading the buffers.
+     */
+    Lock readLock() {
+        return lock.readLock();
+    }
+
+    /**
+     * Whether the buffers has been released back to the pool.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    public long size() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedByteBufferOutputStream[size: " + count + ", buffers: " + buffers.size() + "]";
+    }
+
+    private void addBuffer(ByteBuffer buffer) {
+        buffers.add(buffer);
+        capacity += buffer.capacity();
+    }
+
+    private ByteBuffer currentBuffer() {
+        ByteBuffer buffer = buffers.get(index);
+        if (!buffer.hasRemaining()) {
+            index++;
+            buffer = buffers.get(index);
+        }
+        return buffer;
+    }
+
+    private ByteBuffer[] readableBuffers() {
+        if (released) {
+            throw new IllegalStateException("The buffers of the stream cache has been released");
+        }
+        // read-only views of the written data in the buffers
+        ByteBuffer[] answer = new ByteBuffer[index + 1];
+        for (int i = 0; i <= index; i++) {
+            ByteBuffer view = buffers.get(i).asReadOnlyBuffer();
+            view.flip();
+            answer[i] = view;
+        }
+        return answer;
+    }
+}
@@ -20,6 +20,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
@@ -37,6 +39,11 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this 
  * output stream will be deleted when you close this output stream or the cached 
  * fileInputStream(s) is/are closed after all the exchanges using the temp file are completed.
+ * <p/>
+ * If the {@link StreamCachingStrategy} has a buffer pool, then the content is stored in pooled direct buffers
+ * until the stream is spooled to a File. The buffers are released back to the pool in the same way the temp
+ * file is deleted. If the buffer pool is exhausted the content is spooled to a File, or kept in an on-heap byte
+ * array if there is no spool directory.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -56,7 +63,14 @@ public class CachedOutputStream extends OutputStream {
         tempFileManager = new TempFileManager(closedOnCompletion);
         tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        ByteBuffer buffer = strategy.acquireBuffer();
+        if (buffer != null) {
+            CachedByteBufferOutputStream bout = new CachedByteBufferOutputStream(strategy, buffer);
+            tempFileManager.setBufferOutputStream(bout);
+            currentStream = bout;
+        } else {
+            currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
     }
 
     public void flush() throws IOException {
@@ -68,6 +82,7 @@ public class CachedOutputStream extends OutputStream {
         // need to clean up the temp file this time
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
+            tempFileManager.releaseBuffers();
             tempFileManager.cleanUpTempFile();
         }
     }
@@ -89,29 +104,36 @@ public class CachedOutputStream extends OutputStream {
     }
 
     public void write(byte[] b, int off, int len) throws IOException {
-        this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        beforeWrite(len);
         currentStream.write(b, off, len);
     }
 
     public void write(byte[] b) throws IOException {
-        this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        beforeWrite(b.length);
         currentStream.write(b);
     }
 
     public void write(int b) throws IOException {
-        this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        beforeWrite(1);
         currentStream.write(b);
     }
 
+    private void beforeWrite(int len) throws IOException {
+        this.totalLength += len;
+        if (inMemory) {
+            if (strategy.shouldSpoolCache(totalLength)) {
+                pageToFileStream();
+            } else if (currentStream instanceof CachedByteBufferOutputStream && !((CachedByteBufferOutputStream) currentStream).reserve(len)) {
+                // the buffer pool is exhausted
+                if (strategy.getSpoolDirectory() != null) {
+                    pageToFileStream();
+                } else {
+                    pageToByteArrayStream();
+                }
+            }
+        }
+    }
+
     public InputStream getInputStream() throws IOException {
         return (InputStream)newStreamCache();
     }    
@@ -130,6 +152,8 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream) {
                 return ((CachedByteArrayOutputStream) currentStream).newInputStreamCache();
+            } else if (currentStream instanceof CachedByteBufferOutputStream) {
+                return ((CachedByteBufferOutputStream) currentStream).newInputStreamCache(tempFileManager);
             } else {
                 throw new IllegalStateException("CurrentStream should be an instance of CachedByteArrayOutputStream but is: " + currentStream.getClass().getName());
             }
@@ -141,17 +165,37 @@ public class CachedOutputStream extends OutputStream {
 
     private void pageToFileStream() throws IOException {
         flush();
-        ByteArrayOutputStream bout = (ByteArrayOutputStream)currentStream;
+        OutputStream bout = currentStream;
         try {
             // creates an tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (bout instanceof CachedByteBufferOutputStream) {
+                CachedByteBufferOutputStream buffers = (CachedByteBufferOutputStream) bout;
+                FileChannel channel = tempFileManager.getFileChannel();
+                if (channel != null) {
+                    // write the direct buffers to the file channel without copying to the heap
+                    buffers.writeTo(channel);
+                } else {
+                    buffers.writeTo(currentStream);
+                }
+            } else {
+                ((ByteArrayOutputStream) bout).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
+            tempFileManager.releaseBuffers();
         }
     }
 
+    private void pageToByteArrayStream() throws IOException {
+        CachedByteBufferOutputStream buffers = (CachedByteBufferOutputStream) currentStream;
+        CachedByteArrayOutputStream bout = new CachedByteArrayOutputStream((int) Math.max(strategy.getBufferSize(), buffers.size()));
+        buffers.writeTo(bout);
+        currentStream = bout;
+        tempFileManager.releaseBuffers();
+    }
+
     public int getStrategyBufferSize() {
         return strategy.getBufferSize();
     }
@@ -23,6 +23,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -121,6 +124,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         return getInputStream().read();
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return getInputStream().read(b, off, len);
+    }
+
     protected InputStream getInputStream() throws IOException {
         if (stream == null) {
             stream = createInputStream(file);
@@ -129,6 +137,13 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     }
 
     private InputStream createInputStream(File file) throws IOException {
+        if (ciphers == null && tempFileManager.isMemoryMapped() && length > 0 && length <= Integer.MAX_VALUE) {
+            // read the file via memory mapping, the mapping is valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                return new ByteBufferInputStreamCache(buffer);
+            }
+        }
         InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
         if (ciphers != null) {
             in = new CipherInputStream(in, ciphers.getDecryptor()) {
@@ -161,10 +176,16 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private AtomicInteger exchangeCounter = new AtomicInteger();
         private File tempFile;
         private OutputStream outputStream; // file output stream
+        private FileChannel fileChannel; // file channel when not using ciphers
+        private boolean memoryMapped;
         private CipherPair ciphers;
+        // the pooled buffers when the stream is cached in-memory using the buffer pool
+        private CachedByteBufferOutputStream bufferOutputStream;
         
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
+        // the stream caches of the pooled buffers which are released together with the file input stream caches
+        private List<ByteBufferInputStreamCache> bufferInputStreamCaches;
 
         /** Only for testing.*/
         private TempFileManager(File file, boolean closedOnCompletion) {
@@ -187,6 +208,35 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             fileInputStreamCaches.add(fileInputStreamCache);
         }
         
+        /** Adds a ByteBufferInputStreamCache instance which holds a reference to the pooled buffers.
+         * <p>
+         * The reference is released when the given exchange is done, or if no exchange is given, then together with
+         * the FileInputStreamCache instances. A copy of the stream cache may outlive the exchanges of this closer,
+         * such as a wiretap or an aggregated copy, and therefore the copy is released when its own exchange is done.
+         */
+        void add(ByteBufferInputStreamCache bufferInputStreamCache, Exchange exchange) {
+            if (closedOnCompletion && exchange != null) {
+                addOnCompletion(exchange, new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        bufferInputStreamCache.release();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "OnCompletion[ByteBufferInputStreamCache]";
+                    }
+                });
+            } else {
+                synchronized (this) {
+                    if (bufferInputStreamCaches == null) {
+                        bufferInputStreamCaches = new ArrayList<>(3);
+                    }
+                    bufferInputStreamCaches.add(bufferInputStreamCache);
+                }
+            }
+        }
+
         void addExchange(Exchange exchange) {
             if (closedOnCompletion) {
                 exchangeCounter.incrementAndGet();
@@ -199,6 +249,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             // only one exchange (one thread) left, therefore we must not synchronize the following lines of code
                             try {                              
                                 closeFileInputStreams();
+                                releaseBuffers();
                                 if (outputStream != null) {
                                     outputStream.close();
                                 }
@@ -218,17 +269,21 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                         return "OnCompletion[CachedOutputStream]";
                     }
                 };
-                UnitOfWork streamCacheUnitOfWork = exchange.getProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
-                if (streamCacheUnitOfWork != null) {
-                    // The stream cache must sometimes not be closed when the exchange is deleted. This is for example the
-                    // case in the splitter and multi-cast case with AggregationStrategy where the result of the sub-routes
-                    // are aggregated later in the main route. Here, the cached streams of the sub-routes must be closed with
-                    // the Unit of Work of the main route.
-                    streamCacheUnitOfWork.addSynchronization(onCompletion);
-                } else {
-                    // add on completion so we can cleanup after the exchange is done such as deleting temporary files
-                    exchange.addOnCompletion(onCompletion);
-                }
+                addOnCompletion(exchange, onCompletion);
+            }
+        }
+
+        private void addOnCompletion(Exchange exchange, Synchronization onCompletion) {
+            UnitOfWork streamCacheUnitOfWork = exchange.getProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
+            if (streamCacheUnitOfWork != null) {
+                // The stream cache must sometimes not be closed when the exchange is deleted. This is for example the
+                // case in the splitter and multi-cast case with AggregationStrategy where the result of the sub-routes
+                // are aggregated later in the main route. Here, the cached streams of the sub-routes must be closed with
+                // the Unit of Work of the main route.
+                streamCacheUnitOfWork.addSynchronization(onCompletion);
+            } else {
+                // add on completion so we can cleanup after the exchange is done such as deleting temporary files
+                exchange.addOnCompletion(onCompletion);
             }
         }
         
@@ -240,8 +295,13 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
-            OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+            // read the file back using memory mapping when using the buffer pool
+            memoryMapped = strategy.getBufferPoolSize() > 0;
+            fileChannel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(fileChannel));
             if (ObjectHelper.isNotEmpty(strategy.getSpoolCipher())) {
+                // the data must be written through the cipher
+                fileChannel = null;
                 try {
                     if (ciphers == null) {
                         ciphers = new CipherPair(strategy.getSpoolCipher());
@@ -278,8 +338,29 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                 }
                 fileInputStreamCaches.clear();
             }
+            if (bufferInputStreamCaches != null) {
+                for (ByteBufferInputStreamCache bufferInputStreamCache : bufferInputStreamCaches) {
+                    bufferInputStreamCache.release();
+                }
+                bufferInputStreamCaches.clear();
+            }
         } 
 
+        void setBufferOutputStream(CachedByteBufferOutputStream bufferOutputStream) {
+            this.bufferOutputStream = bufferOutputStream;
+        }
+
+        /**
+         * Releases the reference of the output stream to the pooled buffers. The buffers are released back to the pool
+         * when the stream caches of the buffers are released as well.
+         */
+        void releaseBuffers() {
+            if (bufferOutputStream != null) {
+                bufferOutputStream.release();
+                bufferOutputStream = null;
+            }
+        }
+
         void cleanUpTempFile() {
             // cleanup temporary file
             try {
@@ -296,6 +377,17 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return tempFile;
         }
         
+        /**
+         * Gets the channel of the temporary file, or <tt>null</tt> if writing with encryption.
+         */
+        FileChannel getFileChannel() {
+            return fileChannel;
+        }
+
+        boolean isMemoryMapped() {
+            return memoryMapped;
+        }
+
         CipherPair getCiphers() {
             return ciphers;
         }
@@ -226,6 +226,56 @@ public final class CamelContextHelper {
         return 1000;
     }
 
+    /**
+     * Gets the number of shards to split the producer cache into.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_CACHE_SHARDS}.
+     * If no property has been set, then it will fallback to return 1 (no sharding).
+     *
+     * @param camelContext the camel context
+     * @return the number of shards
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static int getProducerCacheShards(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.PRODUCER_CACHE_SHARDS);
+            if (s != null) {
+                // we cannot use Camel type converters as they may not be ready this early
+                try {
+                    Integer size = Integer.valueOf(s);
+                    if (size == null || size <= 0) {
+                        throw new IllegalArgumentException("Property " + Exchange.PRODUCER_CACHE_SHARDS + " must be a positive number, was: " + s);
+                    }
+                    return size;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Property " + Exchange.PRODUCER_CACHE_SHARDS + " must be a positive number, was: " + s, e);
+                }
+            }
+        }
+
+        // 1 is the default fallback
+        return 1;
+    }
+
+    /**
+     * Whether the producer cache should stop the evicted producers asynchronously.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_CACHE_ASYNC_STOP}.
+     * If no property has been set, then it will fallback to return false.
+     *
+     * @param camelContext the camel context
+     * @return whether to stop the evicted producers asynchronously
+     */
+    public static boolean isProducerCacheAsyncStop(CamelContext camelContext) {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.PRODUCER_CACHE_ASYNC_STOP);
+            if (s != null) {
+                return Boolean.parseBoolean(s);
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets the maximum endpoint cache size.
      * <p/>
@@ -101,6 +101,37 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         UnitOfWorkHelper.doneUow(exchange.getUnitOfWork(), exchange);
     }
 
+    /**
+     * Creates an {@link Exchange} which the consumer must release using {@link #releaseExchange(Exchange)} when it is
+     * done with the exchange, so the exchange can be recycled if the {@link org.apache.camel.spi.ExchangeFactory}
+     * is pooled.
+     *
+     * @return the exchange
+     */
+    public Exchange createReleasableExchange() {
+        if (endpoint instanceof DefaultEndpoint) {
+            return endpoint.getCamelContext().adapt(ExtendedCamelContext.class).getExchangeFactory()
+                .createReleasable(endpoint, ((DefaultEndpoint) endpoint).getExchangePattern());
+        }
+        return endpoint.createExchange();
+    }
+
+    /**
+     * Releases the {@link Exchange} back to the {@link org.apache.camel.spi.ExchangeFactory} so it can be recycled,
+     * if the factory is pooled. This should only be called when the consumer is completely done with the exchange,
+     * which is after the exchange has been processed and its {@link UnitOfWork} is done, and the consumer has
+     * handled any reply or exception of the exchange.
+     * <p/>
+     * The EIPs which keep hold of the exchange after the processing has returned, such as the Resequencer, detach
+     * the exchange from the factory, so such an exchange is not recycled when it is released.
+     *
+     * @param exchange the exchange
+     * @see #createReleasableExchange()
+     */
+    public void releaseExchange(Exchange exchange) {
+        endpoint.getCamelContext().adapt(ExtendedCamelContext.class).getExchangeFactory().release(exchange);
+    }
+
     public Endpoint getEndpoint() {
         return endpoint;
     }
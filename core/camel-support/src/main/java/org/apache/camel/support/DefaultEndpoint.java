@@ -27,6 +27,7 @@ import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Producer;
 import org.apache.camel.ResolveEndpointFailedException;
@@ -224,6 +225,10 @@ public abstract class DefaultEndpoint extends ServiceSupport implements Endpoint
     }
 
     public Exchange createExchange(ExchangePattern pattern) {
+        if (camelContext != null) {
+            // use the exchange factory which may reuse a recycled exchange
+            return camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().create(this, pattern);
+        }
         return new DefaultExchange(this, pattern);
     }
 
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelExecutionException;
@@ -41,6 +42,8 @@ import org.apache.camel.util.ObjectHelper;
  */
 public final class DefaultExchange implements Exchange {
 
+    private static final AtomicIntegerFieldUpdater<DefaultExchange> RELEASED = AtomicIntegerFieldUpdater.newUpdater(DefaultExchange.class, "released");
+
     protected final CamelContext context;
     private Map<String, Object> properties;
     private Message in;
@@ -52,6 +55,10 @@ public final class DefaultExchange implements Exchange {
     private Endpoint fromEndpoint;
     private String fromRouteId;
     private List<Synchronization> onCompletions;
+    private boolean ownedProperties;
+    private boolean ownedIn;
+    private volatile int released;
+    private long created;
 
     public DefaultExchange(CamelContext context) {
         this(context, ExchangePattern.InOnly);
@@ -86,17 +93,50 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public Date getCreated() {
-        if (hasProperties()) {
-            return getProperty(Exchange.CREATED_TIMESTAMP, Date.class);
-        } else {
-            return null;
+        return getProperty(Exchange.CREATED_TIMESTAMP, Date.class);
+    }
+
+    /**
+     * Sets the time this exchange was created, which is the {@link Exchange#CREATED_TIMESTAMP} property.
+     * <p/>
+     * The time is kept in a field until the properties map is created, so the map is not created only to store
+     * the timestamp. The map is created when any property is used, and the timestamp is then stored in the map,
+     * so the exchange has the property as if it was set using {@link #setProperty(String, Object)}.
+     *
+     * @param created the time in millis
+     */
+    public void setCreated(long created) {
+        this.created = created;
+        if (properties != null) {
+            properties.put(Exchange.CREATED_TIMESTAMP, new Date(created));
         }
     }
 
     public Exchange copy() {
-        DefaultExchange exchange = new DefaultExchange(this);
+        return copyTo(new DefaultExchange(this));
+    }
 
-        exchange.setIn(getIn().copy());
+    /**
+     * Copies this exchange into the given exchange, which must either be a new exchange or an exchange which has
+     * been {@link #reset() reset}. This is used by pooled {@link org.apache.camel.spi.ExchangeFactory} to copy into
+     * a recycled exchange.
+     *
+     * @param exchange the exchange to copy into
+     * @return the given exchange
+     */
+    public Exchange copyTo(DefaultExchange exchange) {
+        exchange.setPattern(getPattern());
+        exchange.setFromEndpoint(getFromEndpoint());
+        exchange.setFromRouteId(getFromRouteId());
+        exchange.unitOfWork = getUnitOfWork();
+
+        if (exchange.ownedIn && getIn().getClass() == DefaultMessage.class) {
+            // reuse the message of the recycled exchange
+            exchange.in.copyFrom(getIn());
+        } else {
+            exchange.setIn(getIn().copy());
+            exchange.ownedIn = exchange.in.getClass() == DefaultMessage.class;
+        }
         exchange.getIn().setBody(getIn().getBody());
         exchange.getIn().setFault(getIn().isFault());
         if (getIn().hasHeaders()) {
@@ -118,13 +158,89 @@ public final class DefaultExchange implements Exchange {
         exchange.setException(getException());
 
         // copy properties after body as body may trigger lazy init
-        if (hasProperties()) {
-            exchange.setProperties(safeCopyProperties(getProperties()));
+        if (properties != null) {
+            if (exchange.ownedProperties) {
+                // reuse the properties of the recycled exchange
+                exchange.properties.putAll(properties);
+                safeCopyMessageHistory(exchange.properties);
+            } else {
+                exchange.setProperties(safeCopyProperties(properties));
+                exchange.ownedProperties = true;
+            }
+        } else if (created != 0) {
+            // the created timestamp has not been stored in the properties map yet
+            exchange.setCreated(created);
         }
 
         return exchange;
     }
 
+    /**
+     * Marks this exchange as released back to a pooled {@link org.apache.camel.spi.ExchangeFactory}, which guards
+     * against the same exchange being released more than once, such as by concurrent threads.
+     *
+     * @return <tt>true</tt> if the exchange was marked, or <tt>false</tt> if the exchange has already been released
+     */
+    public boolean markReleased() {
+        return RELEASED.compareAndSet(this, 0, 1);
+    }
+
+    /**
+     * Marks this exchange as detached from a pooled {@link org.apache.camel.spi.ExchangeFactory}, so it is never
+     * released back to the factory, as something keeps hold of the exchange.
+     *
+     * @return <tt>true</tt> if the exchange was marked, or <tt>false</tt> if the exchange has already been released
+     *         or detached
+     */
+    public boolean markDetached() {
+        return RELEASED.compareAndSet(this, 0, 2);
+    }
+
+    /**
+     * Whether this exchange has been {@link #markDetached() detached} from a pooled
+     * {@link org.apache.camel.spi.ExchangeFactory}.
+     */
+    public boolean isDetached() {
+        return released == 2;
+    }
+
+    /**
+     * Marks this exchange as acquired from a pooled {@link org.apache.camel.spi.ExchangeFactory}, so it can be
+     * released again.
+     */
+    public void markAcquired() {
+        released = 0;
+    }
+
+    /**
+     * Resets this exchange so the instance can be recycled for routing another message, which is used by pooled
+     * {@link org.apache.camel.spi.ExchangeFactory}.
+     * <p/>
+     * The properties and the in message are only reused if they were created by this exchange, as otherwise they
+     * may be shared with something else.
+     */
+    public void reset() {
+        if (ownedProperties) {
+            properties.clear();
+        } else {
+            properties = null;
+        }
+        if (ownedIn) {
+            ((DefaultMessage) in).reset();
+        } else {
+            in = null;
+        }
+        out = null;
+        exception = null;
+        exchangeId = null;
+        unitOfWork = null;
+        pattern = ExchangePattern.InOnly;
+        fromEndpoint = null;
+        fromRouteId = null;
+        onCompletions = null;
+        created = 0;
+    }
+
     private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
         if (headers == null) {
             return null;
@@ -133,21 +249,23 @@ public final class DefaultExchange implements Exchange {
         return context.getHeadersMapFactory().newMap(headers);
     }
 
-    @SuppressWarnings("unchecked")
     private Map<String, Object> safeCopyProperties(Map<String, Object> properties) {
         if (properties == null) {
             return null;
         }
 
         Map<String, Object> answer = createProperties(properties);
+        safeCopyMessageHistory(answer);
+        return answer;
+    }
 
+    @SuppressWarnings("unchecked")
+    private static void safeCopyMessageHistory(Map<String, Object> properties) {
         // safe copy message history using a defensive copy
-        List<MessageHistory> history = (List<MessageHistory>) answer.remove(Exchange.MESSAGE_HISTORY);
+        List<MessageHistory> history = (List<MessageHistory>) properties.remove(Exchange.MESSAGE_HISTORY);
         if (history != null) {
-            answer.put(Exchange.MESSAGE_HISTORY, new LinkedList<>(history));
+            properties.put(Exchange.MESSAGE_HISTORY, new LinkedList<>(history));
         }
-
-        return answer;
     }
 
     public CamelContext getContext() {
@@ -158,6 +276,10 @@ public final class DefaultExchange implements Exchange {
         if (properties != null) {
             return properties.get(name);
         }
+        if (created != 0 && Exchange.CREATED_TIMESTAMP.equals(name)) {
+            // the created timestamp is kept in a field until the properties map is created
+            return new Date(created);
+        }
         return null;
     }
 
@@ -237,7 +359,7 @@ public final class DefaultExchange implements Exchange {
         // store keys to be removed as we cannot loop and remove at the same time in implementations such as HashMap
         Set<String> toBeRemoved = new HashSet<>();
         boolean matches = false;
-        for (String key : properties.keySet()) {
+        for (String key : getProperties().keySet()) {
             if (PatternHelper.matchPattern(key, pattern)) {
                 if (excludePatterns != null && PatternHelper.isExcludePatternMatch(key, excludePatterns)) {
                     continue;
@@ -262,22 +384,33 @@ public final class DefaultExchange implements Exchange {
     public Map<String, Object> getProperties() {
         if (properties == null) {
             properties = createProperties();
+            ownedProperties = true;
+            if (created != 0) {
+                // store the created timestamp which has been kept in a field until now
+                properties.put(Exchange.CREATED_TIMESTAMP, new Date(created));
+            }
         }
         return properties;
     }
 
     public boolean hasProperties() {
-        return properties != null && !properties.isEmpty();
+        if (properties != null) {
+            return !properties.isEmpty();
+        }
+        // the created timestamp is a property, even if the properties map has not been created yet
+        return created != 0;
     }
 
     public void setProperties(Map<String, Object> properties) {
         this.properties = properties;
+        this.ownedProperties = false;
     }
 
     public Message getIn() {
         if (in == null) {
             in = new DefaultMessage(getContext());
             configureMessage(in);
+            ownedIn = true;
         }
         return in;
     }
@@ -297,6 +430,7 @@ public final class DefaultExchange implements Exchange {
 
     public void setIn(Message in) {
         this.in = in;
+        this.ownedIn = false;
         configureMessage(in);
     }
 
@@ -231,6 +231,20 @@ public class DefaultMessage extends MessageSupport {
         return headers != null && !headers.isEmpty();
     }
 
+    /**
+     * Clears this message so the instance can be reused for another message, which is used when the
+     * exchanges are recycled by a pooled {@link org.apache.camel.spi.ExchangeFactory}.
+     */
+    public void reset() {
+        setBody(null);
+        setDataType(null);
+        setMessageId(null);
+        fault = false;
+        headers = null;
+        attachments = null;
+        attachmentObjects = null;
+    }
+
     public DefaultMessage newInstance() {
         ObjectHelper.notNull(getCamelContext(), "CamelContext", this);
 
@@ -30,6 +30,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
@@ -45,6 +46,10 @@ public class DefaultThreadPoolFactory implements ThreadPoolFactory {
     
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (profile.getVirtualThreads() != null && profile.getVirtualThreads() && CamelThreadFactory.isVirtualThreadsSupported()) {
+            return newVirtualThreadPool(profile.getRejectedExecutionHandler(), factory);
+        }
+
         // allow core thread timeout is default false if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : false;
         return newThreadPool(profile.getPoolSize(), 
@@ -95,6 +100,25 @@ public class DefaultThreadPoolFactory implements ThreadPoolFactory {
         return answer;
     }
     
+    /**
+     * Creates a thread pool which executes each task in a new thread created by the given thread factory,
+     * which is intended to be a factory of virtual threads.
+     * <p/>
+     * The thread pool is a {@link ThreadPoolExecutor} without core threads and a direct-handover queue,
+     * so idle threads terminates immediately and there is no upper bound of concurrent tasks. This is the same
+     * behaviour as a virtual thread per task executor, but keeps the thread pool statistics which are
+     * exposed in JMX.
+     */
+    public ExecutorService newVirtualThreadPool(RejectedExecutionHandler rejectedExecutionHandler, ThreadFactory threadFactory) {
+        ThreadPoolExecutor answer = new RejectableThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+        answer.setThreadFactory(threadFactory);
+        if (rejectedExecutionHandler == null) {
+            rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        answer.setRejectedExecutionHandler(rejectedExecutionHandler);
+        return answer;
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TimeoutMap;
+
+/**
+ * Helper to create the {@link TimeoutMap} used by the EIPs and components which keep track of timeouts,
+ * such as the aggregator and the request/reply correlation of the JMS, RabbitMQ and Netty components.
+ * <p/>
+ * By default {@link DefaultTimeoutMap} is used. Set the global option <tt>CamelTimeoutMap</tt> to
+ * <tt>timing-wheel</tt> to use {@link TimingWheelTimeoutMap} instead, which scales better when there
+ * are a large number of entries in the map.
+ */
+public final class TimeoutMapHelper {
+
+    /**
+     * Global option to select the {@link TimeoutMap} implementation. Use <tt>timing-wheel</tt> for
+     * {@link TimingWheelTimeoutMap} or <tt>default</tt> for {@link DefaultTimeoutMap}.
+     */
+    public static final String TIMEOUT_MAP = "CamelTimeoutMap";
+
+    private TimeoutMapHelper() {
+    }
+
+    /**
+     * Whether the {@link TimingWheelTimeoutMap} should be used as configured by the global option.
+     *
+     * @param context the camel context, can be <tt>null</tt> in which case the default is used
+     * @return <tt>true</tt> to use {@link TimingWheelTimeoutMap}, <tt>false</tt> to use {@link DefaultTimeoutMap}
+     * @throws IllegalArgumentException if the global option has an unknown value
+     */
+    public static boolean isTimingWheel(CamelContext context) {
+        String name = context != null ? context.getGlobalOption(TIMEOUT_MAP) : null;
+        if (name == null || "default".equals(name)) {
+            return false;
+        } else if ("timing-wheel".equals(name)) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unknown TimeoutMap: " + name + " configured in global option: " + TIMEOUT_MAP);
+    }
+
+    /**
+     * Creates a new {@link TimeoutMap} as configured by the global option.
+     *
+     * @param context                   the camel context, can be <tt>null</tt> in which case the default is used
+     * @param executor                  the executor to run the purge task
+     * @param requestMapPollTimeMillis  the purge poll time
+     * @return the timeout map, which must be started and stopped
+     */
+    public static <K, V> TimeoutMap<K, V> newTimeoutMap(CamelContext context, ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        if (isTimingWheel(context)) {
+            return new TimingWheelTimeoutMap<>(executor, requestMapPollTimeMillis);
+        }
+        return new DefaultTimeoutMap<>(executor, requestMapPollTimeMillis);
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Comparator.comparing;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+
+/**
+ * A {@link TimeoutMap} which uses a hashed timing wheel to keep track of when the entries expire.
+ * <p/>
+ * The entries are linked into the bucket of the wheel for the tick in which they expire, where the duration
+ * of a tick is the purge poll time. Adding, removing and renewing an entry are constant time operations,
+ * and the purge task only has to look at the buckets of the ticks which have elapsed since the last purge,
+ * instead of scanning all the entries as {@link DefaultTimeoutMap} does. This makes a difference when the map
+ * holds a large number of entries, such as in-flight request/reply correlations.
+ * <p/>
+ * Entries which expire further ahead than one revolution of the wheel stay in their bucket until the wheel
+ * has turned enough times. The size of the wheel should therefore preferably cover the typical timeouts.
+ * <p/>
+ * Like {@link DefaultTimeoutMap} you must provide a {@link java.util.concurrent.ScheduledExecutorService} which is used
+ * to schedule the background purge task, and you must invoke {@link #start()} and {@link #stop()}.
+ */
+public class TimingWheelTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
+
+    private static final long NO_TICK = Long.MIN_VALUE;
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> future;
+    private final long purgePollTime;
+    private final long tickDuration;
+    private final Lock lock;
+    private final Node<K, V>[] wheel;
+    private final int mask;
+    private long lastTick = NO_TICK;
+
+    private final List<Listener<K, V>> listeners = new ArrayList<>(2);
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor) {
+        this(executor, 1000);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        this(executor, requestMapPollTimeMillis, true);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock) {
+        this(executor, requestMapPollTimeMillis, useLock ? new ReentrantLock() : NoLock.INSTANCE);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock) {
+        this(executor, requestMapPollTimeMillis, lock, 512);
+    }
+
+    /**
+     * Creates the timeout map.
+     *
+     * @param executor                  the executor to run the purge task
+     * @param requestMapPollTimeMillis  the purge poll time, which is also the duration of a tick of the wheel
+     * @param lock                      the lock to use
+     * @param wheelSize                 the number of buckets in the wheel, which is rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock, int wheelSize) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this.executor = executor;
+        this.purgePollTime = requestMapPollTimeMillis;
+        this.tickDuration = Math.max(1, requestMapPollTimeMillis);
+        this.lock = lock;
+
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Node[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Node<>(null, null, 0);
+        }
+        this.mask = size - 1;
+    }
+
+    public V get(K key) {
+        Node<K, V> node;
+        lock.lock();
+        try {
+            node = map.get(key);
+            if (node == null) {
+                return null;
+            }
+            updateExpireTime(node);
+            node.unlink();
+            link(node, tickOf(node));
+        } finally {
+            lock.unlock();
+        }
+        return node.getValue();
+    }
+
+    public V put(K key, V value, long timeoutMillis) {
+        Node<K, V> node = new Node<>(key, value, timeoutMillis);
+        lock.lock();
+        try {
+            updateExpireTime(node);
+            Node<K, V> result = map.put(key, node);
+            if (result != null) {
+                result.unlink();
+            }
+            link(node, tickOf(node));
+            return unwrap(result);
+        } finally {
+            lock.unlock();
+            emitEvent(Put, key, value);
+        }
+    }
+
+    public V putIfAbsent(K key, V value, long timeoutMillis) {
+        Node<K, V> node = new Node<>(key, value, timeoutMillis);
+        Node<K, V> result = null;
+        lock.lock();
+        try {
+            updateExpireTime(node);
+            //Just make sure we don't override the old entry
+            result = map.putIfAbsent(key, node);
+            if (result == null) {
+                link(node, tickOf(node));
+            }
+            return unwrap(result);
+        } finally {
+            lock.unlock();
+            if (result == null) {
+                emitEvent(Put, key, value); // conditional on map being changed
+            }
+        }
+    }
+
+    public V remove(K key) {
+        V value = null;
+        lock.lock();
+        try {
+            Node<K, V> node = map.remove(key);
+            if (node != null) {
+                node.unlink();
+                value = node.getValue();
+            }
+            return value;
+        } finally {
+            lock.unlock();
+            if (value != null) {
+                emitEvent(Remove, key, value); // conditional on map being changed
+            }
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * The timer task which purges old requests and schedules another poll
+     */
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        log.trace("Running purge task to see if any entries have been timed out");
+        try {
+            purge();
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    protected void purge() {
+        log.trace("There are {} in the timeout map", map.size());
+        if (map.isEmpty()) {
+            return;
+        }
+
+        long now = currentTime();
+
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            long currentTick = now / tickDuration;
+            // visit the buckets since the last purge (including the last bucket as it may have entries
+            // which expired later in that tick), but no more than one revolution of the wheel
+            long fromTick = lastTick == NO_TICK ? currentTick - mask : Math.max(lastTick, currentTick - mask);
+            for (long tick = fromTick; tick <= currentTick; tick++) {
+                Node<K, V> head = wheel[(int) (tick & mask)];
+                Node<K, V> node = head.next;
+                while (node != head) {
+                    Node<K, V> next = node.next;
+                    if (node.getExpireTime() < now) {
+                        node.unlink();
+                        if (isValidForEviction(node)) {
+                            log.debug("Evicting inactive entry ID: {}", node);
+                            map.remove(node.getKey(), node);
+                            expired.add(node);
+                        } else {
+                            // check again on next purge
+                            link(node, currentTick + 1);
+                        }
+                    }
+                    node = next;
+                }
+            }
+            lastTick = currentTick;
+
+            // sort according to the expired time so we got the first expired first
+            if (expired.size() > 1) {
+                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+            }
+        } finally {
+            lock.unlock();
+            for (TimeoutMapEntry<K, V> entry : expired) {
+                emitEvent(Evict, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public long getPurgePollTime() {
+        return purgePollTime;
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private static <K, V> V unwrap(TimeoutMapEntry<K, V> entry) {
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public void addListener(Listener<K, V> listener) {
+        this.listeners.add(listener);
+    }
+
+    private void emitEvent(Listener.Type type, K key, V value) {
+        for (Listener<K, V> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Throwable t) {
+                // Ignore
+            }
+        }
+    }
+
+    private long tickOf(Node<K, V> node) {
+        long tick = node.getExpireTime() / tickDuration;
+        // an entry may already be expired (eg zero timeout), which must then be in a bucket that is visited next
+        return lastTick != NO_TICK && tick < lastTick ? lastTick : tick;
+    }
+
+    private void link(Node<K, V> node, long tick) {
+        Node<K, V> head = wheel[(int) (tick & mask)];
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+    }
+
+    /**
+     * lets schedule each time to allow folks to change the time at runtime
+     */
+    protected void schedulePoll() {
+        future = executor.scheduleWithFixedDelay(this::purgeTask, 0, purgePollTime, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A hook to allow derivations to avoid evicting the current entry
+     */
+    protected boolean isValidForEviction(TimeoutMapEntry<K, V> entry) {
+        return true;
+    }
+
+    protected void updateExpireTime(TimeoutMapEntry<K, V> entry) {
+        long now = currentTime();
+        entry.setExpireTime(entry.getTimeout() + now);
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        schedulePoll();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        lock.lock();
+        try {
+            map.clear();
+            for (Node<K, V> head : wheel) {
+                head.next = head;
+                head.prev = head;
+            }
+            lastTick = NO_TICK;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * An entry which is linked into a bucket of the wheel, where the head of each bucket is a sentinel node.
+     */
+    private static final class Node<K, V> extends TimeoutMapEntry<K, V> {
+        private Node<K, V> prev = this;
+        private Node<K, V> next = this;
+
+        Node(K key, V value, long timeout) {
+            super(key, value, timeout);
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+
+}
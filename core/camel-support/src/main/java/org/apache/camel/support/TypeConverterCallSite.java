@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+
+/**
+ * A per call site cache of the {@link TypeConverter} to use for converting values to a given type.
+ * <p/>
+ * Callers which repeatedly converts values to the same type (such as a processor converting the message body)
+ * can hold on to an instance of this, to skip looking up the type converter in the type converter registry on every
+ * conversion. The type converter is pre-resolved using {@link TypeConverter#forPair(Class, Class)} for the type of
+ * the last converted value. If the values keep changing type then the call site stops caching, and uses the type
+ * converter from the {@link org.apache.camel.CamelContext} as-is.
+ */
+public final class TypeConverterCallSite<T> {
+
+    // number of times the value type can change before we stop caching
+    private static final int MAX_CHANGES = 8;
+
+    private final Class<T> type;
+    private volatile Site site;
+    private volatile int changes;
+
+    public TypeConverterCallSite(Class<T> type) {
+        this.type = type;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Converts the value to the type of this call site
+     *
+     * @see TypeConverter#convertTo(Class, Exchange, Object)
+     */
+    public T convertTo(Exchange exchange, Object value) throws TypeConversionException {
+        return typeConverter(exchange, value).convertTo(type, exchange, value);
+    }
+
+    /**
+     * Converts the value to the type of this call site
+     *
+     * @see TypeConverter#mandatoryConvertTo(Class, Exchange, Object)
+     */
+    public T mandatoryConvertTo(Exchange exchange, Object value) throws TypeConversionException, NoTypeConversionAvailableException {
+        return typeConverter(exchange, value).mandatoryConvertTo(type, exchange, value);
+    }
+
+    /**
+     * Tries to convert the value to the type of this call site
+     *
+     * @see TypeConverter#tryConvertTo(Class, Exchange, Object)
+     */
+    public T tryConvertTo(Exchange exchange, Object value) {
+        return typeConverter(exchange, value).tryConvertTo(type, exchange, value);
+    }
+
+    private TypeConverter typeConverter(Exchange exchange, Object value) {
+        TypeConverter converter = exchange.getContext().getTypeConverter();
+        if (value == null || type.isInstance(value) || changes > MAX_CHANGES) {
+            // no conversion needed or the call site is not worth caching
+            return converter;
+        }
+
+        Class<?> fromType = value.getClass();
+        Site current = site;
+        if (current != null && current.fromType == fromType && current.converter == converter) {
+            return current.pair;
+        }
+
+        if (current != null) {
+            changes++;
+        }
+        current = new Site(converter, fromType, converter.forPair(fromType, type));
+        site = current;
+        return current.pair;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeConverterCallSite[" + type.getName() + "]";
+    }
+
+    private static final class Site {
+        private final TypeConverter converter;
+        private final Class<?> fromType;
+        private final TypeConverter pair;
+
+        Site(TypeConverter converter, Class<?> fromType, TypeConverter pair) {
+            this.converter = converter;
+            this.fromType = fromType;
+            this.pair = pair;
+        }
+    }
+
+}
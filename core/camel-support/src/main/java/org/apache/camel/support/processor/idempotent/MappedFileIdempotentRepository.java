@@ -0,0 +1,520 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys
+ * in an append-only log file that is written using memory mapped regions.
+ * <p/>
+ * All keys are kept in an in-memory index, which allows {@link #contains(String)} to be lock-free, and adding or removing
+ * a key only appends a small record to the log file. When the log file contains many obsolete records (from removed keys)
+ * then the log file is compacted in the background, which does not block adding or removing keys.
+ * <p/>
+ * Each record has a checksum, and on startup the log file is recovered by loading all the valid records, where any
+ * incomplete record at the end of the file (such as after a crash) is discarded.
+ */
+@ManagedResource(description = "Memory mapped file based idempotent repository")
+public class MappedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte CLEAR = 3;
+    // op + length + checksum
+    private static final int RECORD_OVERHEAD = 9;
+
+    private final Object lock = new Object();
+    private final Set<String> index = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final CRC32 crc = new CRC32();
+
+    private CamelContext camelContext;
+    private File fileStore;
+    private int mappedRegionSize = 4 * 1024 * 1024;
+    private long compactionThreshold = 1000;
+    private boolean sync;
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+
+    private FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionPosition;
+    private long position;
+    private long records;
+    private long generation;
+    private long compactions;
+
+    public MappedFileIdempotentRepository() {
+    }
+
+    public MappedFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new memory mapped file based repository.
+     *
+     * @param fileStore  the file store
+     */
+    public static IdempotentRepository mappedFileIdempotentRepository(File fileStore) {
+        return new MappedFileIdempotentRepository(fileStore);
+    }
+
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        if (index.contains(key)) {
+            return false;
+        }
+        synchronized (lock) {
+            if (!index.add(key)) {
+                return false;
+            }
+            append(ADD, key);
+            compactIfNeeded();
+        }
+        return true;
+    }
+
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        return index.contains(key);
+    }
+
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        if (!index.contains(key)) {
+            return false;
+        }
+        synchronized (lock) {
+            if (!index.remove(key)) {
+                return false;
+            }
+            append(REMOVE, key);
+            compactIfNeeded();
+        }
+        return true;
+    }
+
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        synchronized (lock) {
+            index.clear();
+            append(CLEAR, "");
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * Compacts the log file so it only contains the current keys.
+     */
+    @ManagedOperation(description = "Compacts the file store")
+    public void compact() {
+        if (compacting.compareAndSet(false, true)) {
+            try {
+                doCompact();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            } finally {
+                compacting.set(false);
+            }
+        }
+    }
+
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "The current number of keys")
+    public int getCacheSize() {
+        return index.size();
+    }
+
+    @ManagedAttribute(description = "The number of records in the file store")
+    public long getRecords() {
+        synchronized (lock) {
+            return records;
+        }
+    }
+
+    @ManagedAttribute(description = "The number of obsolete records in the file store")
+    public long getObsoleteRecords() {
+        synchronized (lock) {
+            return records - index.size();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of times the file store has been compacted")
+    public long getCompactions() {
+        synchronized (lock) {
+            return compactions;
+        }
+    }
+
+    @ManagedAttribute(description = "The size in bytes of each memory mapped region of the file store")
+    public int getMappedRegionSize() {
+        return mappedRegionSize;
+    }
+
+    /**
+     * Sets the size in bytes of each region of the file store which is memory mapped when appending records.
+     * <p/>
+     * The default is 4mb.
+     */
+    public void setMappedRegionSize(int mappedRegionSize) {
+        this.mappedRegionSize = mappedRegionSize;
+    }
+
+    @ManagedAttribute(description = "Minimum number of obsolete records before the file store is compacted")
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the minimum number of obsolete records (from removed keys) before the file store is compacted in the background.
+     * The file store is compacted when the number of obsolete records both exceeds this threshold and the number of keys.
+     * Use 0 or a negative value to turn off automatic compaction.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "Whether each record is forced to disk when appended")
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Sets whether each record is forced to the storage device when appended. Without this the records
+     * survive if the JVM crashes, but not if the operating system crashes.
+     * <p/>
+     * The default is false.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets a custom thread pool to use for compacting the file store in the background.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        if (executorService == null) {
+            if (camelContext != null) {
+                executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "MappedFileIdempotentRepository");
+            } else {
+                executorService = Executors.newSingleThreadExecutor(new CamelThreadFactory(null, "MappedFileIdempotentRepository", true));
+            }
+            shutdownExecutorService = true;
+        }
+
+        synchronized (lock) {
+            File parent = fileStore.getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            // a compaction may have been interrupted by a crash, where the original file store is still intact
+            FileUtil.deleteFile(compactionFile());
+
+            loadStore();
+            channel = FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // discard any incomplete record
+            channel.truncate(position);
+            generation++;
+            mapRegion(0);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (shutdownExecutorService && executorService != null) {
+            if (camelContext != null) {
+                camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            } else {
+                executorService.shutdown();
+            }
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+
+        synchronized (lock) {
+            if (region != null) {
+                region.force();
+                region = null;
+            }
+            IOHelper.close(channel, "Closing file idempotent repository", log);
+            channel = null;
+            index.clear();
+        }
+    }
+
+    /**
+     * Loads the valid records from the file store into the index.
+     */
+    private void loadStore() throws IOException {
+        index.clear();
+        position = 0;
+        records = 0;
+        if (!fileStore.exists()) {
+            return;
+        }
+
+        long length = fileStore.length();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileStore)))) {
+            while (true) {
+                byte op = in.readByte();
+                if (op != ADD && op != REMOVE && op != CLEAR) {
+                    // end of the written records
+                    break;
+                }
+                int len = in.readInt();
+                if (len < 0 || position + RECORD_OVERHEAD + len > length) {
+                    break;
+                }
+                byte[] data = new byte[len];
+                in.readFully(data);
+                int checksum = in.readInt();
+                crc.reset();
+                crc.update(op);
+                crc.update(data, 0, len);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Invalid record at position {} in idempotent filestore: {}. Discarding the remaining records.", position, fileStore);
+                    break;
+                }
+
+                String key = new String(data, StandardCharsets.UTF_8);
+                if (op == ADD) {
+                    index.add(key);
+                } else if (op == REMOVE) {
+                    index.remove(key);
+                } else {
+                    index.clear();
+                }
+                position += RECORD_OVERHEAD + len;
+                records++;
+            }
+        } catch (EOFException e) {
+            // an incomplete record at the end of the file
+        }
+
+        log.debug("Loaded {} keys from {} records from idempotent filestore: {}", index.size(), records, fileStore);
+    }
+
+    /**
+     * Appends the record to the file store, must be called while holding the lock.
+     */
+    private void append(byte op, String key) {
+        if (channel == null) {
+            throw new IllegalStateException("MappedFileIdempotentRepository is not started");
+        }
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        int size = RECORD_OVERHEAD + data.length;
+        try {
+            if (region.remaining() < size) {
+                mapRegion(size);
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+
+        crc.reset();
+        crc.update(op);
+        crc.update(data, 0, data.length);
+        region.put(op);
+        region.putInt(data.length);
+        region.put(data);
+        region.putInt((int) crc.getValue());
+        if (sync) {
+            region.force();
+        }
+        position += size;
+        records++;
+    }
+
+    /**
+     * Maps a new region of the file store starting from the current position.
+     */
+    private void mapRegion(int minimumSize) throws IOException {
+        if (region != null) {
+            region.force();
+        }
+        regionPosition = position;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, regionPosition, Math.max(mappedRegionSize, minimumSize));
+    }
+
+    /**
+     * Schedules a compaction if there are too many obsolete records, must be called while holding the lock.
+     */
+    private void compactIfNeeded() {
+        if (compactionThreshold <= 0 || compacting.get()) {
+            return;
+        }
+        long obsolete = records - index.size();
+        if (obsolete >= compactionThreshold && obsolete > index.size() && compacting.compareAndSet(false, true)) {
+            executorService.submit(() -> {
+                try {
+                    doCompact();
+                } catch (Throwable e) {
+                    log.warn("Error compacting idempotent filestore: " + fileStore + ". This exception is ignored.", e);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Writes the current keys to a new file, while keys are still being added or removed to the current file.
+     * The records appended to the current file in the meantime are then copied to the new file,
+     * which afterwards replaces the current file.
+     */
+    private void doCompact() throws IOException {
+        long start;
+        long startRecords;
+        long startGeneration;
+        synchronized (lock) {
+            if (channel == null) {
+                return;
+            }
+            start = position;
+            startRecords = records;
+            startGeneration = generation;
+        }
+
+        File file = compactionFile();
+        long count = 0;
+        try (FileChannel out = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(out)));
+            CRC32 checksum = new CRC32();
+            // the index is weakly consistent while being updated, but the records appended after the
+            // start position are copied afterwards which brings the keys up to date
+            for (String key : index) {
+                byte[] data = key.getBytes(StandardCharsets.UTF_8);
+                checksum.reset();
+                checksum.update(ADD);
+                checksum.update(data, 0, data.length);
+                dos.writeByte(ADD);
+                dos.writeInt(data.length);
+                dos.write(data);
+                dos.writeInt((int) checksum.getValue());
+                count++;
+            }
+            dos.flush();
+
+            synchronized (lock) {
+                if (channel == null || generation != startGeneration) {
+                    // stopped or restarted in the meantime
+                    return;
+                }
+                region.force();
+                long tail = position - start;
+                long copied = 0;
+                while (copied < tail) {
+                    copied += channel.transferTo(start + copied, tail - copied, out);
+                }
+                out.force(true);
+
+                // replace the file store, which keeps the current file intact if not possible
+                Files.move(file.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                IOHelper.close(channel, "Closing file idempotent repository", log);
+                region = null;
+
+                channel = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                position = out.size();
+                records = count + records - startRecords;
+                generation++;
+                mapRegion(0);
+                compactions++;
+                log.debug("Compacted idempotent filestore: {} with {} keys", fileStore, index.size());
+            }
+        } finally {
+            FileUtil.deleteFile(file);
+        }
+    }
+
+    private File compactionFile() {
+        return new File(fileStore.getPath() + ".compact");
+    }
+
+}
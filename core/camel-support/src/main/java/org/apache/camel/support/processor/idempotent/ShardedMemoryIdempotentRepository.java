@@ -0,0 +1,532 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} which is intended
+ * for keeping track of a very large number of keys.
+ * <p/>
+ * Instead of the keys, the repository stores a 64-bit fingerprint (hash) of each key in primitive
+ * open-addressing hash tables, which are split into a number of segments that are each guarded by their own lock.
+ * This uses a fraction of the memory of a {@link java.util.Map} based repository such as {@link MemoryIdempotentRepository},
+ * but as only the fingerprints are stored there is a very small chance that two different keys have the same
+ * fingerprint, and a new key is therefore regarded as a duplicate.
+ * <p/>
+ * The repository holds at most {@link #getMaximumSize()} keys; when full the oldest keys are evicted first.
+ * Keys can optionally expire after a given time to live. An optional bloom filter can be enabled,
+ * which allows {@link #contains(String)} to quickly return <tt>false</tt> for unknown keys without locking.
+ */
+@ManagedResource(description = "Sharded memory based idempotent repository")
+public class ShardedMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int BLOOM_BITS_PER_KEY = 10;
+    private static final int BLOOM_HASHES = 7;
+
+    private int maximumSize = 1000;
+    private int segments = 16;
+    private long timeToLive;
+    private boolean bloomFilter;
+    private Segment[] shards;
+    private int segmentMask;
+
+    public ShardedMemoryIdempotentRepository() {
+        initSegments();
+    }
+
+    public ShardedMemoryIdempotentRepository(int maximumSize) {
+        this.maximumSize = maximumSize;
+        initSegments();
+    }
+
+    /**
+     * Creates a new sharded memory based repository with a default of 1000 entries.
+     */
+    public static IdempotentRepository shardedMemoryIdempotentRepository() {
+        return new ShardedMemoryIdempotentRepository();
+    }
+
+    /**
+     * Creates a new sharded memory based repository.
+     *
+     * @param maximumSize  the maximum number of keys to keep
+     */
+    public static IdempotentRepository shardedMemoryIdempotentRepository(int maximumSize) {
+        return new ShardedMemoryIdempotentRepository(maximumSize);
+    }
+
+    /**
+     * Creates a new sharded memory based repository where the keys expire after the given time to live.
+     *
+     * @param maximumSize  the maximum number of keys to keep
+     * @param timeToLive   time to live in millis for each key
+     */
+    public static IdempotentRepository shardedMemoryIdempotentRepository(int maximumSize, long timeToLive) {
+        ShardedMemoryIdempotentRepository answer = new ShardedMemoryIdempotentRepository(maximumSize);
+        answer.setTimeToLive(timeToLive);
+        return answer;
+    }
+
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        long fingerprint = fingerprint(key);
+        Segment segment = segmentFor(fingerprint);
+        synchronized (segment) {
+            return segment.add(fingerprint, timeToLive > 0 ? System.currentTimeMillis() : 0);
+        }
+    }
+
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        long fingerprint = fingerprint(key);
+        Segment segment = segmentFor(fingerprint);
+        if (bloomFilter && !segment.mightContain(fingerprint)) {
+            return false;
+        }
+        synchronized (segment) {
+            if (timeToLive > 0) {
+                segment.expire(System.currentTimeMillis());
+            }
+            return segment.indexOf(fingerprint) >= 0;
+        }
+    }
+
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        long fingerprint = fingerprint(key);
+        Segment segment = segmentFor(fingerprint);
+        synchronized (segment) {
+            return segment.remove(fingerprint);
+        }
+    }
+
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        for (Segment segment : shards) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @ManagedOperation(description = "Removes the expired keys from the store")
+    public void purgeExpired() {
+        if (timeToLive <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Segment segment : shards) {
+            synchronized (segment) {
+                segment.expire(now);
+            }
+        }
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        int size = 0;
+        for (Segment segment : shards) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    @ManagedAttribute(description = "The maximum number of keys")
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of keys to keep, when full then the oldest keys are evicted.
+     * <p/>
+     * The default value is 1000.
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+        initSegments();
+    }
+
+    @ManagedAttribute(description = "The number of segments")
+    public int getSegments() {
+        return segments;
+    }
+
+    /**
+     * Sets the number of segments the keys are split into, where each segment is guarded by its own lock.
+     * The value is rounded up to a power of two.
+     * <p/>
+     * The default value is 16.
+     */
+    public void setSegments(int segments) {
+        this.segments = segments;
+        initSegments();
+    }
+
+    @ManagedAttribute(description = "Time to live in millis for each key")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time to live in millis for each key, where the key is removed from the store
+     * when the time has elapsed since the key was added. Use 0 or a negative value to keep the keys
+     * until they are evicted due to the maximum size.
+     * <p/>
+     * The default value is 0.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+        initSegments();
+    }
+
+    @ManagedAttribute(description = "Whether a bloom filter is used for fast contains check")
+    public boolean isBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Sets whether to use a bloom filter for a fast contains check of keys which are not in the store.
+     * The bloom filter uses about 10 bits per key.
+     * <p/>
+     * The default value is false.
+     */
+    public void setBloomFilter(boolean bloomFilter) {
+        this.bloomFilter = bloomFilter;
+        initSegments();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("MaximumSize must be a positive number, was " + maximumSize);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        clear();
+    }
+
+    private void initSegments() {
+        int count = 1;
+        while (count < segments) {
+            count <<= 1;
+        }
+        int maxEntries = Math.max(1, (maximumSize + count - 1) / count);
+        Segment[] answer = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            answer[i] = new Segment(maxEntries, timeToLive, bloomFilter);
+        }
+        this.segmentMask = count - 1;
+        this.shards = answer;
+    }
+
+    private Segment segmentFor(long fingerprint) {
+        // the low bits are used for the hash table, so use the high bits for the segment
+        return shards[(int) (fingerprint >>> 32) & segmentMask];
+    }
+
+    /**
+     * Computes the 64-bit fingerprint of the key, which is never 0 as that denotes a free slot.
+     */
+    static long fingerprint(String key) {
+        // FNV-1a
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // murmur3 finalizer to spread the bits
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+
+    /**
+     * A segment with a linear probing hash table of fingerprints, and a ring buffer with the fingerprints in
+     * insertion order, which is used to evict the oldest keys and to expire keys.
+     * Removed keys are left as 0 in the ring buffer until they are at its head.
+     */
+    private static final class Segment {
+        private final int maxEntries;
+        private final int maxRingCapacity;
+        private final boolean timed;
+        private final long timeToLive;
+        private final boolean bloom;
+        private long[] table;
+        private int[] positions;
+        private int size;
+        private long[] ring;
+        private long[] times;
+        private int head;
+        private int count;
+        private volatile AtomicLongArray bloomBits;
+        private int bloomInserts;
+
+        Segment(int maxEntries, long timeToLive, boolean bloom) {
+            this.maxEntries = maxEntries;
+            this.maxRingCapacity = powerOfTwo(maxEntries);
+            this.timeToLive = timeToLive;
+            this.timed = timeToLive > 0;
+            this.bloom = bloom;
+            clear();
+        }
+
+        void clear() {
+            table = new long[INITIAL_CAPACITY];
+            positions = new int[INITIAL_CAPACITY];
+            size = 0;
+            int capacity = Math.min(INITIAL_CAPACITY, maxRingCapacity);
+            ring = new long[capacity];
+            times = timed ? new long[capacity] : null;
+            head = 0;
+            count = 0;
+            if (bloom) {
+                int bits = (int) Math.min(1 << 30, (long) maxEntries * BLOOM_BITS_PER_KEY);
+                bloomBits = new AtomicLongArray(Math.max(1, powerOfTwo(bits) >>> 6));
+                bloomInserts = 0;
+            }
+        }
+
+        boolean add(long fingerprint, long now) {
+            if (timed) {
+                expire(now);
+            }
+            if (indexOf(fingerprint) >= 0) {
+                return false;
+            }
+            while (size >= maxEntries) {
+                evictOldest();
+            }
+            if (count == ring.length) {
+                // the ring is full of live and removed entries, so grow or compact it
+                resizeRing(ring.length < maxRingCapacity ? ring.length << 1 : ring.length);
+            }
+            if ((size + 1) * 4 > table.length * 3) {
+                resizeTable(table.length << 1);
+            }
+
+            int pos = (head + count) & (ring.length - 1);
+            ring[pos] = fingerprint;
+            if (timed) {
+                times[pos] = now;
+            }
+            count++;
+
+            int mask = table.length - 1;
+            int i = (int) fingerprint & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = fingerprint;
+            positions[i] = pos;
+            size++;
+
+            if (bloom) {
+                if (++bloomInserts > maxEntries) {
+                    // the keys have been replaced, so rebuild the bloom filter to clear the stale bits
+                    rebuildBloom();
+                } else {
+                    setBloomBits(bloomBits, fingerprint);
+                }
+            }
+            return true;
+        }
+
+        boolean remove(long fingerprint) {
+            int index = indexOf(fingerprint);
+            if (index < 0) {
+                return false;
+            }
+            ring[positions[index]] = 0;
+            deleteAt(index);
+            return true;
+        }
+
+        void expire(long now) {
+            long oldest = now - timeToLive;
+            while (count > 0) {
+                long fingerprint = ring[head];
+                if (fingerprint != 0 && times[head] > oldest) {
+                    break;
+                }
+                pollHead();
+            }
+        }
+
+        int indexOf(long fingerprint) {
+            int mask = table.length - 1;
+            int i = (int) fingerprint & mask;
+            long candidate;
+            while ((candidate = table[i]) != 0) {
+                if (candidate == fingerprint) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        boolean mightContain(long fingerprint) {
+            AtomicLongArray bits = bloomBits;
+            int mask = (bits.length() << 6) - 1;
+            long h = fingerprint * 0x9e3779b97f4a7c15L;
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32) | 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & mask;
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void evictOldest() {
+            // skip removed entries
+            while (ring[head] == 0) {
+                pollHead();
+            }
+            pollHead();
+        }
+
+        private void pollHead() {
+            long fingerprint = ring[head];
+            if (fingerprint != 0) {
+                deleteAt(indexOf(fingerprint));
+                ring[head] = 0;
+            }
+            head = (head + 1) & (ring.length - 1);
+            count--;
+        }
+
+        private void deleteAt(int index) {
+            // backward shift deletion so no tombstones are needed in the hash table
+            int mask = table.length - 1;
+            int free = index;
+            int i = (index + 1) & mask;
+            long fingerprint;
+            while ((fingerprint = table[i]) != 0) {
+                int ideal = (int) fingerprint & mask;
+                // move the entry if its ideal slot is not between the free slot and its current slot
+                if (((i - ideal) & mask) >= ((i - free) & mask)) {
+                    table[free] = fingerprint;
+                    positions[free] = positions[i];
+                    free = i;
+                }
+                i = (i + 1) & mask;
+            }
+            table[free] = 0;
+            size--;
+        }
+
+        private void resizeTable(int capacity) {
+            long[] oldTable = table;
+            int[] oldPositions = positions;
+            table = new long[capacity];
+            positions = new int[capacity];
+            int mask = capacity - 1;
+            for (int j = 0; j < oldTable.length; j++) {
+                long fingerprint = oldTable[j];
+                if (fingerprint != 0) {
+                    int i = (int) fingerprint & mask;
+                    while (table[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    table[i] = fingerprint;
+                    positions[i] = oldPositions[j];
+                }
+            }
+        }
+
+        private void resizeRing(int capacity) {
+            long[] oldRing = ring;
+            long[] oldTimes = times;
+            int oldMask = oldRing.length - 1;
+            ring = new long[capacity];
+            times = timed ? new long[capacity] : null;
+            int n = 0;
+            for (int j = 0; j < count; j++) {
+                int pos = (head + j) & oldMask;
+                long fingerprint = oldRing[pos];
+                if (fingerprint != 0) {
+                    ring[n] = fingerprint;
+                    if (timed) {
+                        times[n] = oldTimes[pos];
+                    }
+                    positions[indexOf(fingerprint)] = n;
+                    n++;
+                }
+            }
+            head = 0;
+            count = n;
+        }
+
+        private void rebuildBloom() {
+            AtomicLongArray bits = new AtomicLongArray(bloomBits.length());
+            for (long fingerprint : table) {
+                if (fingerprint != 0) {
+                    setBloomBits(bits, fingerprint);
+                }
+            }
+            bloomBits = bits;
+            bloomInserts = 0;
+        }
+
+        private static void setBloomBits(AtomicLongArray bits, long fingerprint) {
+            int mask = (bits.length() << 6) - 1;
+            long h = fingerprint * 0x9e3779b97f4a7c15L;
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32) | 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & mask;
+                int index = bit >>> 6;
+                long mask1 = 1L << bit;
+                long value = bits.get(index);
+                while ((value & mask1) == 0 && !bits.compareAndSet(index, value, value | mask1)) {
+                    value = bits.get(index);
+                }
+            }
+        }
+
+        private static int powerOfTwo(int value) {
+            int answer = 1;
+            while (answer < value && answer < (1 << 30)) {
+                answer <<= 1;
+            }
+            return answer;
+        }
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, and which can be copied cheaply.
+ * <p/>
+ * A {@link #copy()} of the map shares the entries with the original map, and the entries are first copied when
+ * either map is changed (copy on write). This makes copying the map cheap when the copy is only read, or only
+ * changed a little, such as headers when the message is copied for each branch of a multicast.
+ * <p/>
+ * The entries are stored in arrays in insertion order, with a hash index of the case folded keys, and therefore
+ * uses O(1) for lookup and copying the entries is only copying the arrays. The case folded keys of well known keys
+ * can be provided, to avoid computing the case insensitive hash of those keys on each lookup.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed
+ * by the Camel routing engine. However a map and its copies can be used by different threads.
+ */
+public class CopyOnWriteCaseInsensitiveMap extends AbstractMap<String, Object> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, String> knownKeys;
+    private Store store;
+    private EntrySet entrySet;
+
+    public CopyOnWriteCaseInsensitiveMap() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new map.
+     *
+     * @param knownKeys the case folded keys of well known keys, which must be folded using {@link #foldCase(String)}
+     */
+    public CopyOnWriteCaseInsensitiveMap(Map<String, String> knownKeys) {
+        this.knownKeys = knownKeys;
+        this.store = new Store(INITIAL_CAPACITY);
+    }
+
+    public CopyOnWriteCaseInsensitiveMap(Map<String, String> knownKeys, Map<? extends String, ?> map) {
+        this(knownKeys);
+        putAll(map);
+    }
+
+    private CopyOnWriteCaseInsensitiveMap(Map<String, String> knownKeys, Store store) {
+        this.knownKeys = knownKeys;
+        this.store = store;
+    }
+
+    /**
+     * Case folds the key, so keys which only differs in case are folded to the same key.
+     */
+    public static String foldCase(String key) {
+        int len = key.length();
+        for (int i = 0; i < len; i++) {
+            char c = key.charAt(i);
+            if (fold(c) != c) {
+                char[] chars = key.toCharArray();
+                for (int j = i; j < len; j++) {
+                    chars[j] = fold(chars[j]);
+                }
+                return new String(chars);
+            }
+        }
+        // already case folded
+        return key;
+    }
+
+    private static char fold(char c) {
+        // same as used by String.CASE_INSENSITIVE_ORDER and String.equalsIgnoreCase
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Creates a copy of this map, which shares the entries with this map until either map is changed.
+     */
+    public CopyOnWriteCaseInsensitiveMap copy() {
+        store.shared.incrementAndGet();
+        return new CopyOnWriteCaseInsensitiveMap(knownKeys, store);
+    }
+
+    @Override
+    public int size() {
+        return store.count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return store.count == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof String) {
+            String k = (String) key;
+            return store.find(k, hash(k)) >= 0;
+        }
+        return false;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            String k = (String) key;
+            Store current = store;
+            int slot = current.find(k, hash(k));
+            return slot >= 0 ? current.values[slot] : null;
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        int slot = store.find(key, hash);
+        Store current = writableStore();
+        if (slot >= 0) {
+            // keep the original key
+            Object old = current.values[slot];
+            current.values[slot] = value;
+            return old;
+        }
+        current.add(key, hash, value);
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String) {
+            String k = (String) key;
+            int slot = store.find(k, hash(k));
+            if (slot >= 0) {
+                Store current = writableStore();
+                Object old = current.values[slot];
+                current.remove(slot);
+                return old;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof CopyOnWriteCaseInsensitiveMap && map != this && isEmpty()) {
+            // share the entries of the other map
+            Store current = store;
+            Store other = ((CopyOnWriteCaseInsensitiveMap) map).store;
+            other.shared.incrementAndGet();
+            store = other;
+            current.release();
+        } else {
+            super.putAll(map);
+        }
+    }
+
+    @Override
+    public void clear() {
+        Store current = store;
+        if (current.shared.get() > 0) {
+            store = new Store(INITIAL_CAPACITY);
+            current.release();
+        } else {
+            current.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int hash(String key) {
+        String folded = knownKeys.get(key);
+        if (folded != null) {
+            // the hash code of a string is cached
+            return folded.hashCode();
+        }
+        // same as the hash code of the case folded key
+        int h = 0;
+        int len = key.length();
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + fold(key.charAt(i));
+        }
+        return h;
+    }
+
+    private Store writableStore() {
+        Store current = store;
+        if (current.shared.get() > 0) {
+            // the entries are shared so copy them before writing, and only release the shared
+            // entries afterwards, as the other map may then write to the entries
+            Store copy = new Store(current);
+            current.release();
+            store = copy;
+            return copy;
+        }
+        return current;
+    }
+
+    /**
+     * The entries which can be shared between a map and its copies.
+     * <p/>
+     * The entries are stored in insertion order, where removed entries are left as holes until the arrays are
+     * compacted. The index is an open addressing hash table of the slot numbers (plus one) of the entries.
+     */
+    private static final class Store {
+        private String[] keys;
+        private Object[] values;
+        private int[] hashes;
+        private int[] index;
+        // number of used slots (including removed entries)
+        private int size;
+        // number of entries
+        private int count;
+        // the number of other maps which shares the entries
+        private final AtomicInteger shared = new AtomicInteger();
+
+        Store(int capacity) {
+            init(capacity);
+        }
+
+        Store(Store store) {
+            keys = store.keys.clone();
+            values = store.values.clone();
+            hashes = store.hashes.clone();
+            index = store.index.clone();
+            size = store.size;
+            count = store.count;
+        }
+
+        private void init(int capacity) {
+            keys = new String[capacity];
+            values = new Object[capacity];
+            hashes = new int[capacity];
+            index = new int[capacity * 2];
+            size = 0;
+            count = 0;
+        }
+
+        int find(String key, int hash) {
+            int mask = index.length - 1;
+            int i = spread(hash) & mask;
+            int s;
+            while ((s = index[i]) != 0) {
+                int slot = s - 1;
+                if (hashes[slot] == hash) {
+                    String k = keys[slot];
+                    if (k != null && (k == key || k.equalsIgnoreCase(key))) {
+                        return slot;
+                    }
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        void add(String key, int hash, Object value) {
+            if (size == keys.length) {
+                // compact and grow if needed
+                resize(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, count)) * 4));
+            }
+            int slot = size++;
+            keys[slot] = key;
+            values[slot] = value;
+            hashes[slot] = hash;
+            count++;
+            insert(slot);
+        }
+
+        void remove(int slot) {
+            // leave a hole which keeps the hash so the index can still be probed past it
+            keys[slot] = null;
+            values[slot] = null;
+            count--;
+        }
+
+        void clear() {
+            if (size > 0) {
+                Arrays.fill(keys, 0, size, null);
+                Arrays.fill(values, 0, size, null);
+                Arrays.fill(index, 0);
+                size = 0;
+                count = 0;
+            }
+        }
+
+        void release() {
+            int n = shared.get();
+            while (n > 0 && !shared.compareAndSet(n, n - 1)) {
+                n = shared.get();
+            }
+        }
+
+        private void insert(int slot) {
+            int mask = index.length - 1;
+            int i = spread(hashes[slot]) & mask;
+            while (index[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            index[i] = slot + 1;
+        }
+
+        // the capacity must be a power of two
+        private void resize(int capacity) {
+            String[] oldKeys = keys;
+            Object[] oldValues = values;
+            int[] oldHashes = hashes;
+            int oldSize = size;
+            init(capacity);
+            for (int i = 0; i < oldSize; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = size++;
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                    hashes[slot] = oldHashes[i];
+                    count++;
+                    insert(slot);
+                }
+            }
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CopyOnWriteCaseInsensitiveMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteCaseInsensitiveMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        // removing entries leave holes, and copying the entries leaves the iterated entries as-is,
+        // so the iterated entries are not affected by changing the map while iterating
+        private final String[] keys = store.keys;
+        private final Object[] values = store.values;
+        private final int size = store.size;
+        private int next = advance(0);
+        private String last;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            int slot = next;
+            next = advance(slot + 1);
+            last = keys[slot];
+            return new MapEntry(last, values[slot]);
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            CopyOnWriteCaseInsensitiveMap.this.remove(last);
+            last = null;
+        }
+
+        private int advance(int slot) {
+            while (slot < size && keys[slot] == null) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+
+    private final class MapEntry extends SimpleEntry<String, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        MapEntry(String key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
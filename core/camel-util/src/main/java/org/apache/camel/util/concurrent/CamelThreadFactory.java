@@ -16,6 +16,7 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 
 import org.slf4j.Logger;
@@ -23,24 +24,47 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * The factory can optionally create virtual threads when running on a JVM which supports them
+ * (see {@link #isVirtualThreadsSupported()}). Virtual threads are always daemon threads.
  */
 public final class CamelThreadFactory implements ThreadFactory {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
 
     private final String pattern;
     private final String name;
     private final boolean daemon;
+    private final boolean virtual;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
+        this.virtual = virtual && VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Whether the JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
     }
 
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
-        Thread answer = new Thread(runnable, threadName);
-        answer.setDaemon(daemon);
+        Thread answer;
+        if (virtual) {
+            answer = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            answer.setName(threadName);
+        } else {
+            answer = new Thread(runnable, threadName);
+            answer.setDaemon(daemon);
+        }
 
         LOG.trace("Created thread[{}] -> {}", threadName, answer);
         return answer;
@@ -50,7 +74,24 @@ public final class CamelThreadFactory implements ThreadFactory {
         return name;
     }
 
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     public String toString() {
         return "CamelThreadFactory[" + name + "]";
     }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        // use reflection as we compile against a JDK without virtual threads
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (Throwable e) {
+            // not supported on this JVM (or preview feature not enabled)
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lock free buffer which accepts values tagged with a sequence number in any order, and drains them
+ * to a consumer strictly in sequence order starting from 0.
+ * <p/>
+ * Only a single thread drains the buffer at any time, and a thread which calls {@link #drain(Consumer)}
+ * while another thread is draining does not block, as the draining thread takes over its work.
+ * The consumer is therefore never called concurrently, and a value is handed over as soon as all the
+ * values before it have been drained.
+ * <p/>
+ * When a capacity is given the buffer uses a ring of slots, which requires that the sequence number of an
+ * offered value is less than the sequence number of the next value to drain plus the capacity.
+ * Otherwise the buffer is unbounded.
+ */
+public class ReorderBuffer<V> {
+
+    private final AtomicReferenceArray<V> slots;
+    private final int mask;
+    private final Map<Integer, V> pending;
+    private final AtomicInteger wip = new AtomicInteger();
+    private int next;
+
+    public ReorderBuffer() {
+        this(0);
+    }
+
+    public ReorderBuffer(int capacity) {
+        if (capacity > 0) {
+            int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+            this.slots = new AtomicReferenceArray<>(size);
+            this.mask = size - 1;
+            this.pending = null;
+        } else {
+            this.slots = null;
+            this.mask = 0;
+            this.pending = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Adds the value with the given sequence number.
+     *
+     * @param sequence the sequence number of the value
+     * @param value    the value, must not be <tt>null</tt>
+     */
+    public void offer(int sequence, V value) {
+        if (slots != null) {
+            slots.set(sequence & mask, value);
+        } else {
+            pending.put(sequence, value);
+        }
+    }
+
+    /**
+     * Drains the values that are next in sequence to the consumer.
+     * <p/>
+     * If another thread is draining then this method returns immediately, and the other thread
+     * drains the values that became available on behalf of this thread. If the consumer throws an exception
+     * then the buffer is left in draining state, and no further values are drained.
+     *
+     * @param consumer the consumer of the values in sequence order
+     */
+    public void drain(Consumer<V> consumer) {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            V value;
+            while ((value = poll()) != null) {
+                consumer.accept(value);
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The sequence number of the next value to drain.
+     */
+    public int getNext() {
+        return next;
+    }
+
+    private V poll() {
+        V value;
+        if (slots != null) {
+            int index = next & mask;
+            value = slots.get(index);
+            if (value != null) {
+                slots.lazySet(index, null);
+            }
+        } else {
+            value = pending.remove(next);
+        }
+        if (value != null) {
+            next++;
+        }
+        return value;
+    }
+}
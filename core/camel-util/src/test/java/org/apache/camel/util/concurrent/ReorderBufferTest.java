@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReorderBufferTest extends Assert {
+
+    @Test
+    public void testDrainInOrder() {
+        ReorderBuffer<String> buffer = new ReorderBuffer<>();
+        List<String> drained = new ArrayList<>();
+
+        buffer.offer(2, "C");
+        buffer.drain(drained::add);
+        assertTrue(drained.isEmpty());
+
+        buffer.offer(0, "A");
+        buffer.drain(drained::add);
+        assertEquals(Collections.singletonList("A"), drained);
+
+        buffer.offer(1, "B");
+        buffer.drain(drained::add);
+        assertEquals(3, drained.size());
+        assertEquals("B", drained.get(1));
+        assertEquals("C", drained.get(2));
+        assertEquals(3, buffer.getNext());
+    }
+
+    @Test
+    public void testDrainInOrderWithCapacity() {
+        ReorderBuffer<Integer> buffer = new ReorderBuffer<>(3);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int i = 0; i < 100; i += 3) {
+            buffer.offer(i + 2, i + 2);
+            buffer.offer(i + 1, i + 1);
+            buffer.drain(drained::add);
+            assertEquals(i, drained.size());
+            buffer.offer(i, i);
+            buffer.drain(drained::add);
+            assertEquals(i + 3, drained.size());
+        }
+        for (int i = 0; i < drained.size(); i++) {
+            assertEquals(i, drained.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testConcurrentDrain() throws Exception {
+        final int size = 10000;
+        ReorderBuffer<Integer> buffer = new ReorderBuffer<>();
+        List<Integer> drained = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(size);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < size; i++) {
+                final int sequence = i;
+                executor.execute(() -> {
+                    buffer.offer(sequence, sequence);
+                    // the consumer is never called concurrently so an unsynchronized list is fine
+                    buffer.drain(drained::add);
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(20, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(size, buffer.getNext());
+        assertEquals(size, drained.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, drained.get(i).intValue());
+        }
+    }
+}
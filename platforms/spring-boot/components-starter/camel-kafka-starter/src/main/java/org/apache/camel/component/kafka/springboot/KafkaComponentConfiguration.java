@@ -230,6 +230,22 @@ public class KafkaComponentConfiguration
          * The number of consumers that connect to kafka server
          */
         private Integer consumersCount = 1;
+        /**
+         * The maximum number of partitions whose records are processed at the
+         * same time. By default the records from a poll are processed one
+         * partition after the other by the thread of the consumer. When set to a
+         * value higher than 1, the records of each partition are processed by a
+         * pool of this many worker threads (shared by the consumers when using
+         * consumersCount), so the records of the same partition are still
+         * processed in order, but different partitions are processed in
+         * parallel. The consumer waits for the records of the poll to be
+         * processed before polling again, and commits the offsets per partition.
+         * This allows a single consumer to use more CPU for CPU-heavy routes
+         * without opening more connections to the kafka server as with the
+         * consumersCount option. This option cannot be used together with the
+         * allowManualCommit option.
+         */
+        private Integer maxConcurrentPartitions = 1;
         /**
          * The client id is a user-specified string sent in each request to help
          * trace calls. It should logically identify the application making the
@@ -868,6 +884,14 @@ public class KafkaComponentConfiguration
             this.consumersCount = consumersCount;
         }
 
+        public Integer getMaxConcurrentPartitions() {
+            return maxConcurrentPartitions;
+        }
+
+        public void setMaxConcurrentPartitions(Integer maxConcurrentPartitions) {
+            this.maxConcurrentPartitions = maxConcurrentPartitions;
+        }
+
         public String getClientId() {
             return clientId;
         }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Runs the benchmarks of a test class with the GC profiler (to output the allocation rates), and compares the results
+ * with a baseline from a previous run, so performance regressions of the routing engine can be caught before a release.
+ * <p/>
+ * The results are saved as properties to <tt>target/jmh/ClassName.properties</tt>, which can be kept as the baseline,
+ * such as from the last release. To compare with a baseline then set the system property <tt>camel.jmh.baseline</tt>
+ * to the directory with the results of the previous run, and a report is written to <tt>target/jmh/ClassName-report.txt</tt>.
+ * If the system property <tt>camel.jmh.failOnRegression</tt> is <tt>true</tt> then the test fails if the throughput
+ * is lower, or the allocations per operation are higher, than the baseline by more than the percentage from the
+ * system property <tt>camel.jmh.threshold</tt> (default 10).
+ */
+public final class BenchmarkBaseline {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BenchmarkBaseline() {
+    }
+
+    public static Collection<RunResult> launch(Class<?> type) throws Exception {
+        return launch(type, 1);
+    }
+
+    public static Collection<RunResult> launch(Class<?> type, int threads) throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(type.getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(threads)
+            .forks(1)
+            .addProfiler(GCProfiler.class)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        Collection<RunResult> results = new Runner(opt).run();
+        compare(type.getSimpleName(), results);
+        return results;
+    }
+
+    static void compare(String name, Collection<RunResult> results) throws Exception {
+        Properties current = toProperties(results);
+
+        File dir = new File("target/jmh");
+        dir.mkdirs();
+        try (OutputStream os = new FileOutputStream(new File(dir, name + ".properties"))) {
+            current.store(os, "JMH results of " + name);
+        }
+
+        String baselineDir = System.getProperty("camel.jmh.baseline");
+        if (baselineDir == null) {
+            return;
+        }
+        File file = new File(baselineDir, name + ".properties");
+        if (!file.exists()) {
+            return;
+        }
+        Properties baseline = new Properties();
+        try (InputStream is = new FileInputStream(file)) {
+            baseline.load(is);
+        }
+
+        double threshold = Double.parseDouble(System.getProperty("camel.jmh.threshold", "10")) / 100;
+        List<String> regressions = new ArrayList<>();
+        try (PrintWriter report = new PrintWriter(new File(dir, name + "-report.txt"), StandardCharsets.UTF_8.name())) {
+            report.printf("%-100s %15s %15s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+            for (Map.Entry<String, String> entry : toMap(current).entrySet()) {
+                String key = entry.getKey();
+                String old = baseline.getProperty(key);
+                if (old == null) {
+                    report.printf("%-100s %15s %15s %8s%n", key, "-", entry.getValue(), "new");
+                    continue;
+                }
+                double before = Double.parseDouble(old);
+                double after = Double.parseDouble(entry.getValue());
+                double change = before != 0 ? (after - before) / before : 0;
+                report.printf("%-100s %15.3f %15.3f %+7.1f%%%n", key, before, after, change * 100);
+
+                // lower throughput is a regression, but for the allocations its higher values
+                boolean regression = key.endsWith(ALLOCATION) ? change > threshold : change < -threshold;
+                if (regression) {
+                    regressions.add(key);
+                }
+            }
+        }
+
+        if (!regressions.isEmpty() && "true".equals(System.getProperty("camel.jmh.failOnRegression"))) {
+            fail("Performance regression compared to baseline in: " + regressions);
+        }
+    }
+
+    private static Properties toProperties(Collection<RunResult> results) {
+        Properties answer = new Properties();
+        for (RunResult result : results) {
+            String key = toKey(result.getParams());
+            answer.setProperty(key, Double.toString(result.getPrimaryResult().getScore()));
+            for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+                if (entry.getKey().endsWith(ALLOCATION)) {
+                    answer.setProperty(key + "." + ALLOCATION, Double.toString(entry.getValue().getScore()));
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static String toKey(BenchmarkParams params) {
+        StringBuilder sb = new StringBuilder(params.getBenchmark());
+        for (String key : params.getParamsKeys()) {
+            sb.append(':').append(key).append('=').append(params.getParam(key));
+        }
+        return sb.toString();
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        Map<String, String> answer = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            answer.put(key, properties.getProperty(key));
+        }
+        return answer;
+    }
+
+}
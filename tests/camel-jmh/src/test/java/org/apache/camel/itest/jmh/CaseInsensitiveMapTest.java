@@ -16,6 +16,7 @@
  */
 package org.apache.camel.itest.jmh;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.util.CopyOnWriteCaseInsensitiveMap;
 import org.junit.Test;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
@@ -39,7 +41,7 @@ import org.openjdk.jmh.runner.options.TimeValue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 
 /**
- * Tests {@link CaseInsensitiveMap}
+ * Tests {@link CaseInsensitiveMap} and {@link CopyOnWriteCaseInsensitiveMap}
  */
 public class CaseInsensitiveMapTest {
 
@@ -71,12 +73,14 @@ public class CaseInsensitiveMapTest {
     @State(Scope.Thread)
     public static class MapsBenchmarkState {
         CaseInsensitiveMap camelMap;
+        CopyOnWriteCaseInsensitiveMap copyOnWriteMap;
         com.cedarsoftware.util.CaseInsensitiveMap cedarsoftMap;
         HashMap hashMap;
 
         @Setup(Level.Trial)
         public void initialize() {
             camelMap = new CaseInsensitiveMap();
+            copyOnWriteMap = new CopyOnWriteCaseInsensitiveMap();
             cedarsoftMap = new com.cedarsoftware.util.CaseInsensitiveMap();
             hashMap = new HashMap();
         }
@@ -87,6 +91,8 @@ public class CaseInsensitiveMapTest {
     public static class MapsSourceDataBenchmarkState {
         Map<String, Object> map1 = generateRandomMap(10);
         Map<String, Object> map2 = generateRandomMap(10);
+        Map<String, Object> camelHeaders = new CaseInsensitiveMap(generateRandomMap(40));
+        CopyOnWriteCaseInsensitiveMap copyOnWriteHeaders = new CopyOnWriteCaseInsensitiveMap(Collections.emptyMap(), generateRandomMap(40));
 
         private Map<String, Object> generateRandomMap(int size) {
             return IntStream.range(0, size)
@@ -112,6 +118,23 @@ public class CaseInsensitiveMapTest {
         bh.consume(o4);
     }
 
+    @Benchmark
+    public void copyOnWriteMapSimpleCase(MapsBenchmarkState state, Blackhole bh) {
+        Map map = state.copyOnWriteMap;
+
+        map.put("foo", "Hello World");
+        Object o1 = map.get("foo");
+        bh.consume(o1);
+        Object o2 = map.get("FOO");
+        bh.consume(o2);
+
+        map.put("BAR", "Bye World");
+        Object o3 = map.get("bar");
+        bh.consume(o3);
+        Object o4 = map.get("BAR");
+        bh.consume(o4);
+    }
+
     @Benchmark
     public void cedarsoftMapSimpleCase(MapsBenchmarkState state, Blackhole bh) {
         Map map = state.cedarsoftMap;
@@ -166,6 +189,25 @@ public class CaseInsensitiveMapTest {
         blackhole.consume(map);
     }
 
+    @Benchmark
+    public void copyOnWriteMapComplexCase(MapsBenchmarkState mapsBenchmarkState, MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        // step 1 - initialize map with existing elements
+        Map map = mapsBenchmarkState.copyOnWriteMap;
+
+        // step 2 - add elements one by one
+        sourceDataState.map2.entrySet().forEach(entry -> blackhole.consume(map.put(entry.getKey(), entry.getValue())));
+
+        // step 3 - remove elements one by one
+        sourceDataState.map1.keySet().forEach(key -> blackhole.consume(map.get(key)));
+
+        // step 4 - remove elements one by one
+        sourceDataState.map1.keySet().forEach(key -> blackhole.consume(map.remove(key)));
+
+        // step 5 - add couple of element at once
+        map.putAll(sourceDataState.map1);
+
+        blackhole.consume(map);
+    }
 
     @Benchmark
     public void cedarsoftMapComplexCase(MapsBenchmarkState mapsBenchmarkState, MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
@@ -207,4 +249,36 @@ public class CaseInsensitiveMapTest {
         blackhole.consume(map);
     }
 
+    @Benchmark
+    public void camelMapCopyCase(MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        // copy the headers such as for each branch in a multicast, and change a header in each copy
+        Map<String, Object> map = sourceDataState.camelHeaders;
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> copy = new CaseInsensitiveMap(map);
+            copy.put("CamelMulticastIndex", i);
+            blackhole.consume(copy.get("breadcrumbId"));
+        }
+    }
+
+    @Benchmark
+    public void copyOnWriteMapCopyCase(MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        // copy the headers such as for each branch in a multicast, and change a header in each copy
+        CopyOnWriteCaseInsensitiveMap map = sourceDataState.copyOnWriteHeaders;
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> copy = map.copy();
+            copy.put("CamelMulticastIndex", i);
+            blackhole.consume(copy.get("breadcrumbId"));
+        }
+    }
+
+    @Benchmark
+    public void copyOnWriteMapCopyReadOnlyCase(MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        // copy the headers such as for each branch in a multicast, and only read the headers in each copy
+        CopyOnWriteCaseInsensitiveMap map = sourceDataState.copyOnWriteHeaders;
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> copy = map.copy();
+            blackhole.consume(copy.get("breadcrumbId"));
+        }
+    }
+
 }
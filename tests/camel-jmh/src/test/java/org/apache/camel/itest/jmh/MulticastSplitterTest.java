@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Tests the multicast and splitter EIPs in sequential, parallel and streaming mode.
+ */
+public class MulticastSplitterTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkBaseline.launch(getClass());
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"multicast", "multicastParallel", "split", "splitParallel", "splitStreaming"})
+        String mode;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+        List<String> body = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            try {
+                for (int i = 0; i < 10; i++) {
+                    body.add("Hello " + i);
+                }
+                camel.addRoutes(new RouteBuilder() {
+                    @Override
+                    public void configure() throws Exception {
+                        switch (mode) {
+                        case "multicast":
+                            from("direct:start").multicast().to("mock:a?retainFirst=0", "mock:b?retainFirst=0", "mock:c?retainFirst=0");
+                            break;
+                        case "multicastParallel":
+                            from("direct:start").multicast().parallelProcessing()
+                                .to("mock:a?retainFirst=0", "mock:b?retainFirst=0", "mock:c?retainFirst=0");
+                            break;
+                        case "split":
+                            from("direct:start").split(body()).to("mock:split?retainFirst=0");
+                            break;
+                        case "splitParallel":
+                            from("direct:start").split(body()).parallelProcessing().to("mock:split?retainFirst=0");
+                            break;
+                        default:
+                            from("direct:start").split(body()).streaming().to("mock:split?retainFirst=0");
+                            break;
+                        }
+                    }
+                });
+                camel.start();
+                producer = camel.createProducerTemplate();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                producer.stop();
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void multicastSplit(BenchmarkState state) {
+        state.producer.sendBody("direct:start", state.body);
+    }
+
+}
@@ -20,6 +20,8 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.spi.Language;
 import org.apache.camel.support.DefaultExchange;
@@ -28,6 +30,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -39,7 +42,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests a Simple expression
+ * Tests a Simple expression and predicate, using both the interpreted and compiled mode
  */
 public class SimpleExpressionTest {
 
@@ -69,19 +72,29 @@ public class SimpleExpressionTest {
     // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
     @State(Scope.Thread)
     public static class BenchmarkState {
+        @Param({"false", "true"})
+        boolean compiled;
+
         CamelContext camel;
         String expression = "Hello ${body}";
+        String predicate = "${header.x} > 10 && ${body} contains 'foo'";
         Exchange exchange;
         Language simple;
+        Expression simpleExpression;
+        Predicate simplePredicate;
 
         @Setup(Level.Trial)
         public void initialize() {
             camel = new DefaultCamelContext();
+            camel.getGlobalOptions().put(Exchange.SIMPLE_COMPILED, Boolean.toString(compiled));
             try {
                 camel.start();
                 exchange = new DefaultExchange(camel);
                 exchange.getIn().setBody("World");
                 simple = camel.resolveLanguage("simple");
+                // create the expression and predicate once as done when creating routes
+                simpleExpression = simple.createExpression(expression);
+                simplePredicate = simple.createPredicate(predicate);
 
             } catch (Exception e) {
                 // ignore
@@ -109,4 +122,30 @@ public class SimpleExpressionTest {
         bh.consume(out);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simpleExpressionEvaluate(BenchmarkState state, Blackhole bh) {
+        String out = state.simpleExpression.evaluate(state.exchange, String.class);
+        if (!out.equals("Hello World")) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicate(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.exchange;
+        exchange.getIn().setHeader("x", 15);
+        exchange.getIn().setBody("foo bar");
+        boolean matches = state.simplePredicate.matches(exchange);
+        if (!matches) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(matches);
+        exchange.getIn().setHeader("x", "9");
+        bh.consume(state.simplePredicate.matches(exchange));
+        exchange.getIn().setBody("World");
+    }
+
 }
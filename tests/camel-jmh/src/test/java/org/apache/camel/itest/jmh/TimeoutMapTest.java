@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.support.TimingWheelTimeoutMap;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests {@link DefaultTimeoutMap} vs {@link TimingWheelTimeoutMap} with a large number of pending entries,
+ * measuring the cost of put/remove and of a purge run where nothing has expired yet.
+ */
+public class TimeoutMapTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"default", "wheel"})
+        String type;
+        @Param({"100000"})
+        int entries;
+
+        ScheduledExecutorService executor;
+        TimeoutMap<String, Object> map;
+        Runnable purge;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            executor = new ScheduledThreadPoolExecutor(1);
+            // the maps are not started so the purge is only run by the benchmark itself
+            if ("wheel".equals(type)) {
+                BenchmarkTimingWheelTimeoutMap wheel = new BenchmarkTimingWheelTimeoutMap(executor);
+                purge = wheel::purge;
+                map = wheel;
+            } else {
+                BenchmarkDefaultTimeoutMap def = new BenchmarkDefaultTimeoutMap(executor);
+                purge = def::purge;
+                map = def;
+            }
+            for (int i = 0; i < entries; i++) {
+                // spread the timeouts so the entries do not expire during the benchmark
+                map.put("key-" + i, "value-" + i, TimeUnit.HOURS.toMillis(1) + i);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void putAndRemove(BenchmarkState state, Blackhole bh) {
+        String key = "new-" + ThreadLocalRandom.current().nextInt(state.entries);
+        state.map.put(key, key, TimeUnit.MINUTES.toMillis(30));
+        bh.consume(state.map.remove(key));
+    }
+
+    @Benchmark
+    public void purge(BenchmarkState state, Blackhole bh) {
+        state.purge.run();
+        bh.consume(state.map.size());
+    }
+
+    private static final class BenchmarkDefaultTimeoutMap extends DefaultTimeoutMap<String, Object> {
+
+        BenchmarkDefaultTimeoutMap(ScheduledExecutorService executor) {
+            super(executor, 1000);
+        }
+
+        @Override
+        protected void purge() {
+            super.purge();
+        }
+    }
+
+    private static final class BenchmarkTimingWheelTimeoutMap extends TimingWheelTimeoutMap<String, Object> {
+
+        BenchmarkTimingWheelTimeoutMap(ScheduledExecutorService executor) {
+            super(executor, 1000);
+        }
+
+        @Override
+        protected void purge() {
+            super.purge();
+        }
+    }
+}